@@ -0,0 +1,71 @@
+package org.example.auth;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 수행되는 JWT 발급/검증 처리량 (ops/s).
+ * legacy* 는 키/파서를 호출마다 새로 만들던 이전 구현과 같은 방식이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = "very-very-secret-key-that-is-at-least-32-bytes";
+    private static final long VALIDITY = 3_600_000L;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, VALIDITY, VALIDITY, new SimpleMeterRegistry());
+        token = jwtTokenProvider.createAccessToken(1L);
+    }
+
+    @Benchmark
+    public Long getUserId() {
+        return jwtTokenProvider.getUserId(token);
+    }
+
+    @Benchmark
+    public Long legacyGetUserId() {
+        return Long.parseLong(
+                Jwts.parserBuilder()
+                        .setSigningKey(SECRET.getBytes(StandardCharsets.UTF_8))
+                        .build()
+                        .parseClaimsJws(token)
+                        .getBody()
+                        .getSubject());
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken(1L);
+    }
+
+    @Benchmark
+    public String legacyCreateAccessToken() {
+        Date now = new Date();
+        return Jwts.builder()
+                .setSubject("1")
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + VALIDITY))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
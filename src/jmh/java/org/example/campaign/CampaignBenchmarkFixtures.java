@@ -0,0 +1,88 @@
+package org.example.campaign;
+
+import org.example.category.Category;
+import org.example.platform.Platform;
+import org.example.user.User;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 인메모리 캠페인 데이터. 시드를 고정해 실행마다 같은 분포를 만든다.
+ */
+public final class CampaignBenchmarkFixtures {
+
+    private static final String[] DAYS = { "MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY", "SATURDAY", "SUNDAY" };
+
+    private static final User USER = User.builder().id(1L).build();
+    private static final Platform PLATFORM = Platform.builder().platformId(1L).code("review_note").name("리뷰노트")
+            .build();
+    private static final List<Category> CATEGORIES = List.of(
+            Category.builder().id(1L).name("맛집").build(),
+            Category.builder().id(2L).name("뷰티").build(),
+            Category.builder().id(3L).name("숙박").build());
+
+    private CampaignBenchmarkFixtures() {
+    }
+
+    public static Campaign campaign(long id, int dayCount) {
+        return Campaign.builder()
+                .id(id)
+                .user(USER)
+                .platform(PLATFORM)
+                .category(CATEGORIES.get((int) (id % CATEGORIES.size())))
+                .storeName("store-" + id)
+                .storePhone("010-0000-0000")
+                .address("서울시 성동구 " + id)
+                .supportAmount(30000L)
+                .extraCost(5000L)
+                .receiptReview(id % 2 == 0)
+                .experienceStartDate(LocalDate.of(2024, 1, 1))
+                .experienceEndDate(LocalDate.of(2024, 1, 31))
+                .deadline(LocalDate.of(2024, 1, 20))
+                .visitDate(LocalDate.of(2024, 1, 15))
+                .availableDays(dayCount == 0 ? null : String.join(",", List.of(DAYS).subList(0, dayCount)))
+                .availableTime("11:00 - 21:00")
+                .status(Status.DONE)
+                .completedAt(LocalDateTime.of(2024, 1, 21, 12, 0))
+                .build();
+    }
+
+    /**
+     * 1년(12개월)에 걸쳐 상태/카테고리/금액이 섞인 캠페인 목록
+     */
+    public static List<Campaign> campaigns(int count) {
+        SplittableRandom random = new SplittableRandom(42);
+        Status[] statuses = Status.values();
+        List<Campaign> campaigns = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate deadline = LocalDate.of(2024, 1, 1).plusDays(random.nextInt(365));
+            campaigns.add(Campaign.builder()
+                    .id((long) i + 1)
+                    .user(USER)
+                    .platform(PLATFORM)
+                    .category(CATEGORIES.get(random.nextInt(CATEGORIES.size())))
+                    .storeName("store-" + i)
+                    .supportAmount((long) random.nextInt(100_000))
+                    .extraCost(random.nextBoolean() ? (long) random.nextInt(10_000) : null)
+                    .receiptReview(random.nextBoolean())
+                    .deadline(deadline)
+                    .visitDate(random.nextBoolean() ? deadline.minusDays(3) : null)
+                    .availableDays("MONDAY,FRIDAY")
+                    .status(statuses[random.nextInt(statuses.length)])
+                    .build());
+        }
+        return campaigns;
+    }
+
+    public static List<CampaignResponseDto> dtos(int count) {
+        List<CampaignResponseDto> dtos = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            dtos.add(CampaignResponseDto.fromEntity(campaign(i + 1, 3)));
+        }
+        return dtos;
+    }
+}
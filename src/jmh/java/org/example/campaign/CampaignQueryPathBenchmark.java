@@ -0,0 +1,132 @@
+package org.example.campaign;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.category.Category;
+import org.example.platform.Platform;
+import org.example.user.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 조회 두 경로의 비용 (H2 인메모리, PostgreSQL 모드).
+ * - entityPath: 엔티티 조회(platform/category fetch join) + CampaignResponseDto.fromEntity 변환
+ * - projectionPath: JPQL 생성자 프로젝션으로 DTO 를 바로 읽음 (현재 목록 조회 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CampaignQueryPathBenchmark {
+
+    @Param({ "100", "500" })
+    private int campaignCount;
+
+    private ConfigurableApplicationContext context;
+    private CampaignRepository campaignRepository;
+    private Long userId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(JpaOnly.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=warn");
+        campaignRepository = context.getBean(CampaignRepository.class);
+        userId = persistCampaigns(context.getBean(EntityManagerFactory.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<CampaignResponseDto> entityPath() {
+        return campaignRepository.findByUserId(userId).stream()
+                .map(CampaignResponseDto::fromEntity)
+                .toList();
+    }
+
+    @Benchmark
+    public List<CampaignResponseDto> projectionPath() {
+        return campaignRepository.findDtosByUserId(userId, Sort.unsorted());
+    }
+
+    private Long persistCampaigns(EntityManagerFactory entityManagerFactory) {
+        EntityManager em = entityManagerFactory.createEntityManager();
+        try {
+            em.getTransaction().begin();
+            User user = User.builder().email("bench@test.com").password("pw").build();
+            em.persist(user);
+            Platform platform = Platform.builder().code("review_note").name("리뷰노트")
+                    .rewardEnabled(false).active(true).build();
+            em.persist(platform);
+            Category category = Category.builder().name("맛집").build();
+            em.persist(category);
+
+            for (int i = 0; i < campaignCount; i++) {
+                em.persist(Campaign.builder()
+                        .user(user)
+                        .platform(platform)
+                        .category(i % 2 == 0 ? category : null)
+                        .storeName("store" + i)
+                        .storePhone("010-0000-" + i)
+                        .address("address" + i)
+                        .supportAmount(10000L + i)
+                        .receiptReview(i % 3 == 0)
+                        .availableDays(i % 4 == 0 ? null : "MONDAY,FRIDAY")
+                        .availableTime("10:00 - 20:00")
+                        .experienceStartDate(LocalDate.of(2024, 1, 1))
+                        .experienceEndDate(LocalDate.of(2024, 1, 31))
+                        .deadline(LocalDate.of(2024, 1, 1).plusDays(i % 60))
+                        .status(i % 5 == 0 ? Status.DONE : Status.PENDING)
+                        .completedAt(i % 5 == 0 ? LocalDateTime.of(2024, 2, 1, 12, 0) : null)
+                        .build());
+            }
+            em.getTransaction().commit();
+            return user.getId();
+        } finally {
+            em.close();
+        }
+    }
+
+    /**
+     * 캠페인 조회에 필요한 JPA 만 띄운다. (컴포넌트 스캔, 웹, Redis, Kafka 없음)
+     */
+    @SpringBootConfiguration
+    @EnableAutoConfiguration(exclude = { RedisAutoConfiguration.class, RedisRepositoriesAutoConfiguration.class,
+            KafkaAutoConfiguration.class })
+    @EntityScan("org.example")
+    @EnableJpaRepositories(basePackageClasses = CampaignRepository.class)
+    static class JpaOnly {
+    }
+}
@@ -0,0 +1,36 @@
+package org.example.campaign;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CampaignResponseDto.fromEntity 변환 비용 (availableDays split 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CampaignResponseDtoBenchmark {
+
+    @Param({ "0", "2", "7" })
+    private int availableDayCount;
+
+    private Campaign campaign;
+
+    @Setup
+    public void setUp() {
+        campaign = CampaignBenchmarkFixtures.campaign(1L, availableDayCount);
+    }
+
+    @Benchmark
+    public CampaignResponseDto fromEntity() {
+        return CampaignResponseDto.fromEntity(campaign);
+    }
+}
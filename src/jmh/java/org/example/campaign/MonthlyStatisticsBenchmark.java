@@ -0,0 +1,129 @@
+package org.example.campaign;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 월별 통계 계산 비용.
+ * - legacyCalculateMetrics: 롤업 도입 전 구현(캠페인 목록을 월별로 묶고 항목마다 스트림을 여러 번 순회)
+ * - rollupFromCampaigns: 스냅샷 → 롤업 증분(한 번 순회) → 월별 누적
+ * - accumulateFromRollup: 저장된 롤업 행만 읽어 누적 (현재 조회 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MonthlyStatisticsBenchmark {
+
+    @Param({ "10", "1000", "100000" })
+    private int campaignCount;
+
+    private List<Campaign> campaigns;
+    private List<CampaignStatsSnapshot> snapshots;
+    private List<CampaignMonthlyStat> rollup;
+
+    @Setup
+    public void setUp() {
+        campaigns = CampaignBenchmarkFixtures.campaigns(campaignCount);
+        snapshots = campaigns.stream().map(CampaignStatsSnapshot::of).toList();
+        rollup = toRollup(snapshots);
+    }
+
+    @Benchmark
+    public List<CampaignMonthlyStatisticsResponse.MonthlyMetrics> legacyCalculateMetrics() {
+        Map<String, List<Campaign>> grouped = campaigns.stream()
+                .collect(Collectors.groupingBy(c -> YearMonth.from(c.getDeadline()).toString()));
+        List<CampaignMonthlyStatisticsResponse.MonthlyMetrics> result = new ArrayList<>();
+        grouped.forEach((month, monthCampaigns) -> result.add(legacyMetrics(month, monthCampaigns)));
+        return result;
+    }
+
+    @Benchmark
+    public List<CampaignMonthlyStatisticsResponse.MonthlyMetrics> rollupFromCampaigns() {
+        return accumulate(toRollup(snapshots));
+    }
+
+    @Benchmark
+    public List<CampaignMonthlyStatisticsResponse.MonthlyMetrics> accumulateFromRollup() {
+        return accumulate(rollup);
+    }
+
+    private static List<CampaignMonthlyStat> toRollup(List<CampaignStatsSnapshot> snapshots) {
+        Map<CampaignMonthlyStatKey, CampaignMonthlyStatCounts> deltas = new TreeMap<>(
+                CampaignMonthlyStatKey.LOCK_ORDER);
+        snapshots.forEach(snapshot -> snapshot.contributeTo(deltas, 1));
+        List<CampaignMonthlyStat> stats = new ArrayList<>(deltas.size());
+        deltas.forEach((key, counts) -> {
+            if (key.base() == CampaignStatisticsBase.DEADLINE) {
+                stats.add(CampaignMonthlyStat.of(key, counts));
+            }
+        });
+        return stats;
+    }
+
+    private static List<CampaignMonthlyStatisticsResponse.MonthlyMetrics> accumulate(List<CampaignMonthlyStat> stats) {
+        Map<String, MonthlyStatisticsAccumulator> grouped = new HashMap<>();
+        for (CampaignMonthlyStat stat : stats) {
+            String month = YearMonth.from(stat.getStatMonth()).toString();
+            grouped.computeIfAbsent(month, MonthlyStatisticsAccumulator::new).add(stat.getCounts());
+        }
+        List<CampaignMonthlyStatisticsResponse.MonthlyMetrics> result = new ArrayList<>(grouped.size());
+        grouped.values().forEach(accumulator -> result.add(accumulator.toMetrics()));
+        return result;
+    }
+
+    // 롤업 도입 전 CampaignService.calculateMetrics 와 동일한 계산
+    private static CampaignMonthlyStatisticsResponse.MonthlyMetrics legacyMetrics(String month,
+            List<Campaign> campaigns) {
+        long totalCount = campaigns.size();
+        Map<String, Long> statusCount = campaigns.stream()
+                .collect(Collectors.groupingBy(c -> c.getStatus().name(), Collectors.counting()));
+
+        long reserved = statusCount.getOrDefault(Status.RESERVED.name(), 0L)
+                + statusCount.getOrDefault(Status.VISITED.name(), 0L)
+                + statusCount.getOrDefault(Status.DONE.name(), 0L);
+        long visited = statusCount.getOrDefault(Status.VISITED.name(), 0L)
+                + statusCount.getOrDefault(Status.DONE.name(), 0L);
+        double visitRate = reserved == 0 ? 0 : (double) visited / reserved;
+
+        long done = statusCount.getOrDefault(Status.DONE.name(), 0L);
+        long reviewCount = campaigns.stream()
+                .filter(c -> Boolean.TRUE.equals(c.getReceiptReview()) && c.getStatus() == Status.DONE)
+                .count();
+        double reviewRate = done == 0 ? 0 : (double) reviewCount / done;
+
+        long totalSupport = campaigns.stream()
+                .mapToLong(c -> c.getSupportAmount() != null ? c.getSupportAmount() : 0)
+                .sum();
+        long totalExtra = campaigns.stream().mapToLong(c -> c.getExtraCost() != null ? c.getExtraCost() : 0).sum();
+        long totalExp = totalSupport + totalExtra;
+        double avgExp = totalCount == 0 ? 0 : (double) totalExp / totalCount;
+
+        return CampaignMonthlyStatisticsResponse.MonthlyMetrics.builder()
+                .month(month)
+                .totalCount(totalCount)
+                .statusCount(statusCount)
+                .visitRate(visitRate)
+                .reviewCount(reviewCount)
+                .reviewRate(reviewRate)
+                .totalSupportAmount(totalSupport)
+                .totalExtraCost(totalExtra)
+                .totalExpenditure(totalExp)
+                .averageExpenditure(avgExp)
+                .build();
+    }
+}
@@ -0,0 +1,95 @@
+package org.example.common.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.example.campaign.CampaignBenchmarkFixtures;
+import org.example.campaign.CampaignResponseDto;
+import org.example.campaign.CampaignResponseDtoCodec;
+import org.example.common.config.RedisConfig;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 'campaigns' 캐시 값(List&lt;CampaignResponseDto&gt;) 직렬화 → 역직렬화 왕복 비용 비교.
+ * 직렬화 결과 크기는 setUp 에서 한 번 출력한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RedisSerializerBenchmark {
+
+    @Param({ "1", "100", "1000" })
+    private int listSize;
+
+    private Object value;
+    private RedisSerializer<Object> genericJackson;
+    private RedisSerializer<List<CampaignResponseDto>> typedJackson;
+    private RedisSerializer<Object> jdk;
+    private RedisSerializer<Object> compact;
+    private RedisSerializer<Object> compactLz4;
+
+    @Setup
+    public void setUp() {
+        // 운영 설정과 같은 ObjectMapper (JavaTimeModule, ISO 날짜)
+        ObjectMapper redisObjectMapper = new RedisConfig().redisObjectMapper();
+        value = new ArrayList<>(CampaignBenchmarkFixtures.dtos(listSize));
+
+        genericJackson = new GenericJackson2JsonRedisSerializer(redisObjectMapper);
+        JavaType listType = redisObjectMapper.getTypeFactory()
+                .constructCollectionType(List.class, CampaignResponseDto.class);
+        typedJackson = new Jackson2JsonRedisSerializer<>(redisObjectMapper, listType);
+        jdk = new JdkSerializationRedisSerializer();
+        List<CampaignResponseDtoCodec> codecs = List.of(new CampaignResponseDtoCodec());
+        compact = new CompactRedisSerializer(codecs, genericJackson, Integer.MAX_VALUE, true);
+        compactLz4 = new CompactRedisSerializer(codecs, genericJackson, 0, true);
+
+        System.out.printf("%n[size] listSize=%d genericJackson=%dB typedJackson=%dB jdk=%dB compact=%dB"
+                + " compactLz4=%dB%n", listSize,
+                genericJackson.serialize(value).length, typedJackson.serialize(typedValue()).length,
+                jdk.serialize(value).length, compact.serialize(value).length, compactLz4.serialize(value).length);
+    }
+
+    @Benchmark
+    public Object genericJacksonRoundTrip() {
+        return genericJackson.deserialize(genericJackson.serialize(value));
+    }
+
+    @Benchmark
+    public Object typedJacksonRoundTrip() {
+        return typedJackson.deserialize(typedJackson.serialize(typedValue()));
+    }
+
+    @Benchmark
+    public Object jdkRoundTrip() {
+        return jdk.deserialize(jdk.serialize(value));
+    }
+
+    @Benchmark
+    public Object compactRoundTrip() {
+        return compact.deserialize(compact.serialize(value));
+    }
+
+    @Benchmark
+    public Object compactLz4RoundTrip() {
+        return compactLz4.deserialize(compactLz4.serialize(value));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<CampaignResponseDto> typedValue() {
+        return (List<CampaignResponseDto>) value;
+    }
+}
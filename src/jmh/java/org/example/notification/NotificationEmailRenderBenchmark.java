@@ -0,0 +1,79 @@
+package org.example.notification;
+
+import org.example.campaign.Campaign;
+import org.example.campaign.CampaignBenchmarkFixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 메일 1통 본문 생성 비용. -prof gc 로 실행하면 메일당 할당량도 비교할 수 있다.
+ * legacyText 는 String.format 으로 줄마다 포맷하던 이전 구현과 같은 방식이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NotificationEmailRenderBenchmark {
+
+    @Param({ "1", "5", "20" })
+    private int campaignCount;
+
+    private final NotificationEmailRenderer renderer = new NotificationEmailRenderer();
+    private List<Campaign> campaigns;
+    private LocalDate today;
+
+    @Setup
+    public void setUp() {
+        campaigns = CampaignBenchmarkFixtures.campaigns(campaignCount);
+        // 지연 / 오늘 마감 / D-n 라벨이 섞이도록 가운데 마감일 기준
+        today = campaigns.get(campaignCount / 2).getDeadline();
+    }
+
+    @Benchmark
+    public String renderText() {
+        return renderer.renderText("Tester", campaigns, today);
+    }
+
+    @Benchmark
+    public String renderHtml() {
+        return renderer.renderHtml("Tester", campaigns, today);
+    }
+
+    @Benchmark
+    public String legacyText() {
+        StringBuilder body = new StringBuilder();
+        body.append(String.format("안녕하세요, %s님!\n\n", "Tester"));
+        body.append("마감이 임박하거나 지연된 캠페인이 있습니다. 아래 내용을 확인해 주세요:\n\n");
+
+        for (Campaign c : campaigns) {
+            long daysLeft = ChronoUnit.DAYS.between(today, c.getDeadline());
+            String statusLabel;
+            if (daysLeft < 0) {
+                statusLabel = "[지연됨!!]";
+            } else if (daysLeft == 0) {
+                statusLabel = "[오늘 마감]";
+            } else {
+                statusLabel = String.format("[D-%d]", daysLeft);
+            }
+
+            body.append(String.format("%s %s (플랫폼: %s)\n",
+                    statusLabel, c.getStoreName(), c.getPlatform().getName()));
+            body.append(String.format("- 마감일: %s\n", c.getDeadline()));
+            body.append(String.format("- 현재 상태: %s\n\n", c.getStatus()));
+        }
+
+        body.append("프로젝트 관리를 위해 앱에서 확인 부탁드립니다.\n");
+        body.append("감사합니다.");
+        return body.toString();
+    }
+}
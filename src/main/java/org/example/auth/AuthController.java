@@ -22,6 +22,7 @@ public class AuthController {
         private final JwtTokenProvider jwtTokenProvider;
         private final RefreshTokenRepository refreshTokenRepository;
         private final PasswordEncoder passwordEncoder;
+        private final CachingJwtDecoder jwtDecoder;
 
         @PostMapping("/signup")
         public ResponseEntity<?> signup(@RequestBody SignupRequest request) {
@@ -64,6 +65,8 @@ public class AuthController {
                                         return userRepository.save(newUser);
                                 });
 
+                revokePreviousTokens(user.getId());
+
                 // Generate tokens
                 String accessToken = jwtTokenProvider.createAccessToken(user.getId());
                 String refreshToken = jwtTokenProvider.createRefreshToken(user.getId());
@@ -89,6 +92,8 @@ public class AuthController {
                         throw new BadCredentialsException("비밀번호가 틀립니다.");
                 }
 
+                revokePreviousTokens(saved.getId());
+
                 String accessToken = jwtTokenProvider.createAccessToken(saved.getId());
                 String refreshToken = jwtTokenProvider.createRefreshToken(saved.getId());
 
@@ -124,6 +129,15 @@ public class AuthController {
                                                 System.currentTimeMillis() + 3600000));
         }
 
+        /**
+         * RefreshToken 을 교체하기 전에 기존에 발급된 토큰을 폐기한다. (새 토큰보다 먼저 호출해야 한다)
+         */
+        private void revokePreviousTokens(Long userId) {
+                if (refreshTokenRepository.existsById(userId)) {
+                        jwtDecoder.revokeUser(userId);
+                }
+        }
+
         @GetMapping("/ping")
         public ResponseEntity<String> ping() {
                 return ResponseEntity.ok("pong");
@@ -0,0 +1,209 @@
+package org.example.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 검증이 끝난 Jwt 를 토큰 SHA-256 digest 로 캐시하는 JwtDecoder.
+ * 항목은 토큰의 exp 시각에 만료되고, 사용자 단위 폐기(revokeUser) 이전에 발급된 토큰은 거절한다.
+ * <p>
+ * redisTemplate 이 있으면 폐기 기록을 클러스터에 공유한다.
+ * <ul>
+ *   <li>Redis 키 jwt:revoked-before:{userId} 에 폐기 시각을 남기고, 캐시 miss 로 전체 검증할 때 함께 확인한다</li>
+ *   <li>{@link #REVOCATION_CHANNEL} 로 알려 다른 노드가 로컬 기록을 갱신하고 캐시 항목을 지우게 한다</li>
+ * </ul>
+ * Redis 장애 시에는 경고만 남기고 로컬 기록으로 판단한다.
+ */
+@Slf4j
+public class CachingJwtDecoder implements JwtDecoder, MessageListener {
+
+    static final String CACHE_NAME = "jwtDecoder";
+    public static final String REVOCATION_CHANNEL = "auth:jwt-revocation";
+    static final String REVOKED_BEFORE_KEY_PREFIX = "jwt:revoked-before:";
+
+    private final JwtDecoder delegate;
+    private final Clock clock;
+    private final Cache<String, Jwt> verified;
+    // userId -> 이 시각(초 단위) 이전에 발급된 토큰은 폐기
+    private final Cache<String, Instant> revokedBefore;
+    private final StringRedisTemplate redisTemplate;
+    private final Duration maxTokenLifetime;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Duration maxTokenLifetime,
+            MeterRegistry meterRegistry, StringRedisTemplate redisTemplate) {
+        this(delegate, maximumSize, maxTokenLifetime, meterRegistry, redisTemplate, Clock.systemUTC());
+    }
+
+    CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Duration maxTokenLifetime,
+            MeterRegistry meterRegistry, StringRedisTemplate redisTemplate, Clock clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.redisTemplate = redisTemplate;
+        this.maxTokenLifetime = maxTokenLifetime;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ExpiresAtExpiry(clock))
+                .recordStats()
+                .build();
+        // 폐기 시각보다 오래 산 토큰은 이미 만료되었으므로 기록도 그 이후엔 필요 없다
+        this.revokedBefore = Caffeine.newBuilder()
+                .expireAfterWrite(maxTokenLifetime)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, CACHE_NAME);
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = digest(token);
+        Jwt jwt = verified.getIfPresent(key);
+        if (jwt == null) {
+            jwt = delegate.decode(token);
+            loadSharedWatermark(jwt.getSubject());
+            if (jwt.getExpiresAt() != null) {
+                verified.put(key, jwt);
+            }
+        }
+
+        if (isRevoked(jwt)) {
+            verified.invalidate(key);
+            throw new BadJwtException("폐기된 토큰입니다.");
+        }
+        return jwt;
+    }
+
+    /**
+     * 지금까지 발급된 해당 사용자의 토큰을 모두 폐기한다. (RefreshToken 교체 시 호출)
+     * JWT iat 는 초 단위이므로 폐기 시각도 초 단위로 자른다. 같은 초에 새로 발급한 토큰은 유효하다.
+     */
+    public void revokeUser(Long userId) {
+        String subject = String.valueOf(userId);
+        Instant watermark = Instant.now(clock).truncatedTo(ChronoUnit.SECONDS);
+        applyRevocation(subject, watermark);
+        shareRevocation(subject, watermark);
+        log.info(">>> [AUTH] Revoked tokens issued before now for userId={}", userId);
+    }
+
+    /**
+     * 다른 노드의 폐기 알림 ("nodeId|userId|epochSeconds")
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\|");
+        if (parts.length != 3) {
+            log.warn(">>> [AUTH] Invalid revocation message: {}", body);
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            applyRevocation(parts[1], Instant.ofEpochSecond(Long.parseLong(parts[2])));
+        } catch (NumberFormatException e) {
+            log.warn(">>> [AUTH] Invalid revocation message: {}", body);
+            return;
+        }
+        log.debug(">>> [AUTH] Revocation received from node {}: userId={}", parts[0], parts[1]);
+    }
+
+    /** 더 늦은 폐기 시각만 반영하고, 캐시에 남은 해당 사용자의 토큰을 지운다 */
+    private void applyRevocation(String subject, Instant watermark) {
+        revokedBefore.asMap().merge(subject, watermark, (current, next) -> next.isAfter(current) ? next : current);
+        verified.asMap().values().removeIf(jwt -> subject.equals(jwt.getSubject()));
+    }
+
+    private void shareRevocation(String subject, Instant watermark) {
+        if (redisTemplate == null) {
+            return;
+        }
+        String epochSeconds = String.valueOf(watermark.getEpochSecond());
+        try {
+            redisTemplate.opsForValue().set(REVOKED_BEFORE_KEY_PREFIX + subject, epochSeconds, maxTokenLifetime);
+            redisTemplate.convertAndSend(REVOCATION_CHANNEL, nodeId + "|" + subject + "|" + epochSeconds);
+        } catch (Exception e) {
+            // 공유 실패 시 다른 노드의 캐시 항목은 exp 에 만료된다
+            log.warn(">>> [AUTH] Failed to share revocation for userId={}: {}", subject, e.getMessage());
+        }
+    }
+
+    /**
+     * 캐시 miss 때만 Redis 의 폐기 시각을 읽어 로컬 기록에 합친다.
+     * (알림을 놓쳤거나 폐기 이후에 뜬 노드도 공유된 기록으로 판단한다)
+     */
+    private void loadSharedWatermark(String subject) {
+        if (redisTemplate == null || subject == null) {
+            return;
+        }
+        String epochSeconds;
+        try {
+            epochSeconds = redisTemplate.opsForValue().get(REVOKED_BEFORE_KEY_PREFIX + subject);
+        } catch (Exception e) {
+            log.warn(">>> [AUTH] Failed to read shared revocation for userId={}: {}", subject, e.getMessage());
+            return;
+        }
+        if (epochSeconds != null) {
+            revokedBefore.asMap().merge(subject, Instant.ofEpochSecond(Long.parseLong(epochSeconds)),
+                    (current, next) -> next.isAfter(current) ? next : current);
+        }
+    }
+
+    private boolean isRevoked(Jwt jwt) {
+        if (jwt.getSubject() == null) {
+            return false;
+        }
+        Instant watermark = revokedBefore.getIfPresent(jwt.getSubject());
+        return watermark != null && (jwt.getIssuedAt() == null || jwt.getIssuedAt().isBefore(watermark));
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] hash = sha256.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /** 항목 만료 = 토큰 exp */
+    private record ExpiresAtExpiry(Clock clock) implements Expiry<String, Jwt> {
+
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            long nanos = Duration.between(Instant.now(clock), jwt.getExpiresAt()).toNanos();
+            return Math.max(nanos, 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
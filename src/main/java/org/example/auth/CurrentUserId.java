@@ -0,0 +1,17 @@
+package org.example.auth;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 리소스 서버 필터가 검증한 Jwt principal 의 subject 를 userId(Long)로 주입한다.
+ * 토큰을 다시 파싱하지 않는다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CurrentUserId {
+}
@@ -1,25 +1,51 @@
 package org.example.auth;
 
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
 
+/**
+ * 서명 키와 파서는 생성 시 한 번만 만든다. (둘 다 불변이라 스레드 간 공유 가능)
+ */
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String secretKey;
+    private final SecretKey signingKey;
+    private final JwtParser jwtParser;
+    private final long accessValidity;
+    private final long refreshValidity;
 
-    @Value("${jwt.access-validity}")
-    private long accessValidity;
+    private final Timer signTimer;
+    private final Timer verifyTimer;
 
-    @Value("${jwt.refresh-validity}")
-    private long refreshValidity;
+    public JwtTokenProvider(@Value("${jwt.secret}") String secretKey,
+            @Value("${jwt.access-validity}") long accessValidity,
+            @Value("${jwt.refresh-validity}") long refreshValidity,
+            MeterRegistry meterRegistry) {
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        this.accessValidity = accessValidity;
+        this.refreshValidity = refreshValidity;
+
+        this.signTimer = Timer.builder("jwt.token")
+                .tag("operation", "sign")
+                .register(meterRegistry);
+        this.verifyTimer = Timer.builder("jwt.token")
+                .tag("operation", "verify")
+                .register(meterRegistry);
+    }
 
     public String createAccessToken(Long userId) {
         return createToken(userId, accessValidity);
@@ -30,29 +56,23 @@ public class JwtTokenProvider {
     }
 
     private String createToken(Long userId, long validity) {
-        Date now = new Date();
-        Date exp = new Date(now.getTime() + validity);
-
-        System.out.println("🔑 Creating token - JWT_SECRET length: " + secretKey.length() +
-                ", first 10 chars: " + secretKey.substring(0, Math.min(10, secretKey.length())));
-
-        return Jwts.builder()
-                .setSubject(String.valueOf(userId))
-                .setIssuedAt(now)
-                .setExpiration(exp)
-                .signWith(
-                        Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8)),
-                        io.jsonwebtoken.SignatureAlgorithm.HS256) // ✅ 명시적으로 HS256 지정
-                .compact();
+        return signTimer.record(() -> {
+            Date now = new Date();
+            Date exp = new Date(now.getTime() + validity);
+
+            return Jwts.builder()
+                    .setSubject(String.valueOf(userId))
+                    .setIssuedAt(now)
+                    .setExpiration(exp)
+                    .signWith(signingKey, SignatureAlgorithm.HS256) // ✅ 명시적으로 HS256 지정
+                    .compact();
+        });
     }
 
     public Long getUserId(String token) {
-        return Long.parseLong(
-                Jwts.parserBuilder()
-                        .setSigningKey(secretKey.getBytes(StandardCharsets.UTF_8))
-                        .build()
-                        .parseClaimsJws(token)
+        return verifyTimer.record(() -> Long.parseLong(
+                jwtParser.parseClaimsJws(token)
                         .getBody()
-                        .getSubject());
+                        .getSubject()));
     }
 }
@@ -6,6 +6,7 @@ import org.example.category.Category;
 import org.example.common.entity.BaseEntity;
 import org.example.platform.Platform;
 import org.example.user.User;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.DayOfWeek;
@@ -17,7 +18,7 @@ import java.util.Set;
 @Entity
 @Table(name = "campaign", indexes = {
         @Index(name = "idx_campaign_user_visit", columnList = "user_id, visit_date"),
-        @Index(name = "idx_campaign_user_deadline", columnList = "user_id, deadline")
+        @Index(name = "idx_campaign_user_deadline_id", columnList = "user_id, deadline, campaignId")
 })
 @DynamicUpdate
 @Getter
@@ -25,8 +26,12 @@ import java.util.Set;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Campaign extends BaseEntity {
 
+    static final int ID_ALLOCATION_SIZE = 50;
+
+    // IDENTITY 는 insert 마다 키를 받아와야 해 JDBC 배치가 꺼진다. pooled 시퀀스로 50개씩 미리 할당 (CampaignSequenceInitializer)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "campaign_seq")
+    @SequenceGenerator(name = "campaign_seq", sequenceName = "campaign_seq", allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "campaignId")
     private Long id;
 
@@ -74,6 +79,13 @@ public class Campaign extends BaseEntity {
 
     private String reviewUrl;
 
+    // 엔티티로 수정할 때 동시 변경을 감지한다. 상태 전이는 CampaignRepository.transitionStatus 가 직접 올린다.
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    @Setter(AccessLevel.NONE)
+    private long version;
+
     // 상태 변경 메서드
     public void reserve(LocalDate visitDate) {
         if (status != Status.PENDING)
@@ -103,6 +115,16 @@ public class Campaign extends BaseEntity {
         status = Status.CANCELED;
     }
 
+    // 전이 규칙 위반은 상태를 바꾸기 전에 예외로 알린다
+    public void apply(CampaignAction action, LocalDate visitDate) {
+        switch (action) {
+            case RESERVE -> reserve(visitDate);
+            case VISIT -> visit();
+            case COMPLETE -> complete();
+            case CANCEL -> cancel();
+        }
+    }
+
     public void completeReview(String reviewUrl) {
         if (status != Status.VISITED)
             throw new IllegalStateException("VISITED 상태에서만 완료 처리 가능");
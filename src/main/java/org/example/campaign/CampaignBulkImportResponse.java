@@ -0,0 +1,12 @@
+package org.example.campaign;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CampaignBulkImportResponse {
+    private int imported;
+}
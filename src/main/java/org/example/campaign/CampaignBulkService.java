@@ -0,0 +1,244 @@
+package org.example.campaign;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.category.Category;
+import org.example.category.CategoryRepository;
+import org.example.platform.Platform;
+import org.example.platform.PlatformRepository;
+import org.example.user.User;
+import org.example.user.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 캠페인 일괄 등록/상태 변경. 일괄 등록은 한 트랜잭션에서 전부 등록하거나 하나도 등록하지 않는다.
+ * - 플랫폼/카테고리는 청크마다 처음 보는 id 만 IN 조회로 한 번에 읽는다 (건별 findById 없음)
+ * - id 는 pooled 시퀀스(campaign_seq)로 미리 할당받아 insert 를 hibernate.jdbc.batch_size 단위로 묶는다
+ * - 청크마다 flush/clear 해 영속성 컨텍스트가 커지지 않게 하고, 통계 롤업과 캐시 무효화는 마지막에 한 번만 한다
+ * 일괄 상태 변경은 같은 전이끼리 묶어 전이마다 조건부 UPDATE 한 문장으로 반영한다.
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class CampaignBulkService {
+
+    // hibernate.jdbc.batch_size, campaign_seq 할당 크기와 같게
+    static final int CHUNK_SIZE = Campaign.ID_ALLOCATION_SIZE;
+
+    private final CampaignRepository campaignRepository;
+    private final PlatformRepository platformRepository;
+    private final CategoryRepository categoryRepository;
+    private final UserRepository userRepository;
+    private final CampaignMonthlyStatsService campaignMonthlyStatsService;
+    private final CampaignCacheEvictor campaignCacheEvictor;
+    private final Validator validator;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${campaign.bulk.max-items:1000}")
+    private int maxItems = 1000;
+
+    /**
+     * @param requests JSON 배열 또는 CSV 스트림에서 읽은 요청. 끝까지 읽으면서 청크 단위로 저장한다.
+     * @return 등록한 캠페인 수
+     */
+    public int importCampaigns(Long userId, Iterator<CampaignCreateRequestDto> requests) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("유저 없음"));
+
+        Map<Long, Platform> platforms = new HashMap<>();
+        Map<Long, Category> categories = new HashMap<>();
+        List<CampaignStatsSnapshot> snapshots = new ArrayList<>();
+        List<CampaignCreateRequestDto> chunk = new ArrayList<>(CHUNK_SIZE);
+        int row = 0;
+
+        while (requests.hasNext()) {
+            CampaignCreateRequestDto request = requests.next();
+            row++;
+            if (row > maxItems) {
+                throw new IllegalArgumentException("한 번에 등록할 수 있는 캠페인은 최대 " + maxItems + "건입니다.");
+            }
+            validate(row, request);
+            chunk.add(request);
+            if (chunk.size() == CHUNK_SIZE) {
+                saveChunk(user, chunk, platforms, categories, snapshots);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            saveChunk(user, chunk, platforms, categories, snapshots);
+        }
+        if (snapshots.isEmpty()) {
+            return 0;
+        }
+
+        campaignMonthlyStatsService.apply(List.of(), snapshots);
+        campaignCacheEvictor.evictUser(userId);
+        log.info(">>> [DB] Imported {} campaigns for user: {}", snapshots.size(), userId);
+        return snapshots.size();
+    }
+
+    /**
+     * 일괄 상태 변경. 요청 순서대로 Campaign 의 전이 규칙을 메모리에서 검사하고, 규칙을 어긴 항목만 실패로 돌려준다.
+     * 대상은 IN 조회 한 번으로 읽고, 성공한 변경은 같은 전이(이전 상태 → 새 상태, 방문일)끼리 묶어
+     * 전이마다 조건부 UPDATE 한 문장으로 반영한다. 그사이 다른 요청이 상태를 바꿔 한 건이라도 반영되지 않으면
+     * 409 로 전체를 롤백한다. (일부만 반영하지 않는다)
+     * 통계 롤업과 캐시 무효화는 마지막에 한 번만 한다.
+     *
+     * @return 요청과 같은 순서의 항목별 결과
+     */
+    public List<CampaignStatusChangeResult> changeStatuses(Long userId, List<CampaignStatusChangeRequest> requests) {
+        if (requests.size() > maxItems) {
+            throw new IllegalArgumentException("한 번에 변경할 수 있는 캠페인은 최대 " + maxItems + "건입니다.");
+        }
+        Set<Long> ids = requests.stream()
+                .map(CampaignStatusChangeRequest::getCampaignId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Campaign> campaigns = ids.isEmpty()
+                ? Map.of()
+                : campaignRepository.findAllByIdInAndUser_Id(ids, userId).stream()
+                        .collect(Collectors.toMap(Campaign::getId, Function.identity()));
+        // 엔티티는 전이 규칙 검사에만 쓴다. dirty checking 으로 행마다 UPDATE 가 나가지 않도록 떼어 낸다
+        campaigns.values().forEach(entityManager::detach);
+
+        // 같은 캠페인이 여러 번 오면 첫 변경 전 상태가 롤업 기준이다
+        Map<Long, CampaignStatsSnapshot> before = new LinkedHashMap<>();
+        List<CampaignStatusChangeResult> results = new ArrayList<>(requests.size());
+        for (CampaignStatusChangeRequest request : requests) {
+            if (request.getCampaignId() == null || request.getAction() == null) {
+                results.add(CampaignStatusChangeResult.failed(request, "campaignId 와 action 은 필수입니다."));
+                continue;
+            }
+            Campaign campaign = campaigns.get(request.getCampaignId());
+            if (campaign == null) {
+                results.add(CampaignStatusChangeResult.failed(request, "캠페인을 찾을 수 없습니다."));
+                continue;
+            }
+            CampaignStatsSnapshot snapshot = CampaignStatsSnapshot.of(campaign);
+            try {
+                campaign.apply(request.getAction(), request.getVisitDate());
+            } catch (IllegalStateException | IllegalArgumentException e) {
+                results.add(CampaignStatusChangeResult.failed(request, e.getMessage()));
+                continue;
+            }
+            before.putIfAbsent(campaign.getId(), snapshot);
+            results.add(CampaignStatusChangeResult.succeeded(request, campaign.getStatus()));
+        }
+        if (before.isEmpty()) {
+            return results;
+        }
+
+        // 같은 전이끼리 묶어 전이마다 UPDATE 한 문장 (@DynamicUpdate 라 행마다 SET 절이 달라 JDBC 배치로는 묶이지 않는다)
+        // 그사이 다른 요청이 바꾼 캠페인이 있으면 전체를 되돌리고 409 로 알린다
+        LocalDateTime now = LocalDateTime.now();
+        Map<StatusTransition, List<Long>> transitions = new LinkedHashMap<>();
+        List<CampaignStatsSnapshot> after = new ArrayList<>(before.size());
+        before.forEach((id, from) -> {
+            CampaignStatsSnapshot to = CampaignStatsSnapshot.of(campaigns.get(id));
+            after.add(to);
+            LocalDate visitDate = Objects.equals(from.visitDate(), to.visitDate()) ? null : to.visitDate();
+            if (from.status() != to.status() || visitDate != null) {
+                transitions.computeIfAbsent(new StatusTransition(from.status(), to.status(), visitDate),
+                        transition -> new ArrayList<>()).add(id);
+            }
+        });
+        transitions.forEach((transition, campaignIds) -> {
+            int updated = campaignRepository.transitionStatuses(campaignIds, userId, transition.expected(),
+                    transition.status(), transition.visitDate(), transition.status() == Status.DONE ? now : null,
+                    now, userId);
+            if (updated != campaignIds.size()) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "다른 요청과 동시에 변경되었습니다. 다시 시도해 주세요.");
+            }
+        });
+
+        campaignMonthlyStatsService.apply(before.values(), after);
+        campaignCacheEvictor.evictUser(userId);
+        log.info(">>> [DB] Changed status of {} campaigns for user: {} ({} statements)", before.size(), userId,
+                transitions.size());
+        return results;
+    }
+
+    private void saveChunk(User user, List<CampaignCreateRequestDto> chunk, Map<Long, Platform> platforms,
+            Map<Long, Category> categories, List<CampaignStatsSnapshot> snapshots) {
+        resolve(chunk, CampaignCreateRequestDto::getPlatformId, platforms, platformRepository::findAllById,
+                Platform::getPlatformId, "플랫폼 없음");
+        resolve(chunk, CampaignCreateRequestDto::getCategoryId, categories, categoryRepository::findAllById,
+                Category::getId, "카테고리 없음");
+
+        List<Campaign> campaigns = new ArrayList<>(chunk.size());
+        for (CampaignCreateRequestDto request : chunk) {
+            Platform platform = platforms.get(request.getPlatformId());
+            campaigns.add(Campaign.create(
+                    user,
+                    platform,
+                    categories.get(request.getCategoryId()),
+                    platform.isRewardEnabled(),
+                    platform.getRewardPolicyId(),
+                    request));
+        }
+        campaignRepository.saveAll(campaigns);
+        campaigns.forEach(campaign -> snapshots.add(CampaignStatsSnapshot.of(campaign)));
+
+        // 청크의 insert 를 배치로 내보내고 영속성 컨텍스트를 비운다 (user/platform/category 는 FK 참조로만 쓴다)
+        entityManager.flush();
+        entityManager.clear();
+        chunk.clear();
+    }
+
+    // 아직 읽지 않은 id 만 IN 조회로 채운다
+    private <T> void resolve(List<CampaignCreateRequestDto> chunk, Function<CampaignCreateRequestDto, Long> idOf,
+            Map<Long, T> resolved, Function<Set<Long>, List<T>> loader, Function<T, Long> idOfEntity,
+            String notFoundMessage) {
+        Set<Long> missing = chunk.stream()
+                .map(idOf)
+                .filter(id -> !resolved.containsKey(id))
+                .collect(Collectors.toSet());
+        if (missing.isEmpty()) {
+            return;
+        }
+        loader.apply(missing).forEach(entity -> resolved.put(idOfEntity.apply(entity), entity));
+        missing.removeAll(resolved.keySet());
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException(notFoundMessage + ": " + missing);
+        }
+    }
+
+    private void validate(int row, CampaignCreateRequestDto request) {
+        Set<ConstraintViolation<CampaignCreateRequestDto>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return;
+        }
+        String detail = violations.stream()
+                .map(v -> v.getPropertyPath() + " " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+        throw new IllegalArgumentException(row + "번째 캠페인이 올바르지 않습니다: " + detail);
+    }
+
+    // 같은 문장으로 묶을 수 있는 전이. visitDate 는 예약으로 바뀐 경우에만 있다
+    private record StatusTransition(Status expected, Status status, LocalDate visitDate) {
+    }
+}
@@ -1,20 +1,66 @@
 package org.example.campaign;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.common.cache.SingleFlight;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
+/**
+ * @CampaignCacheable 메서드 결과를 Redis 에 캐시한다.
+ * - 키: SpEL 로 메서드 인자를 넣어 만든다 (파싱 결과는 키 식마다 한 번만 만든다)
+ * - 빈 결과: null 은 NULL_MARKER 로, 빈 컬렉션은 그대로 emptyTtl 동안 저장해 없는 데이터 조회가 매번 DB 로 가지 않게 한다
+ * - TTL: ±jitter 비율만큼 흔들어 같이 적재된 키가 한꺼번에 만료되지 않게 한다
+ * - 적재는 항상 요청 스레드에서 한다. (백그라운드 적재는 트랜잭션/SecurityContext/요청 스코프 밖이라 두지 않는다)
+ * 지표: campaign.cache.requests{prefix, result=hit|miss}, campaign.cache.load{prefix} (적재 시간)
+ */
+@Slf4j
 @Aspect
 @Component
-@RequiredArgsConstructor
 public class CampaignCacheAspect {
 
+    // SingleFlight 지표 태그
+    private static final String CACHE_NAME = "campaignCacheable";
+    private static final Pattern NUMERIC_SEGMENT = Pattern.compile("(?<=^|:)-?\\d+(?=:|$)");
+
+    // null 결과 자리표시 (RedisTemplate 은 null 값을 저장할 수 없다)
+    static final String NULL_MARKER = "\u0000campaign-cache:null";
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final SingleFlight singleFlight;
+    private final MeterRegistry meterRegistry;
+
+    private final ExpressionParser parser = new SpelExpressionParser();
+    private final DefaultParameterNameDiscoverer nameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final Map<String, Expression> keyExpressions = new ConcurrentHashMap<>();
+
+    public CampaignCacheAspect(
+            RedisTemplate<String, Object> redisTemplate,
+            SingleFlight singleFlight,
+            MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.singleFlight = singleFlight;
+        this.meterRegistry = meterRegistry;
+    }
 
     @Around("@annotation(cacheable)")
     public Object cache(
@@ -22,17 +68,112 @@ public class CampaignCacheAspect {
             CampaignCacheable cacheable
     ) throws Throwable {
 
-        String key = cacheable.key();
-        Object cached = redisTemplate.opsForValue().get(key);
+        String key = resolveKey(joinPoint, cacheable);
+        String prefix = metricPrefix(key);
 
+        Object cached = lookup(key);
         if (cached != null) {
-            return cached;
+            count(prefix, "hit");
+            return unwrap(cached);
+        }
+        count(prefix, "miss");
+
+        // 같은 키를 동시에 놓친 요청은 한 번만 proceed 하고 나머지는 그 결과를 기다린다
+        return singleFlight.execute(CACHE_NAME, key, () -> {
+            Object loaded = lookup(key);
+            if (loaded != null) {
+                return unwrap(loaded);
+            }
+            return load(joinPoint, cacheable, key, prefix);
+        });
+    }
+
+    private String resolveKey(ProceedingJoinPoint joinPoint, CampaignCacheable cacheable) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(
+                joinPoint.getTarget(), method, joinPoint.getArgs(), nameDiscoverer);
+        Expression expression = keyExpressions.computeIfAbsent(cacheable.key(), parser::parseExpression);
+        String key = expression.getValue(context, String.class);
+        if (key == null || key.isBlank()) {
+            throw new IllegalStateException("Empty cache key for " + method.getName() + ": " + cacheable.key());
         }
+        return key;
+    }
 
-        Object result = joinPoint.proceed();
-        redisTemplate.opsForValue()
-                .set(key, result, cacheable.ttl(), TimeUnit.SECONDS);
+    // Redis 장애는 miss 로 보고 DB 에서 읽는다
+    private Object lookup(String key) {
+        try {
+            return redisTemplate.opsForValue().get(key);
+        } catch (RuntimeException e) {
+            log.warn(">>> [CACHE] Lookup failed for key [{}], loading from source", key, e);
+            return null;
+        }
+    }
 
+    private Object load(ProceedingJoinPoint joinPoint, CampaignCacheable cacheable, String key, String prefix)
+            throws Exception {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Object result;
+        try {
+            result = proceed(joinPoint);
+        } finally {
+            sample.stop(meterRegistry.timer("campaign.cache.load", "prefix", prefix));
+        }
+        store(key, result, cacheable);
         return result;
     }
+
+    private void store(String key, Object result, CampaignCacheable cacheable) {
+        long ttlSeconds = isEmpty(result) ? cacheable.emptyTtl() : cacheable.ttl();
+        if (ttlSeconds <= 0) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(key, result != null ? result : NULL_MARKER,
+                    jitteredTtlMillis(ttlSeconds, cacheable.jitter()), TimeUnit.MILLISECONDS);
+        } catch (RuntimeException e) {
+            // 저장 실패는 다음 조회가 다시 적재하면 되므로 결과는 그대로 돌려준다
+            log.warn(">>> [CACHE] Store failed for key [{}]", key, e);
+        }
+    }
+
+    private void count(String prefix, String result) {
+        meterRegistry.counter("campaign.cache.requests", "prefix", prefix, "result", result).increment();
+    }
+
+    /**
+     * 키의 숫자 세그먼트(id 등)를 * 로 바꿔 지표 태그 수를 제한한다. user:42:campaigns → user:*:campaigns
+     */
+    static String metricPrefix(String key) {
+        return NUMERIC_SEGMENT.matcher(key).replaceAll("*");
+    }
+
+    static long jitteredTtlMillis(long ttlSeconds, double jitter) {
+        long base = TimeUnit.SECONDS.toMillis(ttlSeconds);
+        if (jitter <= 0) {
+            return base;
+        }
+        double factor = 1 + ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+        return Math.max(1L, Math.round(base * factor));
+    }
+
+    private static boolean isEmpty(Object result) {
+        return result == null
+                || (result instanceof Collection<?> collection && collection.isEmpty())
+                || (result instanceof Map<?, ?> map && map.isEmpty());
+    }
+
+    private static Object unwrap(Object cached) {
+        return NULL_MARKER.equals(cached) ? null : cached;
+    }
+
+    private static Object proceed(ProceedingJoinPoint joinPoint) throws Exception {
+        try {
+            return joinPoint.proceed();
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
 }
@@ -0,0 +1,55 @@
+package org.example.campaign;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.common.cache.CacheEvictionSupport;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 'campaigns' 캐시를 사용자 단위로 무효화한다.
+ * 모든 캐시 키는 "user:{userId}:" 네임스페이스로 시작하므로, 한 사용자의 쓰기가
+ * 다른 사용자의 캐시 항목을 날리지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CampaignCacheEvictor {
+
+    public static final String CACHE_NAME = "campaigns";
+
+    private final CacheManager cacheManager;
+
+    public static String userPrefix(Long userId) {
+        return "user:" + userId + ":";
+    }
+
+    /**
+     * 트랜잭션 안에서 호출되면 커밋 이후에 무효화한다. (롤백 시에는 캐시를 유지)
+     */
+    public void evictUser(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doEvict(userId);
+                }
+            });
+            return;
+        }
+        doEvict(userId);
+    }
+
+    private void doEvict(Long userId) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return;
+        }
+
+        CacheEvictionSupport.evictByPrefix(cache, userPrefix(userId));
+        log.info(">>> [CACHE] Evicted 'campaigns' entries for userId={}", userId);
+    }
+}
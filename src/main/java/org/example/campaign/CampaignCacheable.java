@@ -5,9 +5,27 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+/**
+ * CampaignCacheAspect 가 결과를 Redis 에 캐시하는 메서드.
+ * 만료된 엔트리는 요청 스레드에서 다시 적재한다. (호출자의 트랜잭션/SecurityContext 안에서 실행된다)
+ */
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface CampaignCacheable {
+
+    /**
+     * 캐시 키 SpEL. 파라미터는 #이름(또는 #p0)으로 참조하고, 고정 문자열은 따옴표로 감싼다.
+     * 예) "'user:' + #userId + ':campaigns'"
+     * 키의 숫자 세그먼트를 * 로 바꾼 값(user:*:campaigns)이 지표의 prefix 태그가 된다.
+     */
     String key();
+
+    /** 초 단위 TTL */
     long ttl() default 300;
+
+    /** null, 빈 컬렉션/Map 결과의 TTL (초). 0 이면 빈 결과는 캐시하지 않는다 */
+    long emptyTtl() default 30;
+
+    /** TTL 에 더하는 무작위 폭 비율 (0.1 = ±10%). 같이 적재된 키들이 한꺼번에 만료되지 않게 한다 */
+    double jitter() default 0.1;
 }
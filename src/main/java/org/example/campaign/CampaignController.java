@@ -1,15 +1,24 @@
 package org.example.campaign;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.example.auth.JwtTokenProvider;
+import org.example.auth.CurrentUserId;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @Slf4j
@@ -19,47 +28,141 @@ import java.util.List;
 public class CampaignController {
 
         private final CampaignService campaignService;
-        private final JwtTokenProvider jwtTokenProvider;
+        private final CampaignBulkService campaignBulkService;
+        private final ObjectMapper objectMapper;
+
+        private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+        private static final int STREAM_FLUSH_INTERVAL = 100;
 
         @GetMapping("/{campaignId}")
         public CampaignResponseDto getCampaignById(
                         @PathVariable Long campaignId,
-                        @RequestHeader("Authorization") String token) {
-                Long userId = extractUserId(token);
-
-                Campaign s = campaignService.findByCampaignIdAndUser(campaignId, userId)
+                        @CurrentUserId Long userId) {
+                return campaignService.findCampaignDto(campaignId, userId)
                                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
                                                 "해당 건을 찾을 수 없습니다"));
-
-                return CampaignResponseDto.fromEntity(s);
         }
 
         @PostMapping
         public CampaignResponseDto createCampaign(
-                        @RequestHeader("Authorization") String token,
+                        @CurrentUserId Long userId,
                         @RequestBody @Valid CampaignCreateRequestDto sponsorship) {
-                Long userId = extractUserId(token);
                 Campaign campaign = campaignService.createCampaign(userId, sponsorship);
                 return CampaignResponseDto.fromEntity(campaign);
         }
 
+        /**
+         * 일괄 등록 (JSON 배열). 전부 등록하거나 하나도 등록하지 않는다.
+         * 배열을 한 번에 바인딩하지 않고 원소 단위로 읽어, 최대 건수를 넘으면 나머지를 읽기 전에 거절한다.
+         */
+        @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+        public CampaignBulkImportResponse importCampaigns(
+                        @CurrentUserId Long userId,
+                        InputStream body) throws IOException {
+                try (CampaignImportRows rows = CampaignImportRows.readJson(objectMapper, body)) {
+                        return new CampaignBulkImportResponse(campaignBulkService.importCampaigns(userId, rows));
+                }
+        }
+
+        /**
+         * 일괄 등록 (CSV, 첫 줄 헤더). 본문을 읽으면서 청크 단위로 저장한다. 형식은 /campaigns/export 와 같다.
+         */
+        @PostMapping(value = "/bulk", consumes = CampaignCsv.CONTENT_TYPE)
+        public CampaignBulkImportResponse importCampaignsCsv(
+                        @CurrentUserId Long userId,
+                        InputStream body) throws IOException {
+                try (CampaignImportRows rows = CampaignCsv.read(body)) {
+                        return new CampaignBulkImportResponse(campaignBulkService.importCampaigns(userId, rows));
+                }
+        }
+
+        /**
+         * 전체 목록을 CSV 로 스트리밍한다. 받은 파일을 그대로 /campaigns/bulk 로 다시 등록할 수 있다.
+         */
+        @GetMapping(value = "/export", produces = CampaignCsv.CONTENT_TYPE)
+        public ResponseEntity<StreamingResponseBody> exportCampaigns(
+                        @CurrentUserId Long userId,
+                        @RequestParam(required = false) Status status) {
+                StreamingResponseBody body = out -> {
+                        try (SequenceWriter writer = CampaignCsv.writer(out)) {
+                                campaignService.streamCampaigns(userId, status, dto -> {
+                                        try {
+                                                writer.write(CampaignCsv.toRow(dto));
+                                        } catch (IOException e) {
+                                                throw new UncheckedIOException(e);
+                                        }
+                                });
+                        } catch (UncheckedIOException e) {
+                                // 클라이언트가 연결을 끊은 경우
+                                log.warn("campaign export aborted. userId={}", userId);
+                                throw e.getCause();
+                        }
+                };
+
+                return ResponseEntity.ok()
+                                .contentType(MediaType.parseMediaType(CampaignCsv.CONTENT_TYPE))
+                                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                                                .filename("campaigns.csv").build().toString())
+                                .body(body);
+        }
+
         @GetMapping
         public List<CampaignResponseDto> getCampaigns(
-                        @RequestHeader("Authorization") String token) {
-                Long userId = extractUserId(token);
-                return campaignService.findAllByUserId(userId)
-                                .stream()
-                                .map(CampaignResponseDto::fromEntity)
-                                .toList();
+                        @CurrentUserId Long userId) {
+                return campaignService.findAllByUserId(userId);
+        }
+
+        /**
+         * 커서 기반 목록 조회. 응답의 nextCursor 를 다음 요청의 cursor 로 넘긴다.
+         */
+        @GetMapping("/page")
+        public CampaignPageResponse getCampaignPage(
+                        @CurrentUserId Long userId,
+                        @RequestParam(required = false) Status status,
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(defaultValue = "20") int size) {
+                return campaignService.findCampaignPage(userId, status, cursor, size);
+        }
+
+        /**
+         * 전체 목록을 NDJSON(한 줄에 캠페인 하나)으로 스트리밍한다.
+         */
+        @GetMapping(value = "/stream", produces = "application/x-ndjson")
+        public ResponseEntity<StreamingResponseBody> streamCampaigns(
+                        @CurrentUserId Long userId,
+                        @RequestParam(required = false) Status status) {
+                StreamingResponseBody body = out -> {
+                        long[] written = { 0 };
+                        try {
+                                campaignService.streamCampaigns(userId, status, dto -> {
+                                        try {
+                                                out.write(objectMapper.writeValueAsBytes(dto));
+                                                out.write('\n');
+                                                if (++written[0] % STREAM_FLUSH_INTERVAL == 0) {
+                                                        out.flush();
+                                                }
+                                        } catch (IOException e) {
+                                                throw new UncheckedIOException(e);
+                                        }
+                                });
+                        } catch (UncheckedIOException e) {
+                                // 클라이언트가 연결을 끊은 경우
+                                log.warn("campaign stream aborted. userId={}, written={}", userId, written[0]);
+                                throw e.getCause();
+                        }
+                        out.flush();
+                };
+
+                return ResponseEntity.ok()
+                                .contentType(APPLICATION_NDJSON)
+                                .body(body);
         }
 
         @PatchMapping("/{campaignId}")
         public CampaignResponseDto updateCampaign(
                         @PathVariable Long campaignId,
-                        @RequestHeader("Authorization") String token,
+                        @CurrentUserId Long userId,
                         @RequestBody CampaignResponseDto dto) {
-                Long userId = extractUserId(token);
-
                 Campaign updated = campaignService.updateCampaign(campaignId, userId, dto);
                 return CampaignResponseDto.fromEntity(updated);
         }
@@ -67,8 +170,7 @@ public class CampaignController {
         @DeleteMapping("/{campaignId}")
         public void deleteCampaign(
                         @PathVariable Long campaignId,
-                        @RequestHeader("Authorization") String token) {
-                Long userId = extractUserId(token);
+                        @CurrentUserId Long userId) {
                 campaignService.deleteCampaign(campaignId, userId);
         }
 
@@ -77,40 +179,34 @@ public class CampaignController {
                         @PathVariable Long campaignId,
                         @PathVariable CampaignAction status,
                         @RequestParam(required = false) java.time.LocalDate visitDate,
-                        @RequestHeader("Authorization") String token) {
-                Long userId = extractUserId(token);
+                        @CurrentUserId Long userId) {
                 campaignService.changeStatus(campaignId, userId, status, visitDate);
         }
 
-        private Long extractUserId(String authHeader) {
-
-                log.info("authHeader: [{}]", authHeader);
-
-                String token = authHeader.replace("Bearer ", "");
-                log.info("token: [{}]", token);
-
-                return jwtTokenProvider.getUserId(token);
-
+        /**
+         * 일괄 상태 변경. 전이 규칙을 어긴 항목은 건너뛰고, 항목별 결과를 요청 순서대로 돌려준다.
+         */
+        @PatchMapping("/status")
+        public List<CampaignStatusChangeResult> changeStatuses(
+                        @CurrentUserId Long userId,
+                        @RequestBody List<CampaignStatusChangeRequest> requests) {
+                return campaignBulkService.changeStatuses(userId, requests);
         }
 
         @PostMapping("/{campaignId}/review")
         public ResponseEntity<String> submitReview(
                         @PathVariable Long campaignId,
-                        @RequestHeader("Authorization") String token,
+                        @CurrentUserId Long userId,
                         @RequestParam String reviewUrl) {
-
-                Long userId = extractUserId(token);
                 campaignService.submitReview(campaignId, userId, reviewUrl);
                 return ResponseEntity.ok("Review submitted and reward triggered");
         }
 
         @GetMapping("/status")
         public List<CampaignResponseDto> getCampaignsByStatus(
-                        @RequestHeader("Authorization") String token,
+                        @CurrentUserId Long userId,
                         @RequestParam(required = false) Status status,
                         @RequestParam(defaultValue = "asc") String order) {
-                Long userId = extractUserId(token);
-
                 Sort sort = order.equalsIgnoreCase("desc")
                                 ? Sort.by("deadline").descending()
                                 : Sort.by("deadline").ascending();
@@ -120,12 +216,11 @@ public class CampaignController {
 
         @GetMapping("/statistics/monthly")
         public CampaignMonthlyStatisticsResponse getMonthlyStatistics(
-                        @RequestHeader("Authorization") String token,
+                        @CurrentUserId Long userId,
                         @RequestParam String startMonth,
                         @RequestParam String endMonth,
                         @RequestParam(defaultValue = "deadline") String base,
                         @RequestParam(required = false) Long categoryId) {
-                Long userId = extractUserId(token);
                 return campaignService.getMonthlyStatistics(userId, startMonth, endMonth, base, categoryId);
         }
 
@@ -0,0 +1,84 @@
+package org.example.campaign;
+
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * 캠페인 CSV 형식. 내보낸 파일을 그대로 일괄 등록(POST /campaigns/bulk)에 쓸 수 있도록
+ * 등록 요청(CampaignCreateRequestDto)과 같은 컬럼을 쓴다. 방문 가능 요일은 ';' 로 구분한다.
+ */
+final class CampaignCsv {
+
+    static final String CONTENT_TYPE = "text/csv";
+
+    private static final CsvMapper MAPPER = CsvMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            // 응답 스트림은 컨테이너가 닫는다
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .enable(CsvParser.Feature.EMPTY_STRING_AS_NULL)
+            .enable(CsvParser.Feature.TRIM_SPACES)
+            .build();
+
+    static final CsvSchema SCHEMA = CsvSchema.builder()
+            .addNumberColumn("platformId")
+            .addNumberColumn("categoryId")
+            .addColumn("storeName")
+            .addColumn("storePhone")
+            .addColumn("address")
+            .addNumberColumn("supportAmount")
+            .addNumberColumn("extraCost")
+            .addBooleanColumn("receiptReview")
+            .addColumn("experienceStartDate")
+            .addColumn("experienceEndDate")
+            .addColumn("deadline")
+            .addArrayColumn("availableDays", ";")
+            .addColumn("availableTime")
+            .build()
+            .withHeader();
+
+    private CampaignCsv() {
+    }
+
+    /**
+     * 첫 줄은 헤더. 컬럼 순서는 헤더를 따른다. 읽을 수 없는 행은 행 번호와 함께 IllegalArgumentException 으로 알린다.
+     */
+    static CampaignImportRows read(InputStream in) throws IOException {
+        MappingIterator<CampaignCreateRequestDto> iterator = MAPPER.readerFor(CampaignCreateRequestDto.class)
+                .with(SCHEMA.withColumnReordering(true))
+                .readValues(in);
+        return new CampaignImportRows(iterator, "CSV");
+    }
+
+    static SequenceWriter writer(OutputStream out) throws IOException {
+        return MAPPER.writerFor(CampaignCreateRequestDto.class).with(SCHEMA).writeValues(out);
+    }
+
+    static CampaignCreateRequestDto toRow(CampaignResponseDto dto) {
+        CampaignCreateRequestDto row = new CampaignCreateRequestDto();
+        row.setPlatformId(dto.getPlatformId());
+        row.setCategoryId(dto.getCategoryId());
+        row.setStoreName(dto.getStoreName());
+        row.setStorePhone(dto.getStorePhone());
+        row.setAddress(dto.getAddress());
+        row.setSupportAmount(dto.getSupportAmount());
+        row.setExtraCost(dto.getExtraCost());
+        row.setReceiptReview(dto.isReceiptReview());
+        row.setExperienceStartDate(dto.getExperienceStartDate());
+        row.setExperienceEndDate(dto.getExperienceEndDate());
+        row.setDeadline(dto.getDeadline());
+        row.setAvailableDays(dto.getAvailableDays());
+        row.setAvailableTime(dto.getAvailableTime());
+        return row;
+    }
+}
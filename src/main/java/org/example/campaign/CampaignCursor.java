@@ -0,0 +1,43 @@
+package org.example.campaign;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (deadline, campaignId) 키셋 커서. 클라이언트에는 base64url 문자열로만 노출한다.
+ * deadline 이 null 이면 마감일이 없는 캠페인 구간(마감일 있는 캠페인 뒤에 id 순으로 정렬)을 가리킨다.
+ */
+public record CampaignCursor(LocalDate deadline, Long id) {
+
+    /** 첫 페이지: 마감일 있는 구간의 맨 앞. (LocalDate.MIN 은 DB date 범위를 벗어나므로 쓰지 않는다) */
+    public static final CampaignCursor FIRST = new CampaignCursor(LocalDate.of(1, 1, 1), 0L);
+
+    public boolean isUndated() {
+        return deadline == null;
+    }
+
+    public static CampaignCursor after(Campaign campaign) {
+        return new CampaignCursor(campaign.getDeadline(), campaign.getId());
+    }
+
+    public String encode() {
+        String raw = (deadline != null ? deadline.toString() : "") + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CampaignCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            LocalDate deadline = sep == 0 ? null : LocalDate.parse(raw.substring(0, sep));
+            return new CampaignCursor(deadline, Long.parseLong(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.campaign;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * 일괄 등록 요청 본문(CSV 또는 JSON 배열)을 한 건씩 읽는다. 본문 전체를 먼저 메모리에 올리지 않으므로
+ * 최대 건수(campaign.bulk.max-items) 검사가 읽는 도중에 걸린다.
+ * 읽을 수 없는 항목은 줄 번호와 함께 IllegalArgumentException 으로 알린다.
+ */
+final class CampaignImportRows implements Iterator<CampaignCreateRequestDto>, Closeable {
+
+    private final MappingIterator<CampaignCreateRequestDto> delegate;
+    private final String format;
+
+    CampaignImportRows(MappingIterator<CampaignCreateRequestDto> delegate, String format) {
+        this.delegate = delegate;
+        this.format = format;
+    }
+
+    /**
+     * 최상위 JSON 배열의 원소를 하나씩 읽는다.
+     */
+    static CampaignImportRows readJson(ObjectMapper objectMapper, InputStream in) throws IOException {
+        MappingIterator<CampaignCreateRequestDto> iterator = objectMapper.readerFor(CampaignCreateRequestDto.class)
+                .readValues(in);
+        return new CampaignImportRows(iterator, "JSON");
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            return delegate.hasNext();
+        } catch (RuntimeException e) {
+            throw invalidRow(e);
+        }
+    }
+
+    @Override
+    public CampaignCreateRequestDto next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            return delegate.next();
+        } catch (RuntimeException e) {
+            throw invalidRow(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        delegate.close();
+    }
+
+    // MappingIterator 는 매핑/파싱 오류(JsonProcessingException)를 RuntimeException 으로 감싸 던진다
+    private RuntimeException invalidRow(RuntimeException e) {
+        if (!(e.getCause() instanceof JsonProcessingException cause)) {
+            return e;
+        }
+        int line = delegate.getCurrentLocation().getLineNr();
+        return new IllegalArgumentException(
+                format + " " + line + "번째 줄을 읽을 수 없습니다: " + cause.getOriginalMessage());
+    }
+}
@@ -0,0 +1,63 @@
+package org.example.campaign;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * JPA @Index 로 표현할 수 없는 PostgreSQL 부분 인덱스를 만들고, ddl-auto: update 가 지우지 않는 옛 인덱스를 정리한다.
+ * 알림 스캔은 진행 중(PENDING/RESERVED/VISITED) 캠페인만 보므로, 완료/취소 캠페인이 쌓여도 인덱스가 커지지 않게
+ * 해당 상태만 담는다. 다른 DB(H2 등)에서는 건너뛰고 Campaign 의 (user_id, deadline, campaignId) 인덱스를 쓴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CampaignIndexInitializer implements ApplicationRunner {
+
+    private static final String ACTIVE_STATUSES = "status IN ('PENDING', 'RESERVED', 'VISITED')";
+
+    // CONCURRENTLY: 기동 중에도 campaign 쓰기를 막지 않는다 (트랜잭션 밖, autocommit 으로 실행해야 함)
+    static final List<String> PARTIAL_INDEXES = List.of(
+            // 사용자별 조인 조회 (알림 청크)
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_campaign_active_user_deadline"
+                    + " ON campaign (user_id, deadline) WHERE " + ACTIVE_STATUSES,
+            // 알림 대상이 많아 campaign 쪽에서 마감일 범위로 읽는 계획용
+            "CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_campaign_active_deadline"
+                    + " ON campaign (deadline, user_id) WHERE " + ACTIVE_STATUSES);
+
+    // (user_id, deadline) 은 idx_campaign_user_deadline_id (user_id, deadline, campaignId) 의 앞부분이라 쓰기 비용만 든다
+    static final List<String> SUPERSEDED_INDEXES = List.of(
+            "DROP INDEX CONCURRENTLY IF EXISTS idx_campaign_user_deadline");
+
+    private final DataSource dataSource;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                return;
+            }
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                for (String ddl : PARTIAL_INDEXES) {
+                    statement.execute(ddl);
+                }
+                for (String ddl : SUPERSEDED_INDEXES) {
+                    statement.execute(ddl);
+                }
+            }
+            log.info(">>> [SCHEMA] Partial campaign indexes are in place");
+        } catch (SQLException e) {
+            // 인덱스가 없어도 조회는 동작한다. 중간에 실패한 CONCURRENTLY 인덱스는 INVALID 로 남으므로 DROP 후 재기동한다.
+            log.warn(">>> [SCHEMA] Failed to create partial campaign indexes", e);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package org.example.campaign;
+
+/**
+ * 월별 통계 집계 결과 (year, month, category, status 단위 GROUP BY 한 행)
+ */
+public interface CampaignMonthlyAggregate {
+    Integer getStatYear();
+
+    Integer getStatMonth();
+
+    Long getCategoryId();
+
+    Status getStatus();
+
+    Long getCampaignCount();
+
+    Long getSupportAmount();
+
+    Long getExtraCost();
+
+    Long getReceiptReviewCount();
+}
@@ -0,0 +1,63 @@
+package org.example.campaign;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 월별 통계 롤업. 캠페인 쓰기 시 증분 갱신되고, 야간 배치가 campaign 테이블과 대조한다.
+ */
+@Entity
+@Table(name = "campaign_monthly_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_campaign_monthly_stats_key",
+                columnNames = { "user_id", "base", "stat_month", "category_id" })
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CampaignMonthlyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private CampaignStatisticsBase base;
+
+    @Column(name = "stat_month", nullable = false)
+    private LocalDate statMonth; // 해당 월 1일
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Embedded
+    private CampaignMonthlyStatCounts counts = new CampaignMonthlyStatCounts();
+
+    public static CampaignMonthlyStat of(CampaignMonthlyStatKey key, CampaignMonthlyStatCounts counts) {
+        CampaignMonthlyStat stat = new CampaignMonthlyStat();
+        stat.userId = key.userId();
+        stat.base = key.base();
+        stat.statMonth = key.statMonth();
+        stat.categoryId = key.categoryId();
+        stat.counts = counts.copy();
+        return stat;
+    }
+
+    public CampaignMonthlyStatKey key() {
+        return new CampaignMonthlyStatKey(userId, base, statMonth, categoryId);
+    }
+
+    public void merge(CampaignMonthlyStatCounts delta) {
+        counts.merge(delta);
+    }
+
+    public void overwrite(CampaignMonthlyStatCounts expected) {
+        this.counts = expected.copy();
+    }
+}
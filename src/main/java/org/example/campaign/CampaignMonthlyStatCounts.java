@@ -0,0 +1,73 @@
+package org.example.campaign;
+
+import jakarta.persistence.Embeddable;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 월별 통계 롤업 값. 증분(delta)과 누적값 모두 이 타입으로 표현한다.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor
+@EqualsAndHashCode
+@ToString
+public class CampaignMonthlyStatCounts {
+
+    private long pendingCount;
+    private long reservedCount;
+    private long visitedCount;
+    private long canceledCount;
+    private long doneCount;
+    private long receiptReviewDoneCount; // receiptReview=true & status=DONE
+    private long totalSupportAmount;
+    private long totalExtraCost;
+
+    public void add(Status status, long count, long supportAmount, long extraCost, long receiptReviewCount) {
+        switch (status) {
+            case PENDING -> pendingCount += count;
+            case RESERVED -> reservedCount += count;
+            case VISITED -> visitedCount += count;
+            case CANCELED -> canceledCount += count;
+            case DONE -> {
+                doneCount += count;
+                receiptReviewDoneCount += receiptReviewCount;
+            }
+        }
+        totalSupportAmount += supportAmount;
+        totalExtraCost += extraCost;
+    }
+
+    public void merge(CampaignMonthlyStatCounts other) {
+        pendingCount += other.pendingCount;
+        reservedCount += other.reservedCount;
+        visitedCount += other.visitedCount;
+        canceledCount += other.canceledCount;
+        doneCount += other.doneCount;
+        receiptReviewDoneCount += other.receiptReviewDoneCount;
+        totalSupportAmount += other.totalSupportAmount;
+        totalExtraCost += other.totalExtraCost;
+    }
+
+    public long countOf(Status status) {
+        return switch (status) {
+            case PENDING -> pendingCount;
+            case RESERVED -> reservedCount;
+            case VISITED -> visitedCount;
+            case CANCELED -> canceledCount;
+            case DONE -> doneCount;
+        };
+    }
+
+    public boolean isZero() {
+        return equals(new CampaignMonthlyStatCounts());
+    }
+
+    public CampaignMonthlyStatCounts copy() {
+        CampaignMonthlyStatCounts copy = new CampaignMonthlyStatCounts();
+        copy.merge(this);
+        return copy;
+    }
+}
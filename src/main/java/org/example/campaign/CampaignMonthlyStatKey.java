@@ -0,0 +1,26 @@
+package org.example.campaign;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+
+/**
+ * campaign_monthly_stats 행 식별자 (user, month, base, category)
+ */
+public record CampaignMonthlyStatKey(Long userId, CampaignStatisticsBase base, LocalDate statMonth, Long categoryId) {
+
+    /** 카테고리가 없는 캠페인은 0으로 집계 */
+    public static final long NO_CATEGORY = 0L;
+
+    /** 행 잠금 순서를 고정해 데드락을 피한다 */
+    public static final Comparator<CampaignMonthlyStatKey> LOCK_ORDER = Comparator
+            .comparing(CampaignMonthlyStatKey::userId)
+            .thenComparing(CampaignMonthlyStatKey::base)
+            .thenComparing(CampaignMonthlyStatKey::statMonth)
+            .thenComparing(CampaignMonthlyStatKey::categoryId);
+
+    public static CampaignMonthlyStatKey of(Long userId, CampaignStatisticsBase base, LocalDate date,
+            Long categoryId) {
+        return new CampaignMonthlyStatKey(userId, base, date.withDayOfMonth(1),
+                categoryId != null ? categoryId : NO_CATEGORY);
+    }
+}
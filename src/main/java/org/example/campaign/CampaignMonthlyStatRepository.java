@@ -0,0 +1,39 @@
+package org.example.campaign;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface CampaignMonthlyStatRepository extends JpaRepository<CampaignMonthlyStat, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<CampaignMonthlyStat> findByUserIdAndBaseAndStatMonthAndCategoryId(Long userId,
+            CampaignStatisticsBase base, LocalDate statMonth, Long categoryId);
+
+    // 처음 쓰는 키는 빈 행을 먼저 넣고 위 조회로 잠근다. 동시에 넣어도 한쪽은 아무것도 하지 않아 키 충돌로 실패하지 않는다.
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into campaign_monthly_stats (user_id, base, stat_month, category_id,
+                pending_count, reserved_count, visited_count, canceled_count, done_count,
+                receipt_review_done_count, total_support_amount, total_extra_cost)
+            values (:userId, :base, :statMonth, :categoryId, 0, 0, 0, 0, 0, 0, 0, 0)
+            on conflict do nothing
+            """)
+    int insertIfAbsent(Long userId, String base, LocalDate statMonth, Long categoryId);
+
+    List<CampaignMonthlyStat> findByUserIdAndBaseAndStatMonthBetween(Long userId, CampaignStatisticsBase base,
+            LocalDate start, LocalDate end);
+
+    List<CampaignMonthlyStat> findByUserIdAndBaseAndStatMonthBetweenAndCategoryId(Long userId,
+            CampaignStatisticsBase base, LocalDate start, LocalDate end, Long categoryId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from CampaignMonthlyStat s where s.userId = :userId")
+    List<CampaignMonthlyStat> findByUserIdForUpdate(Long userId);
+}
@@ -0,0 +1,129 @@
+package org.example.campaign;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.common.lock.DistributedLock;
+import org.example.user.UserRepository;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * campaign 테이블에서 롤업을 다시 계산해 campaign_monthly_stats 와 대조한다.
+ * 차이(drift)가 있으면 로그/메트릭으로 남기고 재계산 값으로 덮어쓴다.
+ * 배포 직후에는 롤업 도입 전 가입자의 롤업을 백그라운드에서 한 번 채운다. (그 전에 통계를 조회한 사용자는 조회할 때 채워진다)
+ */
+@Slf4j
+@Component
+public class CampaignMonthlyStatsReconciler {
+
+    private static final int USER_PAGE_SIZE = 500;
+    private static final String LOCK_NAME = "campaign-monthly-stats-reconciler";
+
+    private final UserRepository userRepository;
+    private final CampaignMonthlyStatsService statsService;
+    private final DistributedLock distributedLock;
+    private final TaskScheduler taskScheduler;
+    private final Counter driftCounter;
+
+    public CampaignMonthlyStatsReconciler(UserRepository userRepository,
+            CampaignMonthlyStatsService statsService,
+            DistributedLock distributedLock,
+            TaskScheduler taskScheduler,
+            MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.statsService = statsService;
+        this.distributedLock = distributedLock;
+        this.taskScheduler = taskScheduler;
+        this.driftCounter = Counter.builder("campaign.stats.drift")
+                .description("재계산 값과 다른 롤업 행 수")
+                .register(meterRegistry);
+    }
+
+    // 매일 04:30 전체 사용자 대조 (한 노드에서만)
+    @Scheduled(cron = "0 30 4 * * *")
+    public void scheduledReconcile() {
+        distributedLock.runExclusively(LOCK_NAME, Duration.ofHours(2), Duration.ofMinutes(5),
+                lease -> reconcileAll());
+    }
+
+    // 기동 후 롤업을 채우지 않은 사용자만 채운다. 여러 노드가 동시에 떠도 한 노드에서만 (야간 대조와 같은 잠금)
+    // 리스너가 끝나야 readiness 가 ACCEPTING_TRAFFIC 이 되므로 스케줄러 스레드로 넘긴다.
+    // 채우는 동안 조회한 사용자는 findStats 가 직접 채운다.
+    @EventListener(ApplicationReadyEvent.class)
+    public void scheduleBackfill() {
+        taskScheduler.schedule(this::backfillOnStartup, Instant.now());
+    }
+
+    void backfillOnStartup() {
+        try {
+            distributedLock.runExclusively(LOCK_NAME, Duration.ofHours(2), Duration.ZERO, lease -> backfill());
+        } catch (RuntimeException e) {
+            // 기동은 막지 않는다. 남은 사용자는 조회할 때 또는 야간 대조에서 채워진다
+            log.error(">>> [STATS] Failed to backfill monthly stats", e);
+        }
+    }
+
+    public void reconcileAll() {
+        long users = 0;
+        long drifted = 0;
+        Long afterId = 0L;
+
+        while (true) {
+            List<Long> userIds = userRepository.findIdsAfter(afterId, PageRequest.of(0, USER_PAGE_SIZE));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            for (Long userId : userIds) {
+                drifted += reconcileUser(userId);
+                users++;
+            }
+            afterId = userIds.get(userIds.size() - 1);
+        }
+        log.info(">>> [STATS] Reconciled monthly stats. users={}, driftedRows={}", users, drifted);
+    }
+
+    public void backfill() {
+        long users = 0;
+        Long afterId = 0L;
+
+        while (true) {
+            List<Long> userIds = userRepository.findIdsWithoutMonthlyStatsAfter(afterId,
+                    PageRequest.of(0, USER_PAGE_SIZE));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            for (Long userId : userIds) {
+                try {
+                    statsService.rebuild(userId);
+                    users++;
+                } catch (RuntimeException e) {
+                    log.warn(">>> [STATS] Failed to backfill monthly stats for user: {}", userId, e);
+                }
+            }
+            afterId = userIds.get(userIds.size() - 1);
+        }
+        if (users > 0) {
+            log.info(">>> [STATS] Backfilled monthly stats. users={}", users);
+        }
+    }
+
+    /**
+     * @return 재계산 값과 달라 보정한 롤업 행 수
+     */
+    public int reconcileUser(Long userId) {
+        int drifted = statsService.rebuild(userId);
+        if (drifted > 0) {
+            driftCounter.increment(drifted);
+        }
+        return drifted;
+    }
+}
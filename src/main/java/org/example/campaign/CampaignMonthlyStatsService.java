@@ -0,0 +1,167 @@
+package org.example.campaign;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.user.UserRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * campaign_monthly_stats 롤업 증분 갱신 / 조회 / 재계산.
+ * 롤업 도입 전 가입자(users.monthly_stats_ready 가 비어 있음)는 처음 조회할 때 campaign 테이블에서 다시 계산해 채운다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class CampaignMonthlyStatsService {
+
+    private final CampaignMonthlyStatRepository statRepository;
+    private final CampaignRepository campaignRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * 캠페인 변경 전/후 스냅샷의 차이만큼 롤업을 갱신한다. (생성은 before=null, 삭제는 after=null)
+     */
+    public void apply(CampaignStatsSnapshot before, CampaignStatsSnapshot after) {
+        apply(before != null ? List.of(before) : List.of(), after != null ? List.of(after) : List.of());
+    }
+
+    public void apply(Collection<CampaignStatsSnapshot> before, Collection<CampaignStatsSnapshot> after) {
+        Map<CampaignMonthlyStatKey, CampaignMonthlyStatCounts> deltas = new TreeMap<>(
+                CampaignMonthlyStatKey.LOCK_ORDER);
+        before.forEach(snapshot -> snapshot.contributeTo(deltas, -1));
+        after.forEach(snapshot -> snapshot.contributeTo(deltas, 1));
+
+        deltas.forEach((key, delta) -> {
+            if (!delta.isZero()) {
+                lockOrCreate(key).merge(delta);
+            }
+        });
+    }
+
+    /**
+     * 키의 롤업 행을 잠가 돌려준다. 없으면 빈 행을 insert ... on conflict do nothing 으로 먼저 만든다.
+     * 없는 행은 FOR UPDATE 로 잠글 수 없어, 처음 쓰는 두 요청이 둘 다 insert 해 유니크 키 충돌(500)이 나던 것을 막는다.
+     */
+    CampaignMonthlyStat lockOrCreate(CampaignMonthlyStatKey key) {
+        return find(key).orElseGet(() -> {
+            statRepository.insertIfAbsent(key.userId(), key.base().name(), key.statMonth(), key.categoryId());
+            return find(key).orElseThrow();
+        });
+    }
+
+    private Optional<CampaignMonthlyStat> find(CampaignMonthlyStatKey key) {
+        return statRepository.findByUserIdAndBaseAndStatMonthAndCategoryId(
+                key.userId(), key.base(), key.statMonth(), key.categoryId());
+    }
+
+    /**
+     * 롤업을 채우지 않은 사용자면 먼저 재계산한다. (그래서 읽기 전용 트랜잭션이 아니다)
+     */
+    public List<CampaignMonthlyStat> findStats(Long userId, CampaignStatisticsBase base, LocalDate startMonth,
+            LocalDate endMonth, Long categoryId) {
+        if (!userRepository.existsByIdAndMonthlyStatsReadyTrue(userId)) {
+            rebuild(userId);
+        }
+        return categoryId == null
+                ? statRepository.findByUserIdAndBaseAndStatMonthBetween(userId, base, startMonth, endMonth)
+                : statRepository.findByUserIdAndBaseAndStatMonthBetweenAndCategoryId(userId, base, startMonth,
+                        endMonth, categoryId);
+    }
+
+    /**
+     * campaign 테이블에서 사용자의 롤업을 다시 계산해 저장된 값과 맞춘다.
+     * 롤업 도입 전 가입자라면 이때 처음 채우고 채웠다고 표시한다. (그동안 쌓인 증분은 재계산 값으로 덮어쓴다)
+     *
+     * @return 재계산 값과 달라 보정한 롤업 행 수. 처음 채운 사용자는 0
+     */
+    public int rebuild(Long userId) {
+        // 롤업 행을 먼저 잠가, 대조 중 들어오는 증분 갱신이 재계산 결과 위에 적용되도록 한다.
+        Map<CampaignMonthlyStatKey, CampaignMonthlyStat> locked = statRepository.findByUserIdForUpdate(userId)
+                .stream()
+                .collect(Collectors.toMap(CampaignMonthlyStat::key, Function.identity()));
+        boolean backfill = userRepository.markMonthlyStatsReady(userId) > 0;
+
+        // 재계산 결과에만 있는 키는 만들어 잠근 뒤 다시 계산한다. 그 키를 먼저 만든 증분 갱신이 있었다면
+        // 잠금을 얻을 때 이미 커밋되어 있으므로, 다시 계산한 값에 그 변경이 들어 있다. (덮어써도 잃지 않는다)
+        Map<CampaignMonthlyStatKey, CampaignMonthlyStatCounts> expected = aggregate(userId);
+        List<CampaignMonthlyStatKey> missing = unlocked(expected, locked);
+        while (!missing.isEmpty()) {
+            missing.forEach(key -> locked.put(key, lockOrCreate(key)));
+            expected = aggregate(userId);
+            missing = unlocked(expected, locked);
+        }
+
+        int drifted = 0;
+        for (Map.Entry<CampaignMonthlyStatKey, CampaignMonthlyStatCounts> entry : expected.entrySet()) {
+            CampaignMonthlyStat stat = locked.remove(entry.getKey());
+            if (!stat.getCounts().equals(entry.getValue())) {
+                if (!backfill) {
+                    log.warn(">>> [STATS] {} {} stored={} expected={}",
+                            stat.getCounts().isZero() ? "Missing rollup" : "Drift on", entry.getKey(),
+                            stat.getCounts(), entry.getValue());
+                    drifted++;
+                }
+                stat.overwrite(entry.getValue());
+            }
+        }
+
+        // campaign 테이블에 더 이상 없는 롤업 행 정리
+        for (CampaignMonthlyStat leftover : locked.values()) {
+            if (!backfill && !leftover.getCounts().isZero()) {
+                log.warn(">>> [STATS] Orphan rollup {} stored={}", leftover.key(), leftover.getCounts());
+                drifted++;
+            }
+            statRepository.delete(leftover);
+        }
+
+        if (backfill) {
+            log.info(">>> [STATS] Backfilled monthly stats for user: {} (rows={})", userId, expected.size());
+        }
+        return drifted;
+    }
+
+    private Map<CampaignMonthlyStatKey, CampaignMonthlyStatCounts> aggregate(Long userId) {
+        Map<CampaignMonthlyStatKey, CampaignMonthlyStatCounts> expected = new HashMap<>();
+        collect(expected, userId, CampaignStatisticsBase.DEADLINE,
+                campaignRepository.aggregateMonthlyByDeadline(userId));
+        collect(expected, userId, CampaignStatisticsBase.VISIT_DATE,
+                campaignRepository.aggregateMonthlyByVisitDate(userId));
+        return expected;
+    }
+
+    // 증분 갱신(apply)과 같은 순서로 잠근다
+    private static List<CampaignMonthlyStatKey> unlocked(
+            Map<CampaignMonthlyStatKey, CampaignMonthlyStatCounts> expected,
+            Map<CampaignMonthlyStatKey, CampaignMonthlyStat> locked) {
+        return expected.keySet().stream()
+                .filter(key -> !locked.containsKey(key))
+                .sorted(CampaignMonthlyStatKey.LOCK_ORDER)
+                .toList();
+    }
+
+    private void collect(Map<CampaignMonthlyStatKey, CampaignMonthlyStatCounts> expected, Long userId,
+            CampaignStatisticsBase base, List<CampaignMonthlyAggregate> rows) {
+        for (CampaignMonthlyAggregate row : rows) {
+            CampaignMonthlyStatKey key = CampaignMonthlyStatKey.of(userId, base,
+                    LocalDate.of(row.getStatYear(), row.getStatMonth(), 1), row.getCategoryId());
+            expected.computeIfAbsent(key, k -> new CampaignMonthlyStatCounts())
+                    .add(row.getStatus(),
+                            row.getCampaignCount(),
+                            row.getSupportAmount(),
+                            row.getExtraCost(),
+                            row.getReceiptReviewCount());
+        }
+    }
+}
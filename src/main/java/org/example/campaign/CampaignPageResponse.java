@@ -0,0 +1,18 @@
+package org.example.campaign;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CampaignPageResponse {
+    private List<CampaignResponseDto> items;
+    private String nextCursor; // 마지막 페이지면 null
+    private boolean hasNext;
+}
@@ -1,12 +1,24 @@
 package org.example.campaign;
 
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface CampaignRepository
                 extends JpaRepository<Campaign, Long> {
@@ -14,37 +26,192 @@ public interface CampaignRepository
         @Query("""
                             select c from Campaign c
                             join fetch c.platform
+                            left join fetch c.category
                             where c.user.id = :userId
                         """)
         List<Campaign> findByUserId(Long userId);
 
+        // CampaignResponseDto 변환 시 platform/category 를 읽으므로 한 번에 가져온다
+        @EntityGraph(attributePaths = { "platform", "category" })
         Optional<Campaign> findByIdAndUser_Id(Long campaignId, Long userId);
 
         boolean existsByIdAndUser_Id(Long campaignId, Long userId);
 
+        // 상태 전이: 읽은 상태(:expected)가 그대로일 때만 반영한다. 행 잠금 없이 먼저 바꾼 쪽만 1 을 받는다.
+        // 방문일/리뷰 URL 은 넘긴 값만 바꾸고, 완료 시각은 처음 값을 유지한다.
+        // 벌크 update 는 AuditingEntityListener 를 거치지 않으므로 updatedAt/updatedBy 를 직접 넣는다.
+        @Modifying(clearAutomatically = true, flushAutomatically = true)
+        @Query("""
+                            update Campaign c
+                            set c.status = :status,
+                                c.visitDate = coalesce(:visitDate, c.visitDate),
+                                c.reviewUrl = coalesce(:reviewUrl, c.reviewUrl),
+                                c.completedAt = coalesce(c.completedAt, :completedAt),
+                                c.updatedAt = :now,
+                                c.updatedBy = :updatedBy,
+                                c.version = c.version + 1
+                            where c.id = :campaignId and c.user.id = :userId and c.status = :expected
+                        """)
+        int transitionStatus(Long campaignId, Long userId, Status expected, Status status, LocalDate visitDate,
+                        String reviewUrl, LocalDateTime completedAt, LocalDateTime now, Long updatedBy);
+
+        // 일괄 상태 변경: 다른 사용자의 캠페인은 읽지 않는다
+        List<Campaign> findAllByIdInAndUser_Id(Collection<Long> campaignIds, Long userId);
+
+        // 일괄 상태 변경: 같은 전이(expected → status, 방문일)의 캠페인을 한 문장으로 바꾼다.
+        // 그사이 상태가 바뀐 캠페인은 조건에 걸리지 않으므로 반환값이 id 수보다 작다.
+        @Modifying(clearAutomatically = true, flushAutomatically = true)
+        @Query("""
+                            update Campaign c
+                            set c.status = :status,
+                                c.visitDate = coalesce(:visitDate, c.visitDate),
+                                c.completedAt = coalesce(c.completedAt, :completedAt),
+                                c.updatedAt = :now,
+                                c.updatedBy = :updatedBy,
+                                c.version = c.version + 1
+                            where c.id in :campaignIds and c.user.id = :userId and c.status = :expected
+                        """)
+        int transitionStatuses(Collection<Long> campaignIds, Long userId, Status expected, Status status,
+                        LocalDate visitDate, LocalDateTime completedAt, LocalDateTime now, Long updatedBy);
+
+        @EntityGraph(attributePaths = { "platform", "category" })
         List<Campaign> findByUserIdAndStatus(Long userId, Status status, Sort sort);
 
-        @Query("select c from Campaign c where c.user.id = :userId and c.visitDate >= :start and c.visitDate <= :end")
-        List<Campaign> findByUserIdAndVisitDateBetween(Long userId, LocalDate start, LocalDate end);
+        // 키셋 페이지네이션: (deadline, id) 순. Pageable 은 limit 용도로만 사용한다 (offset 0).
+        @Query("""
+                            select c from Campaign c
+                            join fetch c.platform
+                            left join fetch c.category
+                            where c.user.id = :userId
+                            and (:status is null or c.status = :status)
+                            and c.deadline is not null
+                            and (c.deadline > :deadline or (c.deadline = :deadline and c.id > :id))
+                            order by c.deadline asc, c.id asc
+                        """)
+        List<Campaign> findDatedPageAfter(Long userId, Status status, LocalDate deadline, Long id, Pageable pageable);
 
-        @Query("select c from Campaign c where c.user.id = :userId and c.visitDate >= :start and c.visitDate <= :end and c.category.id = :categoryId")
-        List<Campaign> findByUserIdAndVisitDateBetweenAndCategory(Long userId, LocalDate start, LocalDate end,
-                        Long categoryId);
+        // 마감일 없는 캠페인은 마감일 있는 캠페인 뒤에 id 순으로 이어진다.
+        @Query("""
+                            select c from Campaign c
+                            join fetch c.platform
+                            left join fetch c.category
+                            where c.user.id = :userId
+                            and (:status is null or c.status = :status)
+                            and c.deadline is null
+                            and c.id > :id
+                            order by c.id asc
+                        """)
+        List<Campaign> findUndatedPageAfter(Long userId, Status status, Long id, Pageable pageable);
 
-        @Query("select c from Campaign c where c.user.id = :userId and c.deadline >= :start and c.deadline <= :end")
-        List<Campaign> findByUserIdAndDeadlineBetween(Long userId, LocalDate start, LocalDate end);
+        // NDJSON 스트리밍: JDBC 커서로 fetch size 만큼씩 읽는다. 반드시 트랜잭션 안에서 소비하고 닫아야 한다.
+        @QueryHints({
+                        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+                        @QueryHint(name = HINT_READ_ONLY, value = "true")
+        })
+        @Query("""
+                            select c from Campaign c
+                            join fetch c.platform
+                            left join fetch c.category
+                            where c.user.id = :userId
+                            and (:status is null or c.status = :status)
+                            order by c.deadline asc nulls last, c.id asc
+                        """)
+        Stream<Campaign> streamByUserId(Long userId, Status status);
+
+        // 조회 전용 DTO 프로젝션: 엔티티/프록시를 만들지 않고 CampaignResponseDto 컬럼만 읽는다
+        @Query("""
+                            select new org.example.campaign.CampaignResponseDto(
+                                   c.id, c.storeName, c.storePhone, c.address,
+                                   p.platformId, p.name, cat.id, cat.name,
+                                   c.supportAmount, c.extraCost, c.receiptReview,
+                                   c.experienceStartDate, c.experienceEndDate, c.deadline, c.visitDate,
+                                   c.availableDays, c.availableTime, c.status, c.completedAt)
+                            from Campaign c
+                            join c.platform p
+                            left join c.category cat
+                            where c.user.id = :userId
+                        """)
+        List<CampaignResponseDto> findDtosByUserId(Long userId, Sort sort);
+
+        @Query("""
+                            select new org.example.campaign.CampaignResponseDto(
+                                   c.id, c.storeName, c.storePhone, c.address,
+                                   p.platformId, p.name, cat.id, cat.name,
+                                   c.supportAmount, c.extraCost, c.receiptReview,
+                                   c.experienceStartDate, c.experienceEndDate, c.deadline, c.visitDate,
+                                   c.availableDays, c.availableTime, c.status, c.completedAt)
+                            from Campaign c
+                            join c.platform p
+                            left join c.category cat
+                            where c.user.id = :userId
+                            and c.status = :status
+                        """)
+        List<CampaignResponseDto> findDtosByUserIdAndStatus(Long userId, Status status, Sort sort);
 
-        @Query("select c from Campaign c where c.user.id = :userId and c.deadline >= :start and c.deadline <= :end and c.category.id = :categoryId")
-        List<Campaign> findByUserIdAndDeadlineBetweenAndCategory(Long userId, LocalDate start, LocalDate end,
-                        Long categoryId);
+        @Query("""
+                            select new org.example.campaign.CampaignResponseDto(
+                                   c.id, c.storeName, c.storePhone, c.address,
+                                   p.platformId, p.name, cat.id, cat.name,
+                                   c.supportAmount, c.extraCost, c.receiptReview,
+                                   c.experienceStartDate, c.experienceEndDate, c.deadline, c.visitDate,
+                                   c.availableDays, c.availableTime, c.status, c.completedAt)
+                            from Campaign c
+                            join c.platform p
+                            left join c.category cat
+                            where c.id = :campaignId
+                            and c.user.id = :userId
+                        """)
+        Optional<CampaignResponseDto> findDtoByIdAndUserId(Long campaignId, Long userId);
+
+        @Query("""
+                            select year(c.visitDate) as statYear, month(c.visitDate) as statMonth,
+                                   cat.id as categoryId, c.status as status,
+                                   count(c) as campaignCount,
+                                   coalesce(sum(c.supportAmount), 0) as supportAmount,
+                                   coalesce(sum(c.extraCost), 0) as extraCost,
+                                   sum(case when c.receiptReview = true then 1 else 0 end) as receiptReviewCount
+                            from Campaign c
+                            left join c.category cat
+                            where c.user.id = :userId
+                            and c.visitDate is not null
+                            and c.status is not null
+                            group by year(c.visitDate), month(c.visitDate), cat.id, c.status
+                        """)
+        List<CampaignMonthlyAggregate> aggregateMonthlyByVisitDate(Long userId);
+
+        @Query("""
+                            select year(c.deadline) as statYear, month(c.deadline) as statMonth,
+                                   cat.id as categoryId, c.status as status,
+                                   count(c) as campaignCount,
+                                   coalesce(sum(c.supportAmount), 0) as supportAmount,
+                                   coalesce(sum(c.extraCost), 0) as extraCost,
+                                   sum(case when c.receiptReview = true then 1 else 0 end) as receiptReviewCount
+                            from Campaign c
+                            left join c.category cat
+                            where c.user.id = :userId
+                            and c.deadline is not null
+                            and c.status is not null
+                            group by year(c.deadline), month(c.deadline), cat.id, c.status
+                        """)
+        List<CampaignMonthlyAggregate> aggregateMonthlyByDeadline(Long userId);
 
+        /**
+         * 알림 배치 청크의 캠페인. 사용자 id IN 목록 대신 청크의 (due, id) 키셋 구간 (from, to] 을 users 와 조인한다.
+         * users 는 idx_users_notification_due_at 범위 스캔, campaign 은 사용자별 (user_id, deadline) 인덱스로 읽는다.
+         * (PostgreSQL 에서는 진행 중 상태만 담은 부분 인덱스, CampaignIndexInitializer 참고)
+         * 구간 양 끝의 due 비교는 키셋 조건과 중복이지만 인덱스 범위 조건으로 쓰이도록 둔다.
+         */
         @Query("""
                             select c from Campaign c
                             join fetch c.platform
-                            join fetch c.user
-                            where c.user.id in :userIds
+                            join fetch c.user u
+                            where u.notificationDueAt >= :fromDueAt and u.notificationDueAt <= :toDueAt
+                            and (u.notificationDueAt > :fromDueAt or u.id > :fromId)
+                            and (u.notificationDueAt < :toDueAt or u.id <= :toId)
                             and c.status in (org.example.campaign.Status.PENDING, org.example.campaign.Status.RESERVED, org.example.campaign.Status.VISITED)
                             and c.deadline <= :threshold
+                            order by u.notificationDueAt, u.id, c.deadline, c.id
                         """)
-        List<Campaign> findByUsersAndDeadlineBefore(List<Long> userIds, LocalDate threshold);
+        List<Campaign> findNotifiableByUserDueRange(Instant fromDueAt, Long fromId, Instant toDueAt, Long toId,
+                        LocalDate threshold);
 }
@@ -36,6 +36,27 @@ public class CampaignResponseDto implements Serializable {
     private String status;
     private LocalDateTime completedAt;
 
+    /**
+     * JPQL 생성자 표현식(select new ...) 용. 엔티티를 거치지 않고 조회 컬럼을 바로 받는다.
+     */
+    public CampaignResponseDto(Long id, String storeName, String storePhone, String address,
+            Long platformId, String platformName, Long categoryId, String categoryName,
+            Long supportAmount, Long extraCost, Boolean receiptReview,
+            LocalDate experienceStartDate, LocalDate experienceEndDate, LocalDate deadline, LocalDate visitDate,
+            String availableDays, String availableTime, Status status, LocalDateTime completedAt) {
+        this(id, storeName, storePhone, address, platformId, platformName, categoryId, categoryName,
+                supportAmount, extraCost, Boolean.TRUE.equals(receiptReview),
+                experienceStartDate, experienceEndDate, deadline, visitDate,
+                splitAvailableDays(availableDays), availableTime, status != null ? status.name() : null,
+                completedAt);
+    }
+
+    private static List<String> splitAvailableDays(String availableDays) {
+        return availableDays == null
+                ? Collections.emptyList()
+                : Arrays.asList(availableDays.split(","));
+    }
+
     public static CampaignResponseDto fromEntity(Campaign s) {
         List<String> availableDaysList = s.getAvailableDays() == null
                 ? Collections.emptyList()
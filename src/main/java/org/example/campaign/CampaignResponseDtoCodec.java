@@ -0,0 +1,79 @@
+package org.example.campaign;
+
+import org.example.common.cache.CacheValueCodec;
+import org.example.common.cache.CompactInput;
+import org.example.common.cache.CompactOutput;
+import org.springframework.stereotype.Component;
+
+/**
+ * campaigns 캐시 값(CampaignResponseDto) 바이너리 codec. 필드 순서가 곧 형식이므로,
+ * 필드를 바꾸면 VERSION 을 올리고 read 에서 이전 version 을 분기한다.
+ */
+@Component
+public class CampaignResponseDtoCodec implements CacheValueCodec<CampaignResponseDto> {
+
+    static final int TYPE_ID = 1;
+    static final int VERSION = 1;
+
+    @Override
+    public int typeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public int version() {
+        return VERSION;
+    }
+
+    @Override
+    public Class<CampaignResponseDto> type() {
+        return CampaignResponseDto.class;
+    }
+
+    @Override
+    public void write(CampaignResponseDto dto, CompactOutput out) {
+        out.writeNullableLong(dto.getId());
+        out.writeString(dto.getStoreName());
+        out.writeString(dto.getStorePhone());
+        out.writeString(dto.getAddress());
+        out.writeNullableLong(dto.getPlatformId());
+        out.writeString(dto.getPlatformName());
+        out.writeNullableLong(dto.getCategoryId());
+        out.writeString(dto.getCategoryName());
+        out.writeNullableLong(dto.getSupportAmount());
+        out.writeNullableLong(dto.getExtraCost());
+        out.writeBoolean(dto.isReceiptReview());
+        out.writeDate(dto.getExperienceStartDate());
+        out.writeDate(dto.getExperienceEndDate());
+        out.writeDate(dto.getDeadline());
+        out.writeDate(dto.getVisitDate());
+        out.writeStringList(dto.getAvailableDays());
+        out.writeString(dto.getAvailableTime());
+        out.writeString(dto.getStatus());
+        out.writeDateTime(dto.getCompletedAt());
+    }
+
+    @Override
+    public CampaignResponseDto read(CompactInput in, int version) {
+        return new CampaignResponseDto(
+                in.readNullableLong(),
+                in.readString(),
+                in.readString(),
+                in.readString(),
+                in.readNullableLong(),
+                in.readString(),
+                in.readNullableLong(),
+                in.readString(),
+                in.readNullableLong(),
+                in.readNullableLong(),
+                in.readBoolean(),
+                in.readDate(),
+                in.readDate(),
+                in.readDate(),
+                in.readDate(),
+                in.readStringList(),
+                in.readString(),
+                in.readString(),
+                in.readDateTime());
+    }
+}
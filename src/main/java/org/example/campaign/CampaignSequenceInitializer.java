@@ -0,0 +1,47 @@
+package org.example.campaign;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * IDENTITY 로 쌓인 campaign 행이 있는 DB 에 campaign_seq 가 새로 생기면(ddl-auto: update) 1 부터 시작해 기존 id 와 겹친다.
+ * 시퀀스가 기존 최대 id 보다 뒤처져 있을 때만 앞으로 당긴다. (PostgreSQL 만, 다른 DB 는 새 스키마라 건너뛴다)
+ * pooled optimizer 는 nextval 값을 할당 구간의 끝으로 쓰므로 max(id) + 할당 크기로 맞춘다.
+ * EntityManagerFactory(스키마 갱신) 이후, 웹 요청을 받기 전에 실행되도록 빈 초기화 단계에서 처리한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CampaignSequenceInitializer implements InitializingBean {
+
+    static final String ALIGN_SEQUENCE = "SELECT setval('campaign_seq', m.max_id + " + Campaign.ID_ALLOCATION_SIZE
+            + ", false) FROM (SELECT COALESCE(MAX(campaign_id), 0) AS max_id FROM campaign) m"
+            + " WHERE (SELECT last_value FROM campaign_seq) < m.max_id";
+
+    private final DataSource dataSource;
+    // 스키마(시퀀스) 생성 이후에 실행되도록 의존만 건다
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public void afterPropertiesSet() {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                return;
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(ALIGN_SEQUENCE);
+            }
+        } catch (SQLException e) {
+            // 시퀀스가 뒤처진 상태면 insert 가 PK 충돌로 실패하므로 로그로 남긴다
+            log.warn(">>> [SCHEMA] Failed to align campaign_seq with existing campaign ids", e);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package org.example.campaign;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.extern.slf4j.Slf4j;
 import org.example.category.Category;
 import org.example.category.CategoryRepository;
@@ -9,6 +11,8 @@ import org.example.review.ReviewSubmittedEvent;
 import org.example.user.User;
 import org.example.user.UserRepository;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 // import org.springframework.kafka.core.KafkaTemplate;
@@ -17,21 +21,31 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @Transactional
 public class CampaignService {
 
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_TRANSITION_ATTEMPTS = 3;
+
     private final CampaignRepository campaignRepository;
     private final PlatformRepository platformRepository;
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
     private final CampaignMapper campaignMapper;
+    private final CampaignCacheEvictor campaignCacheEvictor;
+    private final CampaignMonthlyStatsService campaignMonthlyStatsService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
     // private final Optional<KafkaTemplate<String, ReviewSubmittedEvent>>
     // kafkaTemplate;
 
@@ -39,17 +53,19 @@ public class CampaignService {
             PlatformRepository platformRepository,
             CategoryRepository categoryRepository,
             UserRepository userRepository,
-            CampaignMapper campaignMapper) {
+            CampaignMapper campaignMapper,
+            CampaignCacheEvictor campaignCacheEvictor,
+            CampaignMonthlyStatsService campaignMonthlyStatsService) {
         this.campaignRepository = campaignRepository;
         this.platformRepository = platformRepository;
         this.categoryRepository = categoryRepository;
         this.userRepository = userRepository;
         this.campaignMapper = campaignMapper;
+        this.campaignCacheEvictor = campaignCacheEvictor;
+        this.campaignMonthlyStatsService = campaignMonthlyStatsService;
     }
 
-    @org.springframework.cache.annotation.CacheEvict(value = "campaigns", allEntries = true)
     public Campaign createCampaign(Long userId, CampaignCreateRequestDto request) {
-        log.info(">>> [CACHE] Evicting 'campaigns' cache for createCampaign");
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("유저 없음"));
 
@@ -70,38 +86,29 @@ public class CampaignService {
                 rewardPolicyId,
                 request);
         log.info(">>> [DB] Saving new campaign for user: {}", userId);
-        return campaignRepository.saveAndFlush(campaign);
+        Campaign saved = campaignRepository.saveAndFlush(campaign);
+        campaignMonthlyStatsService.apply(null, CampaignStatsSnapshot.of(saved));
+        campaignCacheEvictor.evictUser(userId);
+        return saved;
     }
 
+    // sync: 쓰기 후 evict 직후 여러 기기에서 동시에 miss 가 나도 DB 조회는 키당 한 번 (SingleFlight)
     @Transactional(readOnly = true)
-    @Cacheable(value = "campaigns", key = "'user:' + #userId + ':all'")
-    public List<Campaign> findAllByUserId(Long userId) {
+    @Cacheable(value = "campaigns", key = "'user:' + #userId + ':list'", sync = true)
+    public List<CampaignResponseDto> findAllByUserId(Long userId) {
         log.info(">>> [CACHE] MISS - Fetching all campaigns from DB for userId={}", userId);
-        return campaignRepository.findByUserId(userId);
+        return campaignRepository.findDtosByUserId(userId, Sort.unsorted());
     }
 
-    @org.springframework.cache.annotation.CacheEvict(value = "campaigns", allEntries = true)
     public void changeStatus(Long campaignId, Long userId, CampaignAction status, java.time.LocalDate visitDate) {
-        log.info(">>> [CACHE] Evicting 'campaigns' cache for changeStatus. campaignId={}, status={}", campaignId,
-                status);
-        Campaign s = campaignRepository.findByIdAndUser_Id(campaignId, userId)
-                .orElseThrow();
-
-        switch (status) {
-            case RESERVE -> {
-                if (visitDate == null) {
-                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "방문 예정일은 필수입니다.");
-                }
-                s.reserve(visitDate);
-            }
-            case VISIT -> s.visit();
-            case COMPLETE -> s.complete();
-            case CANCEL -> s.cancel();
-            default -> throw new IllegalArgumentException("지원 상태로 되돌릴 수 없음");
+        if (status == CampaignAction.RESERVE && visitDate == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "방문 예정일은 필수입니다.");
         }
         log.info(">>> [DB] Saving campaign status change. campaignId={}, action={}", campaignId, status);
-        campaignRepository.saveAndFlush(s);
-        log.info(">>> [CACHE] Evicted 'campaigns' cache for changeStatus.");
+        transition(campaignId, userId,
+                () -> campaignRepository.findByIdAndUser_Id(campaignId, userId).orElseThrow(),
+                campaign -> campaign.apply(status, visitDate),
+                status == CampaignAction.RESERVE ? visitDate : null, null);
     }
 
     @Transactional(readOnly = true)
@@ -109,19 +116,24 @@ public class CampaignService {
         return campaignRepository.findByIdAndUser_Id(campaignId, userId);
     }
 
+    @Transactional(readOnly = true)
+    public Optional<CampaignResponseDto> findCampaignDto(Long campaignId, Long userId) {
+        return campaignRepository.findDtoByIdAndUserId(campaignId, userId);
+    }
+
     public Campaign save(Campaign campaign) {
         return campaignRepository.save(campaign);
     }
 
-    @org.springframework.cache.annotation.CacheEvict(value = "campaigns", allEntries = true)
     public Campaign updateCampaign(Long campaignId, Long userId, CampaignResponseDto dto) {
-        log.info(">>> [CACHE] Evicting 'campaigns' cache for updateCampaign. campaignId={}", campaignId);
         Campaign existing = campaignRepository.findById(campaignId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
 
         if (!existing.getUser().getId().equals(userId))
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "본인 캠페인이 아닙니다.");
 
+        CampaignStatsSnapshot before = CampaignStatsSnapshot.of(existing);
+
         if (dto.getCategoryId() != null) {
             Category category = categoryRepository.findById(dto.getCategoryId())
                     .orElseThrow(() -> new IllegalArgumentException("카테고리 없음"));
@@ -141,26 +153,26 @@ public class CampaignService {
         campaignMapper.updateFromDto(dto, existing);
 
         log.info(">>> [DB] Updating campaign details. campaignId={}", campaignId);
-        return campaignRepository.saveAndFlush(existing);
+        Campaign saved = campaignRepository.saveAndFlush(existing);
+        campaignMonthlyStatsService.apply(before, CampaignStatsSnapshot.of(saved));
+        campaignCacheEvictor.evictUser(userId);
+        return saved;
     }
 
-    @org.springframework.cache.annotation.CacheEvict(value = "campaigns", allEntries = true)
     public void submitReview(Long campaignId, Long userId, String reviewUrl) {
-        log.info(">>> [CACHE] Evicting 'campaigns' cache for submitReview. campaignId={}", campaignId);
-
-        Campaign campaign = campaignRepository
-                .findByIdAndUser_Id(campaignId, userId)
-                .orElseThrow(() -> new AccessDeniedException("본인 캠페인이 아닙니다."));
-
-        if (campaign.getStatus() != Status.VISITED) {
-            throw new IllegalStateException("방문 완료 상태에서만 리뷰 등록 가능");
-        }
-
-        campaign.setReviewUrl(reviewUrl);
-        campaign.complete(); // DONE
         log.info(">>> [DB] Saving campaign review. campaignId={}", campaignId);
-        campaignRepository.saveAndFlush(campaign);
-        log.info(">>> [CACHE] Evicted 'campaigns' cache for submitReview.");
+        transition(campaignId, userId,
+                () -> campaignRepository
+                        .findByIdAndUser_Id(campaignId, userId)
+                        .orElseThrow(() -> new AccessDeniedException("본인 캠페인이 아닙니다.")),
+                campaign -> {
+                    if (campaign.getStatus() != Status.VISITED) {
+                        throw new IllegalStateException("방문 완료 상태에서만 리뷰 등록 가능");
+                    }
+                    campaign.setReviewUrl(reviewUrl);
+                    campaign.complete(); // DONE
+                },
+                null, reviewUrl);
 
         /*
          * kafkaTemplate.ifPresent(template -> {
@@ -185,51 +197,83 @@ public class CampaignService {
     }
 
     @Transactional(readOnly = true)
-    @Cacheable(value = "campaigns", key = "'user:' + #userId + ':status:' + (#status != null ? #status.name() : 'all') + ':order:' + #sort.toString()")
+    @Cacheable(value = "campaigns", key = "'user:' + #userId + ':status:' + (#status != null ? #status.name() : 'all') + ':order:' + #sort.toString()", sync = true)
     public List<CampaignResponseDto> findCampaigns(
             Long userId,
             Status status,
             Sort sort) {
         log.info(">>> [CACHE] MISS - Fetching campaigns from DB for userId={}, status={}, sort={}", userId, status,
                 sort);
-        List<Campaign> campaigns;
-
         if (status == null) {
-            campaigns = campaignRepository.findByUserId(userId);
-        } else {
-            campaigns = campaignRepository.findByUserIdAndStatus(userId, status, sort);
+            return campaignRepository.findDtosByUserId(userId, sort);
+        }
+        return campaignRepository.findDtosByUserIdAndStatus(userId, status, sort);
+    }
+
+    /**
+     * (deadline, id) 키셋 페이지네이션. 마감일 있는 캠페인을 먼저, 마감일 없는 캠페인을 id 순으로 이어서 반환한다.
+     * 페이지 단위 조회라 캐시하지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public CampaignPageResponse findCampaignPage(Long userId, Status status, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        CampaignCursor after = CampaignCursor.decode(cursor);
+        // 다음 페이지 존재 여부 확인용으로 한 건 더 읽는다
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Campaign> rows = new ArrayList<>(pageSize + 1);
+        if (!after.isUndated()) {
+            rows.addAll(campaignRepository.findDatedPageAfter(userId, status, after.deadline(), after.id(), limit));
+        }
+        if (rows.size() <= pageSize) {
+            Long afterId = after.isUndated() ? after.id() : 0L;
+            rows.addAll(campaignRepository.findUndatedPageAfter(userId, status, afterId,
+                    PageRequest.of(0, pageSize + 1 - rows.size())));
         }
 
-        return campaigns.stream()
-                .map(CampaignResponseDto::fromEntity)
-                .toList();
+        boolean hasNext = rows.size() > pageSize;
+        List<Campaign> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        return CampaignPageResponse.builder()
+                .items(page.stream().map(CampaignResponseDto::fromEntity).toList())
+                .nextCursor(hasNext ? CampaignCursor.after(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
     }
 
+    /**
+     * JDBC 커서로 읽으면서 한 건씩 consumer 에 넘긴다. 넘긴 엔티티는 바로 detach 해 영속성 컨텍스트가 커지지 않게 한다.
+     */
     @Transactional(readOnly = true)
+    public long streamCampaigns(Long userId, Status status, Consumer<CampaignResponseDto> consumer) {
+        long count = 0;
+        try (Stream<Campaign> campaigns = campaignRepository.streamByUserId(userId, status)) {
+            Iterator<Campaign> iterator = campaigns.iterator();
+            while (iterator.hasNext()) {
+                Campaign campaign = iterator.next();
+                consumer.accept(CampaignResponseDto.fromEntity(campaign));
+                entityManager.detach(campaign);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // 롤업을 아직 채우지 않은 사용자는 조회하면서 채우므로 읽기 전용이 아니다
     public CampaignMonthlyStatisticsResponse getMonthlyStatistics(Long userId, String startMonthStr, String endMonthStr,
             String base, Long categoryId) {
         YearMonth startMonth = YearMonth.parse(startMonthStr);
         YearMonth endMonth = YearMonth.parse(endMonthStr);
-        LocalDate start = startMonth.atDay(1);
-        LocalDate end = endMonth.atEndOfMonth();
-
-        List<Campaign> campaigns;
-        if ("visitDate".equalsIgnoreCase(base)) {
-            campaigns = (categoryId == null)
-                    ? campaignRepository.findByUserIdAndVisitDateBetween(userId, start, end)
-                    : campaignRepository.findByUserIdAndVisitDateBetweenAndCategory(userId, start, end, categoryId);
-        } else {
-            campaigns = (categoryId == null)
-                    ? campaignRepository.findByUserIdAndDeadlineBetween(userId, start, end)
-                    : campaignRepository.findByUserIdAndDeadlineBetweenAndCategory(userId, start, end, categoryId);
-        }
 
-        // Group by month
-        Map<String, List<Campaign>> grouped = campaigns.stream()
-                .collect(Collectors.groupingBy(c -> {
-                    LocalDate date = "visitDate".equalsIgnoreCase(base) ? c.getVisitDate() : c.getDeadline();
-                    return YearMonth.from(date).toString();
-                }));
+        // 증분 갱신되는 롤업(campaign_monthly_stats)에서 월 단위로 읽는다
+        List<CampaignMonthlyStat> stats = campaignMonthlyStatsService.findStats(userId,
+                CampaignStatisticsBase.from(base), startMonth.atDay(1), endMonth.atDay(1), categoryId);
+
+        Map<String, MonthlyStatisticsAccumulator> grouped = new HashMap<>();
+        for (CampaignMonthlyStat stat : stats) {
+            String monthLabel = YearMonth.from(stat.getStatMonth()).toString();
+            grouped.computeIfAbsent(monthLabel, MonthlyStatisticsAccumulator::new).add(stat.getCounts());
+        }
 
         List<CampaignMonthlyStatisticsResponse.MonthlyMetrics> monthlyData = new ArrayList<>();
         Map<String, Long> overallStatusDistribution = new HashMap<>();
@@ -238,13 +282,13 @@ public class CampaignService {
         YearMonth current = startMonth;
         while (!current.isAfter(endMonth)) {
             String monthLabel = current.toString();
-            List<Campaign> monthCampaigns = grouped.getOrDefault(monthLabel, Collections.emptyList());
-
-            CampaignMonthlyStatisticsResponse.MonthlyMetrics metrics = calculateMetrics(monthLabel, monthCampaigns);
-            monthlyData.add(metrics);
+            MonthlyStatisticsAccumulator accumulator = grouped.getOrDefault(monthLabel,
+                    new MonthlyStatisticsAccumulator(monthLabel));
+            monthlyData.add(accumulator.toMetrics());
 
             // Accumulate overall status
-            monthCampaigns.forEach(c -> overallStatusDistribution.merge(c.getStatus().name(), 1L, (v1, v2) -> v1 + v2));
+            accumulator.getStatusCount().forEach((status, count) -> overallStatusDistribution.merge(status, count,
+                    Long::sum));
 
             current = current.plusMonths(1);
         }
@@ -255,47 +299,7 @@ public class CampaignService {
                 .build();
     }
 
-    private CampaignMonthlyStatisticsResponse.MonthlyMetrics calculateMetrics(String month, List<Campaign> campaigns) {
-        long totalCount = campaigns.size();
-        Map<String, Long> statusCount = campaigns.stream()
-                .collect(Collectors.groupingBy(c -> c.getStatus().name(), Collectors.counting()));
-
-        long reserved = statusCount.getOrDefault(Status.RESERVED.name(), 0L)
-                + statusCount.getOrDefault(Status.VISITED.name(), 0L)
-                + statusCount.getOrDefault(Status.DONE.name(), 0L);
-        long visited = statusCount.getOrDefault(Status.VISITED.name(), 0L)
-                + statusCount.getOrDefault(Status.DONE.name(), 0L);
-        double visitRate = reserved == 0 ? 0 : (double) visited / reserved;
-
-        long done = statusCount.getOrDefault(Status.DONE.name(), 0L);
-        long reviewCount = campaigns.stream()
-                .filter(c -> Boolean.TRUE.equals(c.getReceiptReview()) && c.getStatus() == Status.DONE)
-                .count();
-        double reviewRate = done == 0 ? 0 : (double) reviewCount / done;
-
-        long totalSupport = campaigns.stream().mapToLong(c -> c.getSupportAmount() != null ? c.getSupportAmount() : 0)
-                .sum();
-        long totalExtra = campaigns.stream().mapToLong(c -> c.getExtraCost() != null ? c.getExtraCost() : 0).sum();
-        long totalExp = totalSupport + totalExtra;
-        double avgExp = totalCount == 0 ? 0 : (double) totalExp / totalCount;
-
-        return CampaignMonthlyStatisticsResponse.MonthlyMetrics.builder()
-                .month(month)
-                .totalCount(totalCount)
-                .statusCount(statusCount)
-                .visitRate(visitRate)
-                .reviewCount(reviewCount)
-                .reviewRate(reviewRate)
-                .totalSupportAmount(totalSupport)
-                .totalExtraCost(totalExtra)
-                .totalExpenditure(totalExp)
-                .averageExpenditure(avgExp)
-                .build();
-    }
-
-    @org.springframework.cache.annotation.CacheEvict(value = "campaigns", allEntries = true)
     public void deleteCampaign(Long campaignId, Long userId) {
-        log.info(">>> [CACHE] Evicting 'campaigns' cache for deleteCampaign. campaignId={}", campaignId);
         Campaign campaign = campaignRepository.findById(campaignId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "캠페인을 찾을 수 없습니다."));
 
@@ -303,7 +307,41 @@ public class CampaignService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "본인의 캠페인만 삭제할 수 있습니다.");
         }
 
+        campaignMonthlyStatsService.apply(CampaignStatsSnapshot.of(campaign), null);
         campaignRepository.delete(campaign);
+        campaignCacheEvictor.evictUser(userId);
     }
 
+    /**
+     * 상태 전이. 전이 규칙은 읽은 캠페인에 메모리에서 적용해 검사하고, 쓰기는 읽은 상태가 그대로일 때만 반영하는
+     * 조건부 UPDATE 한 문장으로 한다 (행 잠금을 잡고 기다리지 않는다).
+     * 다른 요청이 먼저 상태를 바꿨으면 다시 읽어 규칙부터 다시 검사하고, 그래도 계속 밀리면 409 로 알린다.
+     * 재시도는 같은 트랜잭션에서 다시 읽으므로 READ COMMITTED 를 전제로 한다.
+     *
+     * @param visitDate 바꿀 방문일 (바꾸지 않으면 null)
+     * @param reviewUrl 바꿀 리뷰 URL (바꾸지 않으면 null)
+     */
+    private void transition(Long campaignId, Long userId, Supplier<Campaign> loader, Consumer<Campaign> change,
+            java.time.LocalDate visitDate, String reviewUrl) {
+        for (int attempt = 1; attempt <= MAX_TRANSITION_ATTEMPTS; attempt++) {
+            Campaign campaign = loader.get();
+            // 규칙 검사용 사본. dirty checking 으로 같은 행을 다시 쓰지 않도록 떼어 낸다
+            entityManager.detach(campaign);
+            CampaignStatsSnapshot before = CampaignStatsSnapshot.of(campaign);
+            Status expected = campaign.getStatus();
+
+            change.accept(campaign);
+
+            int updated = campaignRepository.transitionStatus(campaignId, userId, expected, campaign.getStatus(),
+                    visitDate, reviewUrl, campaign.getCompletedAt(), LocalDateTime.now(), userId);
+            if (updated == 1) {
+                campaignMonthlyStatsService.apply(before, CampaignStatsSnapshot.of(campaign));
+                campaignCacheEvictor.evictUser(userId);
+                return;
+            }
+            log.warn(">>> [DB] Campaign status changed concurrently. campaignId={}, expected={}, attempt={}",
+                    campaignId, expected, attempt);
+        }
+        throw new ResponseStatusException(HttpStatus.CONFLICT, "다른 요청과 동시에 변경되었습니다. 다시 시도해 주세요.");
+    }
 }
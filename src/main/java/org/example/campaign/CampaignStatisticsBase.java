@@ -0,0 +1,13 @@
+package org.example.campaign;
+
+/**
+ * 월별 통계 기준일
+ */
+public enum CampaignStatisticsBase {
+    DEADLINE,
+    VISIT_DATE;
+
+    public static CampaignStatisticsBase from(String base) {
+        return "visitDate".equalsIgnoreCase(base) ? VISIT_DATE : DEADLINE;
+    }
+}
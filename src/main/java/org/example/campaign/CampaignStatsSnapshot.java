@@ -0,0 +1,48 @@
+package org.example.campaign;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 통계에 영향을 주는 캠페인 필드의 스냅샷. 변경 전/후 스냅샷의 차이로 롤업 증분을 만든다.
+ */
+public record CampaignStatsSnapshot(
+        Long userId,
+        Long categoryId,
+        LocalDate deadline,
+        LocalDate visitDate,
+        Status status,
+        boolean receiptReview,
+        long supportAmount,
+        long extraCost) {
+
+    public static CampaignStatsSnapshot of(Campaign c) {
+        return new CampaignStatsSnapshot(
+                c.getUser().getId(),
+                c.getCategory() != null ? c.getCategory().getId() : null,
+                c.getDeadline(),
+                c.getVisitDate(),
+                c.getStatus(),
+                Boolean.TRUE.equals(c.getReceiptReview()),
+                c.getSupportAmount() != null ? c.getSupportAmount() : 0,
+                c.getExtraCost() != null ? c.getExtraCost() : 0);
+    }
+
+    void contributeTo(Map<CampaignMonthlyStatKey, CampaignMonthlyStatCounts> deltas, int sign) {
+        if (status == null) {
+            return;
+        }
+        contribute(deltas, CampaignStatisticsBase.DEADLINE, deadline, sign);
+        contribute(deltas, CampaignStatisticsBase.VISIT_DATE, visitDate, sign);
+    }
+
+    private void contribute(Map<CampaignMonthlyStatKey, CampaignMonthlyStatCounts> deltas,
+            CampaignStatisticsBase base, LocalDate date, int sign) {
+        if (date == null) {
+            return;
+        }
+        deltas.computeIfAbsent(CampaignMonthlyStatKey.of(userId, base, date, categoryId),
+                key -> new CampaignMonthlyStatCounts())
+                .add(status, sign, sign * supportAmount, sign * extraCost, receiptReview ? sign : 0);
+    }
+}
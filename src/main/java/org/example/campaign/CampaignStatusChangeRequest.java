@@ -0,0 +1,17 @@
+package org.example.campaign;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CampaignStatusChangeRequest {
+    private Long campaignId;
+    private CampaignAction action;
+    // RESERVE 일 때만 필요
+    private LocalDate visitDate;
+}
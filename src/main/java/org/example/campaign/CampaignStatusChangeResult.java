@@ -0,0 +1,27 @@
+package org.example.campaign;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 상태 변경의 항목별 결과. 실패한 항목은 status 가 null 이고 message 에 사유를 담는다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CampaignStatusChangeResult {
+    private Long campaignId;
+    private CampaignAction action;
+    private boolean success;
+    private Status status;
+    private String message;
+
+    static CampaignStatusChangeResult succeeded(CampaignStatusChangeRequest request, Status status) {
+        return new CampaignStatusChangeResult(request.getCampaignId(), request.getAction(), true, status, null);
+    }
+
+    static CampaignStatusChangeResult failed(CampaignStatusChangeRequest request, String message) {
+        return new CampaignStatusChangeResult(request.getCampaignId(), request.getAction(), false, null, message);
+    }
+}
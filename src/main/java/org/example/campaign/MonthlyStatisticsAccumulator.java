@@ -0,0 +1,66 @@
+package org.example.campaign;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한 달치 집계 값을 누적해 MonthlyMetrics 로 변환한다.
+ */
+class MonthlyStatisticsAccumulator {
+
+    private final String month;
+    private final Map<String, Long> statusCount = new HashMap<>();
+    private long totalCount;
+    private long reviewCount;
+    private long totalSupport;
+    private long totalExtra;
+
+    MonthlyStatisticsAccumulator(String month) {
+        this.month = month;
+    }
+
+    void add(CampaignMonthlyStatCounts counts) {
+        for (Status status : Status.values()) {
+            long count = counts.countOf(status);
+            if (count != 0) {
+                totalCount += count;
+                statusCount.merge(status.name(), count, Long::sum);
+            }
+        }
+        totalSupport += counts.getTotalSupportAmount();
+        totalExtra += counts.getTotalExtraCost();
+        reviewCount += counts.getReceiptReviewDoneCount();
+    }
+
+    Map<String, Long> getStatusCount() {
+        return statusCount;
+    }
+
+    CampaignMonthlyStatisticsResponse.MonthlyMetrics toMetrics() {
+        long reserved = statusCount.getOrDefault(Status.RESERVED.name(), 0L)
+                + statusCount.getOrDefault(Status.VISITED.name(), 0L)
+                + statusCount.getOrDefault(Status.DONE.name(), 0L);
+        long visited = statusCount.getOrDefault(Status.VISITED.name(), 0L)
+                + statusCount.getOrDefault(Status.DONE.name(), 0L);
+        double visitRate = reserved == 0 ? 0 : (double) visited / reserved;
+
+        long done = statusCount.getOrDefault(Status.DONE.name(), 0L);
+        double reviewRate = done == 0 ? 0 : (double) reviewCount / done;
+
+        long totalExp = totalSupport + totalExtra;
+        double avgExp = totalCount == 0 ? 0 : (double) totalExp / totalCount;
+
+        return CampaignMonthlyStatisticsResponse.MonthlyMetrics.builder()
+                .month(month)
+                .totalCount(totalCount)
+                .statusCount(statusCount)
+                .visitRate(visitRate)
+                .reviewCount(reviewCount)
+                .reviewRate(reviewRate)
+                .totalSupportAmount(totalSupport)
+                .totalExtraCost(totalExtra)
+                .totalExpenditure(totalExp)
+                .averageExpenditure(avgExp)
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package org.example.category;
+
+import org.example.common.cache.CacheValueCodec;
+import org.example.common.cache.CompactInput;
+import org.example.common.cache.CompactOutput;
+import org.springframework.stereotype.Component;
+
+/**
+ * categories 캐시 값(CategoryResponseDto) 바이너리 codec.
+ */
+@Component
+public class CategoryResponseDtoCodec implements CacheValueCodec<CategoryResponseDto> {
+
+    static final int TYPE_ID = 2;
+    static final int VERSION = 1;
+
+    @Override
+    public int typeId() {
+        return TYPE_ID;
+    }
+
+    @Override
+    public int version() {
+        return VERSION;
+    }
+
+    @Override
+    public Class<CategoryResponseDto> type() {
+        return CategoryResponseDto.class;
+    }
+
+    @Override
+    public void write(CategoryResponseDto dto, CompactOutput out) {
+        out.writeNullableLong(dto.getId());
+        out.writeString(dto.getName());
+        out.writeNullableLong((long) dto.getDisplayOrder());
+        out.writeString(dto.getIsActive());
+    }
+
+    @Override
+    public CategoryResponseDto read(CompactInput in, int version) {
+        Long id = in.readNullableLong();
+        String name = in.readString();
+        Long displayOrder = in.readNullableLong();
+        return new CategoryResponseDto(id, name, displayOrder != null ? displayOrder.intValue() : 0, in.readString());
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.common.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCache;
+
+import java.util.Map;
+
+/**
+ * 키 prefix 단위 무효화. 캐시 구현체마다 지원 방식이 달라 한 곳에 모아 둔다.
+ */
+public final class CacheEvictionSupport {
+
+    private CacheEvictionSupport() {
+    }
+
+    public static void evictByPrefix(Cache cache, String prefix) {
+        if (cache instanceof InstrumentedCache instrumented) {
+            cache = instrumented.getDelegate();
+        }
+        if (cache instanceof TwoLevelCache twoLevelCache) {
+            twoLevelCache.evictByPrefix(prefix);
+        } else if (cache instanceof RedisCache redisCache) {
+            // {cacheName}::{prefix}* 패턴만 SCAN 후 삭제
+            redisCache.clear(prefix + "*");
+        } else if (cache.getNativeCache() instanceof Map<?, ?> store) {
+            store.keySet().removeIf(key -> key.toString().startsWith(prefix));
+        } else {
+            cache.clear();
+        }
+    }
+}
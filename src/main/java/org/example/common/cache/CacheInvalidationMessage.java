@@ -0,0 +1,26 @@
+package org.example.common.cache;
+
+/**
+ * 노드 간 L1 캐시 무효화 메시지 (Redis pub/sub).
+ * 형식: {nodeId}|{type}|{cacheName}|{key}
+ */
+public record CacheInvalidationMessage(String nodeId, Type type, String cacheName, String key) {
+
+    public enum Type {
+        KEY,
+        PREFIX,
+        ALL
+    }
+
+    public String encode() {
+        return nodeId + "|" + type.name() + "|" + cacheName + "|" + (key != null ? key : "");
+    }
+
+    public static CacheInvalidationMessage decode(String raw) {
+        String[] parts = raw.split("\\|", 4);
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("잘못된 캐시 무효화 메시지: " + raw);
+        }
+        return new CacheInvalidationMessage(parts[0], Type.valueOf(parts[1]), parts[2], parts[3]);
+    }
+}
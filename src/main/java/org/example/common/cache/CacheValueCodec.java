@@ -0,0 +1,22 @@
+package org.example.common.cache;
+
+/**
+ * 캐시 값 타입 하나의 바이너리 직렬화. (CompactRedisSerializer 가 typeId 로 찾아 쓴다)
+ * 필드를 추가/변경하면 version 을 올리고 read 에서 이전 version 도 읽는다.
+ * 모르는 (더 새로운) version 은 serializer 가 캐시 miss 로 처리하므로, 배포 중 Redis 를 비우지 않아도 된다.
+ */
+public interface CacheValueCodec<T> {
+
+    /**
+     * 타입 식별자. 한 번 정하면 바꾸지 않는다. (0 은 빈 리스트용으로 예약)
+     */
+    int typeId();
+
+    int version();
+
+    Class<T> type();
+
+    void write(T value, CompactOutput out);
+
+    T read(CompactInput in, int version);
+}
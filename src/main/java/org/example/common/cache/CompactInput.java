@@ -0,0 +1,100 @@
+package org.example.common.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CompactOutput 으로 쓴 값 읽기. 잘린 입력은 IllegalStateException.
+ */
+public final class CompactInput {
+
+    private final byte[] buffer;
+    private final int limit;
+    private int position;
+
+    public CompactInput(byte[] buffer, int offset, int limit) {
+        this.buffer = buffer;
+        this.position = offset;
+        this.limit = limit;
+    }
+
+    public int position() {
+        return position;
+    }
+
+    public int readByte() {
+        if (position >= limit) {
+            throw new IllegalStateException("Truncated cache value");
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    public boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    public long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("Malformed varint in cache value");
+    }
+
+    public int readVarInt() {
+        return (int) readVarLong();
+    }
+
+    public Long readNullableLong() {
+        return readBoolean() ? unzigzag(readVarLong()) : null;
+    }
+
+    public String readString() {
+        int length = readVarInt() - 1;
+        if (length < 0) {
+            return null;
+        }
+        if (length > limit - position) {
+            throw new IllegalStateException("Truncated cache value");
+        }
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    public LocalDate readDate() {
+        return readBoolean() ? LocalDate.ofEpochDay(unzigzag(readVarLong())) : null;
+    }
+
+    public LocalDateTime readDateTime() {
+        if (!readBoolean()) {
+            return null;
+        }
+        long epochSecond = unzigzag(readVarLong());
+        return LocalDateTime.ofEpochSecond(epochSecond, readVarInt(), ZoneOffset.UTC);
+    }
+
+    public List<String> readStringList() {
+        int size = readVarInt() - 1;
+        if (size < 0) {
+            return null;
+        }
+        List<String> values = new ArrayList<>(Math.min(size, limit - position));
+        for (int i = 0; i < size; i++) {
+            values.add(readString());
+        }
+        return values;
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,171 @@
+package org.example.common.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캐시 값 직렬화. CacheValueCodec 이 등록된 타입(과 그 타입만 담은 List)은 바이너리로,
+ * 나머지는 기존 JSON(fallback) 으로 쓴다. JSON 처럼 값마다 @class 와 필드 이름을 싣지 않는다.
+ *
+ * 바이너리 형식: MAGIC(1) | flags(1) | typeId(varint) | version(varint) | [압축 전 길이(varint)] | payload
+ * - flags: LIST 면 payload 가 개수(varint) + 원소들, LZ4 면 payload 가 압축되어 있음
+ * - 첫 바이트가 MAGIC 이 아니면 JSON 으로 읽으므로 전환 전에 쓴 엔트리도 그대로 읽힌다
+ * - 모르는 typeId 나 더 새로운 version 은 null(캐시 miss)로 읽어, 배포 중 Redis 를 비우지 않아도 된다
+ */
+@Slf4j
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    // JSON 텍스트의 첫 바이트가 될 수 없는 값
+    static final byte MAGIC = (byte) 0xCB;
+    static final int FLAG_LIST = 1;
+    static final int FLAG_LZ4 = 1 << 1;
+    static final int EMPTY_LIST_TYPE_ID = 0;
+
+    private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+    private static final LZ4FastDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().fastDecompressor();
+
+    private final Map<Class<?>, CacheValueCodec<?>> codecsByType = new HashMap<>();
+    private final Map<Integer, CacheValueCodec<?>> codecsById = new HashMap<>();
+    private final RedisSerializer<Object> fallback;
+    private final int compressThreshold;
+    private final boolean writeCompact;
+
+    /**
+     * @param compressThreshold payload 가 이 크기(byte) 이상이면 LZ4 로 압축한다
+     * @param writeCompact      false 면 읽기만 바이너리를 지원하고 쓰기는 JSON (첫 배포 중 이전 노드와 섞일 때)
+     */
+    public CompactRedisSerializer(List<? extends CacheValueCodec<?>> codecs, RedisSerializer<Object> fallback,
+            int compressThreshold, boolean writeCompact) {
+        for (CacheValueCodec<?> codec : codecs) {
+            if (codec.typeId() == EMPTY_LIST_TYPE_ID || codecsById.putIfAbsent(codec.typeId(), codec) != null) {
+                throw new IllegalStateException("Duplicate or reserved cache codec typeId: " + codec.typeId());
+            }
+            codecsByType.put(codec.type(), codec);
+        }
+        this.fallback = fallback;
+        this.compressThreshold = compressThreshold;
+        this.writeCompact = writeCompact;
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        if (value == null || !writeCompact) {
+            return fallback.serialize(value);
+        }
+        if (value instanceof List<?> list) {
+            if (list.isEmpty()) {
+                return new byte[] { MAGIC, FLAG_LIST, EMPTY_LIST_TYPE_ID, 0 };
+            }
+            CacheValueCodec<?> codec = codecForElements(list);
+            return codec != null ? encode(codec, list, true) : fallback.serialize(value);
+        }
+        CacheValueCodec<?> codec = codecsByType.get(value.getClass());
+        return codec != null ? encode(codec, List.of(value), false) : fallback.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+
+        try {
+            CompactInput header = new CompactInput(bytes, 1, bytes.length);
+            int flags = header.readByte();
+            int typeId = header.readVarInt();
+            int version = header.readVarInt();
+            if (typeId == EMPTY_LIST_TYPE_ID) {
+                return new ArrayList<>();
+            }
+
+            CacheValueCodec<?> codec = codecsById.get(typeId);
+            if (codec == null || version > codec.version()) {
+                // 더 새로운 노드가 쓴 값: miss 로 보고 DB 에서 다시 읽는다
+                log.debug(">>> [CACHE] Unknown cache codec type={} version={}, treating as miss", typeId, version);
+                return null;
+            }
+
+            CompactInput in;
+            if ((flags & FLAG_LZ4) != 0) {
+                int length = header.readVarInt();
+                byte[] raw = DECOMPRESSOR.decompress(bytes, header.position(), length);
+                in = new CompactInput(raw, 0, raw.length);
+            } else {
+                in = new CompactInput(bytes, header.position(), bytes.length);
+            }
+
+            if ((flags & FLAG_LIST) == 0) {
+                return codec.read(in, version);
+            }
+            int size = in.readVarInt();
+            List<Object> values = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                values.add(codec.read(in, version));
+            }
+            return values;
+        } catch (RuntimeException e) {
+            // 깨진 값 때문에 조회가 실패하지 않도록 miss 로 처리한다 (새 값으로 덮어쓰인다)
+            log.warn(">>> [CACHE] Failed to read compact cache value ({} bytes), treating as miss", bytes.length, e);
+            return null;
+        }
+    }
+
+    // 원소가 모두 같은 타입이고 그 타입의 codec 이 있을 때만 바이너리로 쓴다
+    private CacheValueCodec<?> codecForElements(List<?> list) {
+        Object first = list.get(0);
+        if (first == null) {
+            return null;
+        }
+        Class<?> type = first.getClass();
+        for (Object element : list) {
+            if (element == null || element.getClass() != type) {
+                return null;
+            }
+        }
+        return codecsByType.get(type);
+    }
+
+    @SuppressWarnings("unchecked")
+    private byte[] encode(CacheValueCodec<?> codec, List<?> values, boolean list) {
+        CacheValueCodec<Object> objectCodec = (CacheValueCodec<Object>) codec;
+        CompactOutput payload = new CompactOutput(64 * values.size());
+        if (list) {
+            payload.writeVarInt(values.size());
+        }
+        for (Object value : values) {
+            objectCodec.write(value, payload);
+        }
+
+        byte[] compressed = null;
+        if (payload.size() >= compressThreshold) {
+            compressed = COMPRESSOR.compress(payload.buffer(), 0, payload.size());
+            if (compressed.length >= payload.size()) {
+                compressed = null; // 압축 이득이 없으면 원본 그대로
+            }
+        }
+
+        CompactOutput out = new CompactOutput((compressed != null ? compressed.length : payload.size()) + 16);
+        out.writeByte(MAGIC);
+        out.writeByte((list ? FLAG_LIST : 0) | (compressed != null ? FLAG_LZ4 : 0));
+        out.writeVarInt(codec.typeId());
+        out.writeVarInt(codec.version());
+        if (compressed != null) {
+            out.writeVarInt(payload.size());
+            out.writeBytes(compressed, 0, compressed.length);
+        } else {
+            out.writeBytes(payload.buffer(), 0, payload.size());
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,109 @@
+package org.example.common.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 노드 간 캐시 적재 잠금 (Redis SET NX PX).
+ * 잠금을 얻은 노드만 loader 를 실행하고, 나머지 노드는 캐시에 값이 채워질 때까지 잠깐 기다렸다 읽는다.
+ * DB 부하를 줄이기 위한 장치라 Redis 오류나 대기 시간 초과 시에는 그냥 직접 적재한다.
+ * 잠금 TTL 은 짧게 두어 적재하던 노드가 죽어도 곧 풀리게 한다.
+ */
+@Slf4j
+public class DistributedLoadLock {
+
+    static final String KEY_PREFIX = "cache:load-lock:";
+
+    // 내가 잡은 잠금일 때만 지운다 (TTL 로 풀린 뒤 다른 노드가 잡은 잠금을 지우지 않도록)
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Duration lockTtl;
+    private final Duration waitTimeout;
+    private final Duration pollInterval;
+
+    public DistributedLoadLock(StringRedisTemplate redisTemplate, MeterRegistry meterRegistry, Duration lockTtl,
+            Duration waitTimeout, Duration pollInterval) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.lockTtl = lockTtl;
+        this.waitTimeout = waitTimeout;
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * @param recheck 다른 노드가 채웠는지 확인 (캐시 조회)
+     * @param store   직접 적재한 값을 캐시에 쓴다 (잠금을 풀기 전에)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(String name, String key, Supplier<Cache.ValueWrapper> recheck, Callable<T> loader,
+            Consumer<T> store) throws Exception {
+        String lockKey = KEY_PREFIX + name + ":" + key;
+        String token = UUID.randomUUID().toString();
+
+        Boolean acquired;
+        try {
+            acquired = redisTemplate.opsForValue().setIfAbsent(lockKey, token, lockTtl);
+        } catch (RuntimeException e) {
+            log.warn(">>> [CACHE] Load lock unavailable for {}, loading locally", lockKey, e);
+            acquired = null;
+        }
+
+        if (Boolean.TRUE.equals(acquired)) {
+            try {
+                return loadAndStore(loader, store);
+            } finally {
+                release(lockKey, token);
+            }
+        }
+        if (acquired == null) {
+            return loadAndStore(loader, store);
+        }
+
+        // 다른 노드가 적재 중: 캐시에 채워지기를 기다린다
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        try {
+            while (System.nanoTime() < deadline) {
+                Thread.sleep(pollInterval.toMillis());
+                Cache.ValueWrapper loaded = recheck.get();
+                if (loaded != null) {
+                    meterRegistry.counter("cache.singleflight.remote", "cache", name, "result", "hit").increment();
+                    return (T) loaded.get();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        meterRegistry.counter("cache.singleflight.remote", "cache", name, "result", "timeout").increment();
+        return loadAndStore(loader, store);
+    }
+
+    private <T> T loadAndStore(Callable<T> loader, Consumer<T> store) throws Exception {
+        T value = loader.call();
+        store.accept(value);
+        return value;
+    }
+
+    private void release(String lockKey, String token) {
+        try {
+            redisTemplate.execute(RELEASE, List.of(lockKey), token);
+        } catch (RuntimeException e) {
+            // TTL 이 지나면 풀린다
+            log.warn(">>> [CACHE] Failed to release load lock {}", lockKey, e);
+        }
+    }
+}
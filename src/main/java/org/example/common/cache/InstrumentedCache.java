@@ -0,0 +1,202 @@
+package org.example.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * hit/miss 를 기록하는 Cache 데코레이터.
+ * 스프링 캐시 인터셉터가 호출한 조회 결과를 그대로 세기 때문에 Redis 왕복이 늘지 않는다.
+ * 지표 이름과 태그는 Micrometer 캐시 지표(CaffeineCacheMetrics 등)와 같다: cache.gets{cache, result=hit|miss},
+ * cache.puts{cache}, cache.evictions{cache}. sync=true 적재 시간은 cache.loads{cache} 로 남긴다.
+ * singleFlight 가 있으면 sync=true 적재를 키 단위로 합친다. (2단 캐시는 TwoLevelCache 가 이미 합친다)
+ */
+@Slf4j
+public class InstrumentedCache implements Cache {
+
+    private final Cache delegate;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter puts;
+    private final Counter evictions;
+    private final Timer loads;
+
+    private final SingleFlight singleFlight;
+    private final DistributedLoadLock loadLock;
+
+    public InstrumentedCache(Cache delegate, MeterRegistry meterRegistry) {
+        this(delegate, meterRegistry, null, null);
+    }
+
+    /**
+     * @param singleFlight null 이면 위임 캐시의 get(key, loader) 를 그대로 쓴다
+     * @param loadLock     노드 간 적재 잠금 (선택)
+     */
+    public InstrumentedCache(Cache delegate, MeterRegistry meterRegistry, SingleFlight singleFlight,
+            DistributedLoadLock loadLock) {
+        this.delegate = delegate;
+        this.singleFlight = singleFlight;
+        this.loadLock = loadLock;
+        String name = delegate.getName();
+        this.hits = Counter.builder("cache.gets").tag("cache", name).tag("result", "hit")
+                .description("the number of times cache lookup methods have returned a cached value")
+                .register(meterRegistry);
+        this.misses = Counter.builder("cache.gets").tag("cache", name).tag("result", "miss")
+                .description("the number of times cache lookup methods have not returned a value")
+                .register(meterRegistry);
+        this.puts = Counter.builder("cache.puts").tag("cache", name).register(meterRegistry);
+        this.evictions = Counter.builder("cache.evictions").tag("cache", name).register(meterRegistry);
+        this.loads = Timer.builder("cache.loads").tag("cache", name).register(meterRegistry);
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        record(key, wrapper != null);
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        // 한 번만 읽도록 delegate.get(key, type) 대신 get(key) 후 타입을 확인한다
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // loader 가 실행되었으면 miss (다른 스레드의 적재를 기다려 받은 값은 hit)
+        AtomicBoolean loaded = new AtomicBoolean();
+        Callable<T> timedLoader = () -> {
+            loaded.set(true);
+            return loads.recordCallable(valueLoader);
+        };
+        T value = singleFlight == null || delegate instanceof TwoLevelCache
+                ? delegate.get(key, timedLoader)
+                : loadOnce(key, valueLoader, timedLoader);
+        record(key, !loaded.get());
+        return value;
+    }
+
+    /*
+     * RedisCache.get(key, loader) 는 캐시 전체에 synchronized 라 다른 키의 적재까지 한 줄로 세운다.
+     * TwoLevelCache 와 같이 키 단위로 합쳐(노드 간 잠금이 있으면 함께) 직접 적재하고 저장한다.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T loadOnce(Object key, Callable<T> valueLoader, Callable<T> timedLoader) {
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        String flightKey = String.valueOf(key);
+        try {
+            return singleFlight.execute(getName(), flightKey, () -> {
+                // 기다리는 사이 앞선 적재가 채웠을 수 있다
+                ValueWrapper loaded = delegate.get(key);
+                if (loaded != null) {
+                    return (T) loaded.get();
+                }
+                if (loadLock != null) {
+                    return loadLock.load(getName(), flightKey, () -> delegate.get(key), timedLoader,
+                            v -> delegate.put(key, v));
+                }
+                T value = timedLoader.call();
+                delegate.put(key, value);
+                return value;
+            });
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+        puts.increment();
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, value);
+        if (existing == null) {
+            puts.increment();
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        evictions.increment();
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = delegate.evictIfPresent(key);
+        if (evicted) {
+            evictions.increment();
+        }
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    private void record(Object key, boolean hit) {
+        if (hit) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        log.debug(">>> [CACHE] {} - Key: [{}:{}]", hit ? "HIT" : "MISS", delegate.getName(), key);
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.common.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 위임 CacheManager 의 캐시를 InstrumentedCache 로 감싼다. 캐시마다 데코레이터(와 지표)는 한 번만 만든다.
+ * singleFlight 를 주면 sync=true 적재를 키 단위로 합친다. (L1 캐시를 쓰지 않는 캐시도 포함)
+ */
+public class InstrumentedCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final MeterRegistry meterRegistry;
+    private final SingleFlight singleFlight;
+    private final DistributedLoadLock loadLock;
+    private final ConcurrentMap<String, InstrumentedCache> caches = new ConcurrentHashMap<>();
+
+    public InstrumentedCacheManager(CacheManager delegate, MeterRegistry meterRegistry) {
+        this(delegate, meterRegistry, null, null);
+    }
+
+    public InstrumentedCacheManager(CacheManager delegate, MeterRegistry meterRegistry, SingleFlight singleFlight,
+            DistributedLoadLock loadLock) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+        this.singleFlight = singleFlight;
+        this.loadLock = loadLock;
+    }
+
+    public CacheManager getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        InstrumentedCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> new InstrumentedCache(target, meterRegistry, singleFlight, loadLock));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
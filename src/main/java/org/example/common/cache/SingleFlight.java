@@ -0,0 +1,69 @@
+package org.example.common.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 같은 키의 캐시 적재를 노드 안에서 한 번만 실행한다.
+ * 먼저 온 요청(leader)이 호출 스레드에서 loader 를 실행하고, 그 사이 같은 키로 들어온 요청은 그 결과(또는 예외)를 기다린다.
+ * 적재가 끝나면 키를 지우므로 결과를 보관하지 않는다. (보관은 캐시의 몫)
+ */
+public class SingleFlight {
+
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public SingleFlight(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * @param name 지표 태그 (캐시 이름)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, String key, Callable<T> loader) throws Exception {
+        String flightKey = name + ':' + key;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(flightKey, flight);
+        if (leader != null) {
+            meterRegistry.counter("cache.singleflight.coalesced", "cache", name).increment();
+            return (T) await(leader);
+        }
+
+        meterRegistry.counter("cache.singleflight.loads", "cache", name).increment();
+        try {
+            T value = loader.call();
+            flight.complete(value);
+            return value;
+        } catch (Exception | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static Object await(CompletableFuture<Object> leader) throws Exception {
+        try {
+            return leader.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
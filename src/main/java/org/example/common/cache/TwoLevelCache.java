@@ -0,0 +1,205 @@
+package org.example.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+
+/**
+ * L1(프로세스 내 Caffeine) + L2(Redis) 2단 캐시.
+ * 조회는 L1 → L2 순서로 하고, L2 HIT은 L1으로 승격한다.
+ * 쓰기/무효화는 L2에 반영한 뒤 다른 노드의 L1을 비우도록 pub/sub 메시지를 발행한다.
+ * get(key, loader) 의 적재는 키별로 한 번만 실행한다. (SingleFlight, 설정 시 노드 간 DistributedLoadLock)
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local;
+    private final TwoLevelCacheManager cacheManager;
+    private final SingleFlight singleFlight;
+    private final DistributedLoadLock loadLock;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter promotions;
+
+    public TwoLevelCache(String name,
+            Cache remote,
+            com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local,
+            TwoLevelCacheManager cacheManager,
+            MeterRegistry meterRegistry,
+            SingleFlight singleFlight,
+            DistributedLoadLock loadLock) {
+        this.name = name;
+        this.remote = remote;
+        this.local = local;
+        this.cacheManager = cacheManager;
+        this.singleFlight = singleFlight;
+        this.loadLock = loadLock;
+
+        this.hits = Counter.builder("cache.near.hits").tag("cache", name).register(meterRegistry);
+        this.misses = Counter.builder("cache.near.misses").tag("cache", name).register(meterRegistry);
+        this.promotions = Counter.builder("cache.near.promotions").tag("cache", name).register(meterRegistry);
+        Gauge.builder("cache.near.size", local, c -> c.estimatedSize())
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    public Cache getRemote() {
+        return remote;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+        ValueWrapper wrapper = local.getIfPresent(localKey);
+        if (wrapper != null) {
+            hits.increment();
+            return wrapper;
+        }
+
+        wrapper = remote.get(key);
+        if (wrapper == null) {
+            misses.increment();
+            return null;
+        }
+
+        promotions.increment();
+        local.put(localKey, wrapper);
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        try {
+            return singleFlight.execute(name, toLocalKey(key), () -> loadThrough(key, valueLoader));
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    /*
+     * leader 만 실행한다. RedisCache.get(key, loader) 는 캐시 전체에 synchronized 라 쓰지 않고 직접 적재한다.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T loadThrough(Object key, Callable<T> valueLoader) throws Exception {
+        String localKey = toLocalKey(key);
+        // 기다리는 사이 앞선 적재가 L2 를 채웠을 수 있다
+        ValueWrapper loaded = remote.get(key);
+        T value;
+        if (loaded != null) {
+            value = (T) loaded.get();
+        } else if (loadLock != null) {
+            value = loadLock.load(name, localKey, () -> remote.get(key), valueLoader, v -> remote.put(key, v));
+        } else {
+            value = valueLoader.call();
+            remote.put(key, value);
+        }
+        local.put(localKey, new SimpleValueWrapper(value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(toLocalKey(key), new SimpleValueWrapper(value));
+        cacheManager.publish(CacheInvalidationMessage.Type.KEY, name, toLocalKey(key));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        local.invalidate(toLocalKey(key));
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(toLocalKey(key));
+        cacheManager.publish(CacheInvalidationMessage.Type.KEY, name, toLocalKey(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remote.evictIfPresent(key);
+        local.invalidate(toLocalKey(key));
+        cacheManager.publish(CacheInvalidationMessage.Type.KEY, name, toLocalKey(key));
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        cacheManager.publish(CacheInvalidationMessage.Type.ALL, name, null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remote.invalidate();
+        local.invalidateAll();
+        cacheManager.publish(CacheInvalidationMessage.Type.ALL, name, null);
+        return invalidated;
+    }
+
+    public void evictByPrefix(String prefix) {
+        CacheEvictionSupport.evictByPrefix(remote, prefix);
+        evictLocalByPrefix(prefix);
+        cacheManager.publish(CacheInvalidationMessage.Type.PREFIX, name, prefix);
+    }
+
+    /* 다른 노드에서 받은 무효화 메시지 처리 (L1만 비운다) */
+    void evictLocal(String key) {
+        local.invalidate(key);
+    }
+
+    void evictLocalByPrefix(String prefix) {
+        local.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    void clearLocal() {
+        local.invalidateAll();
+    }
+
+    private String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,135 @@
+package org.example.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * RedisCacheManager 앞에 프로세스 내 L1 캐시를 두는 CacheManager.
+ * nearCacheNames 에 포함된 캐시만 2단으로 구성하고, 나머지는 Redis 캐시를 그대로 반환한다.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+
+    private final CacheManager remoteCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Set<String> nearCacheNames;
+    private final long maximumSize;
+    private final Duration ttl;
+    private final SingleFlight singleFlight;
+    private final DistributedLoadLock loadLock;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            Set<String> nearCacheNames,
+            long maximumSize,
+            Duration ttl) {
+        this(remoteCacheManager, redisTemplate, meterRegistry, nearCacheNames, maximumSize, ttl,
+                new SingleFlight(meterRegistry), null);
+    }
+
+    /**
+     * @param loadLock 노드 간 적재 잠금 (null 이면 노드 안에서만 적재를 합친다)
+     */
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+            StringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            Set<String> nearCacheNames,
+            long maximumSize,
+            Duration ttl,
+            SingleFlight singleFlight,
+            DistributedLoadLock loadLock) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.nearCacheNames = nearCacheNames;
+        this.maximumSize = maximumSize;
+        this.ttl = ttl;
+        this.singleFlight = singleFlight;
+        this.loadLock = loadLock;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        if (!nearCacheNames.contains(name)) {
+            return remoteCacheManager.getCache(name);
+        }
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        Set<String> names = new LinkedHashSet<>(remoteCacheManager.getCacheNames());
+        names.addAll(caches.keySet());
+        return names;
+    }
+
+    private TwoLevelCache createCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            throw new IllegalStateException("L2 캐시를 찾을 수 없습니다: " + name);
+        }
+        com.github.benmanes.caffeine.cache.Cache<String, Cache.ValueWrapper> local = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+        return new TwoLevelCache(name, remote, local, this, meterRegistry, singleFlight, loadLock);
+    }
+
+    void publish(CacheInvalidationMessage.Type type, String cacheName, String key) {
+        CacheInvalidationMessage message = new CacheInvalidationMessage(nodeId, type, cacheName, key);
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message.encode());
+        } catch (Exception e) {
+            // 발행 실패 시 다른 노드의 L1은 TTL 만료로 정리된다.
+            log.warn(">>> [CACHE] Failed to publish invalidation {}: {}", message.encode(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidationMessage invalidation;
+        try {
+            invalidation = CacheInvalidationMessage.decode(new String(message.getBody(), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            log.warn(">>> [CACHE] {}", e.getMessage());
+            return;
+        }
+        if (nodeId.equals(invalidation.nodeId())) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(invalidation.cacheName());
+        if (cache == null) {
+            return;
+        }
+        switch (invalidation.type()) {
+            case KEY -> cache.evictLocal(invalidation.key());
+            case PREFIX -> cache.evictLocalByPrefix(invalidation.key());
+            case ALL -> cache.clearLocal();
+        }
+        log.debug(">>> [CACHE] L1 invalidated by node {}: {} {}:{}", invalidation.nodeId(), invalidation.type(),
+                invalidation.cacheName(), invalidation.key());
+    }
+}
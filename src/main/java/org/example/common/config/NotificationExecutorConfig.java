@@ -0,0 +1,39 @@
+package org.example.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 알림 배치 전용 스레드 풀. (메일 발송은 EmailService 의 자체 워커가 담당)
+ * 큐가 가득 차면 제출한 스레드(스케줄러)가 직접 실행해 사용자 페이지 조회 속도를 늦춘다. (backpressure)
+ */
+@Configuration
+public class NotificationExecutorConfig {
+
+    @Value("${notification.batch.query-workers:4}")
+    private int queryWorkers;
+
+    @Value("${notification.batch.queue-capacity:100}")
+    private int queueCapacity;
+
+    /**
+     * 사용자 청크 단위 캠페인 조회 + 메일 본문 작성
+     */
+    @Bean
+    public ThreadPoolTaskExecutor notificationQueryExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("notify-query-");
+        executor.setCorePoolSize(queryWorkers);
+        executor.setMaxPoolSize(queryWorkers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
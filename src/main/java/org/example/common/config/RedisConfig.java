@@ -3,23 +3,58 @@ package org.example.common.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.common.cache.CacheValueCodec;
+import org.example.common.cache.CompactRedisSerializer;
+import org.example.common.cache.DistributedLoadLock;
+import org.example.common.cache.InstrumentedCacheManager;
+import org.example.common.cache.SingleFlight;
+import org.example.common.cache.TwoLevelCacheManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Set;
 
 @EnableCaching
 @Configuration
 public class RedisConfig {
 
+        private static final Set<String> NEAR_CACHE_NAMES = Set.of("campaigns", "categories");
+
+        @Value("${cache.near.enabled:true}")
+        private boolean nearCacheEnabled;
+
+        @Value("${cache.near.maximum-size:10000}")
+        private long nearCacheMaximumSize;
+
+        @Value("${cache.near.ttl-seconds:30}")
+        private long nearCacheTtlSeconds;
+
+        @Value("${cache.codec.compact-write:true}")
+        private boolean compactWrite;
+
+        @Value("${cache.codec.compress-threshold-bytes:1024}")
+        private int compressThresholdBytes;
+
         /**
          * ✅ LocalDate, LocalDateTime 직렬화 가능 ObjectMapper
          */
@@ -32,48 +67,130 @@ public class RedisConfig {
                                 .build();
         }
 
+        /**
+         * ✅ 캐시 값 직렬화: codec 이 등록된 DTO 는 바이너리(큰 값은 LZ4), 나머지는 JSON
+         */
+        @Bean
+        public CompactRedisSerializer cacheValueSerializer(
+                        ObjectMapper redisObjectMapper,
+                        List<CacheValueCodec<?>> cacheValueCodecs) {
+                return new CompactRedisSerializer(
+                                cacheValueCodecs,
+                                new GenericJackson2JsonRedisSerializer(redisObjectMapper),
+                                compressThresholdBytes,
+                                compactWrite);
+        }
+
         /**
          * ✅ RedisTemplate (DTO 캐시용)
          */
         @Bean
         public RedisTemplate<String, Object> redisTemplate(
                         RedisConnectionFactory connectionFactory,
-                        ObjectMapper redisObjectMapper) {
+                        CompactRedisSerializer cacheValueSerializer) {
                 RedisTemplate<String, Object> template = new RedisTemplate<>();
                 template.setConnectionFactory(connectionFactory);
 
                 // key: String
                 template.setKeySerializer(new StringRedisSerializer());
 
-                // value: JSON (LocalDate 포함)
-                template.setValueSerializer(
-                                new GenericJackson2JsonRedisSerializer(redisObjectMapper));
+                // value: 바이너리 codec, 없으면 JSON (LocalDate 포함)
+                template.setValueSerializer(cacheValueSerializer);
 
                 // hash key / value (혹시 모를 사용 대비)
                 template.setHashKeySerializer(new StringRedisSerializer());
-                template.setHashValueSerializer(
-                                new GenericJackson2JsonRedisSerializer(redisObjectMapper));
+                template.setHashValueSerializer(cacheValueSerializer);
 
                 template.afterPropertiesSet();
                 return template;
         }
 
         /**
-         * ✅ RedisCacheManager 설정 (Spring Cache용)
+         * ✅ 캐시 miss 적재 합치기 (같은 키는 노드당 한 번만 DB 조회)
          */
         @Bean
-        public RedisCacheManager cacheManager(
+        public SingleFlight cacheSingleFlight(MeterRegistry meterRegistry) {
+                return new SingleFlight(meterRegistry);
+        }
+
+        /**
+         * ✅ 노드 간 적재 잠금 (선택): 한 노드만 DB 를 읽고 나머지 노드는 L2 에 채워지기를 기다린다
+         */
+        @Bean
+        @ConditionalOnProperty(name = "cache.single-flight.distributed.enabled", havingValue = "true")
+        public DistributedLoadLock cacheLoadLock(
+                        StringRedisTemplate stringRedisTemplate,
+                        MeterRegistry meterRegistry,
+                        @Value("${cache.single-flight.distributed.lock-ttl:5s}") Duration lockTtl,
+                        @Value("${cache.single-flight.distributed.wait-timeout:2s}") Duration waitTimeout,
+                        @Value("${cache.single-flight.distributed.poll-interval:50ms}") Duration pollInterval) {
+                return new DistributedLoadLock(stringRedisTemplate, meterRegistry, lockTtl, waitTimeout, pollInterval);
+        }
+
+        /**
+         * ✅ CacheManager 설정 (Spring Cache용)
+         * campaigns / categories 는 L1(프로세스 내) + L2(Redis) 2단 캐시로 구성
+         * 모든 캐시는 InstrumentedCache 로 감싸 hit/miss 지표를 남긴다
+         */
+        @Bean
+        public CacheManager cacheManager(
                         RedisConnectionFactory connectionFactory,
-                        ObjectMapper redisObjectMapper) {
+                        CompactRedisSerializer cacheValueSerializer,
+                        StringRedisTemplate stringRedisTemplate,
+                        MeterRegistry meterRegistry,
+                        SingleFlight cacheSingleFlight,
+                        ObjectProvider<DistributedLoadLock> cacheLoadLock) {
                 RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
                                 .serializeKeysWith(RedisSerializationContext.SerializationPair
                                                 .fromSerializer(new StringRedisSerializer()))
-                                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
-                                                new GenericJackson2JsonRedisSerializer(redisObjectMapper)))
+                                .serializeValuesWith(RedisSerializationContext.SerializationPair
+                                                .fromSerializer(cacheValueSerializer))
                                 .entryTtl(Duration.ofHours(1)); // 1시간 캐시
 
-                return RedisCacheManager.builder(connectionFactory)
+                // 사용자 단위 패턴 삭제(user:{id}:*) 시 KEYS 대신 SCAN 사용
+                RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(
+                                connectionFactory, BatchStrategies.scan(1000));
+
+                RedisCacheManager redisCacheManager = RedisCacheManager.builder(cacheWriter)
                                 .cacheDefaults(config)
                                 .build();
+                redisCacheManager.initializeCaches();
+
+                CacheManager cacheManager = redisCacheManager;
+                if (nearCacheEnabled) {
+                        cacheManager = new TwoLevelCacheManager(
+                                        redisCacheManager,
+                                        stringRedisTemplate,
+                                        meterRegistry,
+                                        NEAR_CACHE_NAMES,
+                                        nearCacheMaximumSize,
+                                        Duration.ofSeconds(nearCacheTtlSeconds),
+                                        cacheSingleFlight,
+                                        cacheLoadLock.getIfAvailable());
+                }
+                // 캐시별 hit/miss 지표 (cache.gets). 캐시 인터셉터의 조회 결과를 세므로 Redis 조회가 늘지 않는다
+                // sync=true 적재는 L1 사용 여부와 관계없이 키 단위로 합친다 (RedisCache 의 캐시 단위 synchronized 회피)
+                return new InstrumentedCacheManager(cacheManager, meterRegistry, cacheSingleFlight,
+                                cacheLoadLock.getIfAvailable());
+        }
+
+        /**
+         * ✅ L1 캐시 무효화 메시지 구독 (다른 노드의 @CacheEvict 반영)
+         */
+        @Bean
+        @ConditionalOnProperty(name = "cache.near.enabled", havingValue = "true", matchIfMissing = true)
+        public RedisMessageListenerContainer cacheInvalidationListenerContainer(
+                        RedisConnectionFactory connectionFactory,
+                        CacheManager cacheManager) {
+                RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+                container.setConnectionFactory(connectionFactory);
+                CacheManager target = cacheManager instanceof InstrumentedCacheManager instrumented
+                                ? instrumented.getDelegate()
+                                : cacheManager;
+                if (target instanceof TwoLevelCacheManager twoLevelCacheManager) {
+                        container.addMessageListener(twoLevelCacheManager,
+                                        new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+                }
+                return container;
         }
 }
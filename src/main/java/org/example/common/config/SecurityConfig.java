@@ -1,10 +1,18 @@
 package org.example.common.config;
 
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.example.auth.CachingJwtDecoder;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -19,6 +27,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 
 @Configuration
@@ -29,8 +38,46 @@ public class SecurityConfig {
         @Value("${jwt.secret}")
         private String jwtSecret;
 
+        @Value("${jwt.refresh-validity}")
+        private long refreshValidity;
+
+        @Value("${jwt.decoder-cache.maximum-size:10000}")
+        private long decoderCacheMaximumSize;
+
+        @Value("${jwt.revocation.shared:true}")
+        private boolean sharedRevocation;
+
+        /**
+         * 검증된 토큰을 exp 까지 캐시해, 같은 토큰으로 반복 호출할 때 HMAC 검증/클레임 파싱을 건너뛴다.
+         * 토큰 폐기는 Redis 로 모든 노드에 공유한다. (jwt.revocation.shared=false 면 노드 로컬)
+         */
+        @Bean
+        public CachingJwtDecoder jwtDecoder(
+                        MeterRegistry meterRegistry,
+                        ObjectProvider<StringRedisTemplate> stringRedisTemplate) {
+                return new CachingJwtDecoder(
+                                nimbusJwtDecoder(),
+                                decoderCacheMaximumSize,
+                                Duration.ofMillis(refreshValidity),
+                                meterRegistry,
+                                sharedRevocation ? stringRedisTemplate.getIfAvailable() : null);
+        }
+
+        /**
+         * ✅ 다른 노드의 토큰 폐기 알림 구독 (L1 캐시 사용 여부와 무관하게 항상 띄운다)
+         */
         @Bean
-        public JwtDecoder jwtDecoder() {
+        @ConditionalOnProperty(name = "jwt.revocation.shared", havingValue = "true", matchIfMissing = true)
+        public RedisMessageListenerContainer jwtRevocationListenerContainer(
+                        RedisConnectionFactory connectionFactory,
+                        CachingJwtDecoder jwtDecoder) {
+                RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+                container.setConnectionFactory(connectionFactory);
+                container.addMessageListener(jwtDecoder, new ChannelTopic(CachingJwtDecoder.REVOCATION_CHANNEL));
+                return container;
+        }
+
+        private JwtDecoder nimbusJwtDecoder() {
                 log.info("🔑 JWT_SECRET length: {}, first 10 chars: {}",
                                 jwtSecret.length(),
                                 jwtSecret.substring(0, Math.min(10, jwtSecret.length())));
@@ -1,10 +1,14 @@
 package org.example.common.config;
 
+import org.example.auth.CurrentUserIdArgumentResolver;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
@@ -20,5 +24,9 @@ public class WebConfig implements WebMvcConfigurer {
                 .allowCredentials(true) // JWT 토큰 허용
                 .maxAge(3600);
     }
-}
 
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new CurrentUserIdArgumentResolver()); // @CurrentUserId Long userId
+    }
+}
@@ -0,0 +1,155 @@
+package org.example.common.lock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * scheduler_locks 테이블 기반 잠금. 여러 노드에서 같은 @Scheduled 잡이 동시에 돌지 않게 한다.
+ * 잠금은 TTL(lockAtMostFor) 이 지나면 노드가 죽어도 풀리고, 획득할 때마다 fencing token 이 증가한다.
+ * 만료 판단은 각 노드 시계를 쓰므로 노드 간 시계 오차보다 TTL 을 충분히 길게 잡는다.
+ */
+@Slf4j
+@Component
+public class DistributedLock {
+
+    private final SchedulerLockRepository lockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final String owner;
+    private final Clock clock;
+
+    @Autowired
+    public DistributedLock(SchedulerLockRepository lockRepository, PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry) {
+        this(lockRepository, transactionManager, meterRegistry, defaultOwner(), Clock.systemDefaultZone());
+    }
+
+    DistributedLock(SchedulerLockRepository lockRepository, PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry, String owner, Clock clock) {
+        this.lockRepository = lockRepository;
+        // 호출자 트랜잭션과 무관하게 잠금 상태를 바로 커밋한다
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.meterRegistry = meterRegistry;
+        this.owner = owner;
+        this.clock = clock;
+    }
+
+    private static String defaultOwner() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 잠금을 얻으면 task 를 실행하고 풀어 준다. 다른 노드가 잡고 있으면 실행하지 않는다.
+     *
+     * @param lockAtMostFor  노드가 죽었을 때 잠금이 풀리기까지의 시간 (잡의 최대 실행 시간보다 길게)
+     * @param lockAtLeastFor 잡이 빨리 끝나도 이 시간 동안은 잠금을 유지한다 (노드 간 cron 시각 차이 흡수)
+     * @return 실행했으면 true
+     */
+    public boolean runExclusively(String name, Duration lockAtMostFor, Duration lockAtLeastFor,
+            Consumer<LockLease> task) {
+        Optional<LockLease> acquired = tryAcquire(name, lockAtMostFor);
+        if (acquired.isEmpty()) {
+            log.info(">>> [LOCK] '{}' is held by another node, skipping", name);
+            return false;
+        }
+
+        LockLease lease = acquired.get();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            task.accept(lease);
+        } finally {
+            sample.stop(Timer.builder("scheduler.lock.held")
+                    .tag("lock", name)
+                    .register(meterRegistry));
+            release(lease, lockAtLeastFor);
+        }
+        return true;
+    }
+
+    public Optional<LockLease> tryAcquire(String name, Duration ttl) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LockLease lease = null;
+        String result;
+        try {
+            lease = transactionTemplate.execute(status -> doAcquire(name, now, now.plus(ttl)));
+            result = lease != null ? "acquired" : "busy";
+        } catch (DataIntegrityViolationException e) {
+            // 처음 만드는 잠금 행을 다른 노드가 먼저 넣었다
+            result = "busy";
+        } catch (RuntimeException e) {
+            log.error(">>> [LOCK] Failed to acquire '{}'", name, e);
+            result = "error";
+        }
+
+        meterRegistry.counter("scheduler.lock.acquire", "lock", name, "result", result).increment();
+        if (lease != null) {
+            log.info(">>> [LOCK] '{}' acquired by {} (token={}, until={})", name, owner, lease.fencingToken(),
+                    lease.lockedUntil());
+        }
+        return Optional.ofNullable(lease);
+    }
+
+    private LockLease doAcquire(String name, LocalDateTime now, LocalDateTime until) {
+        if (lockRepository.acquireExpired(name, owner, now, until) == 0) {
+            if (lockRepository.existsById(name)) {
+                return null;
+            }
+            lockRepository.insertFirst(name, owner, now, until);
+        }
+        long token = lockRepository.findById(name)
+                .map(SchedulerLock::getFencingToken)
+                .orElseThrow();
+        return new LockLease(name, owner, token, now, until);
+    }
+
+    /**
+     * 아직 이 lease 가 잠금을 쥐고 있는지 확인한다. (TTL 초과로 다른 노드가 가져갔으면 false)
+     * 긴 잡은 부수 효과를 내기 전에 확인해 뒤늦은 쓰기를 막는다.
+     */
+    public boolean isHeld(LockLease lease) {
+        return lockRepository.isHeld(lease.name(), lease.owner(), lease.fencingToken(), LocalDateTime.now(clock));
+    }
+
+    /**
+     * 잠금을 푼다. 이미 다른 노드가 가져간 잠금(토큰이 다름)은 건드리지 않는다.
+     */
+    public void release(LockLease lease, Duration lockAtLeastFor) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        LocalDateTime earliest = lease.acquiredAt().plus(lockAtLeastFor);
+        LocalDateTime until = earliest.isAfter(now) ? earliest : now;
+        try {
+            Integer released = transactionTemplate.execute(status -> lockRepository.release(lease.name(),
+                    lease.owner(), lease.fencingToken(), now, until));
+            if (released == null || released == 0) {
+                log.warn(">>> [LOCK] '{}' (token={}) was already lost before release", lease.name(),
+                        lease.fencingToken());
+            }
+        } catch (RuntimeException e) {
+            // 풀지 못해도 TTL 이 지나면 풀린다
+            log.error(">>> [LOCK] Failed to release '{}'", lease.name(), e);
+        }
+    }
+}
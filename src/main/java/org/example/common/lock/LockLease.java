@@ -0,0 +1,11 @@
+package org.example.common.lock;
+
+import java.time.LocalDateTime;
+
+/**
+ * 획득한 잠금. fencingToken 은 획득할 때마다 증가하므로, 잠금을 잃은 뒤 뒤늦게 쓰는 노드를
+ * 토큰 비교로 걸러낼 수 있다.
+ */
+public record LockLease(String name, String owner, long fencingToken, LocalDateTime acquiredAt,
+        LocalDateTime lockedUntil) {
+}
@@ -0,0 +1,38 @@
+package org.example.common.lock;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 잡 이름 하나당 행 하나. lockedUntil 이 지나면 다른 노드가 가져갈 수 있고,
+ * 가져갈 때마다 fencingToken 이 1 씩 증가한다.
+ */
+@Entity
+@Table(name = "scheduler_locks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerLock {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(name = "locked_by", nullable = false)
+    private String lockedBy;
+
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    @Column(name = "fencing_token", nullable = false)
+    private long fencingToken;
+}
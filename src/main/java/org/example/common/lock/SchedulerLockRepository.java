@@ -0,0 +1,43 @@
+package org.example.common.lock;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    // 만료된 잠금만 가져간다. 조건부 UPDATE 한 문장이라 동시에 시도해도 한 노드만 1 을 받는다.
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            update SchedulerLock l
+            set l.lockedBy = :owner, l.lockedAt = :now, l.lockedUntil = :until,
+                l.fencingToken = l.fencingToken + 1
+            where l.name = :name and l.lockedUntil <= :now
+            """)
+    int acquireExpired(String name, String owner, LocalDateTime now, LocalDateTime until);
+
+    // 처음 쓰는 잠금 이름. 동시에 넣으면 PK 충돌(DataIntegrityViolationException)로 한 노드만 성공한다.
+    // save() 는 id 가 있으면 merge 라 다른 노드의 행을 덮어쓸 수 있어 insert 를 직접 쓴다.
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into scheduler_locks (name, locked_by, locked_at, locked_until, fencing_token)
+            values (:name, :owner, :now, :until, 1)
+            """)
+    int insertFirst(String name, String owner, LocalDateTime now, LocalDateTime until);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            update SchedulerLock l
+            set l.lockedUntil = :until
+            where l.name = :name and l.lockedBy = :owner and l.fencingToken = :token and l.lockedUntil > :now
+            """)
+    int release(String name, String owner, long token, LocalDateTime now, LocalDateTime until);
+
+    @Query("""
+            select count(l) > 0 from SchedulerLock l
+            where l.name = :name and l.lockedBy = :owner and l.fencingToken = :token and l.lockedUntil > :now
+            """)
+    boolean isHeld(String name, String owner, long token, LocalDateTime now);
+}
@@ -1,84 +1,286 @@
 package org.example.notification;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.example.campaign.Campaign;
 import org.example.campaign.CampaignRepository;
+import org.example.common.lock.DistributedLock;
+import org.example.user.NotificationSchedule;
+import org.example.user.NotificationTarget;
 import org.example.user.User;
-import org.example.user.UserRepository;
+import org.example.user.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 
+/**
+ * 마감 임박/지연 캠페인 알림 배치.
+ * 다음 알림 시각(users.notification_due_at, UTC)이 지난 사용자를 (due, id) 키셋으로 chunkSize 씩 읽고,
+ * 청크마다 조회 풀에서 캠페인 조회/본문 작성을 한 뒤 notification_outbox 에 적재한다.
+ * (발송은 NotificationOutboxRelay 가 담당) 적재가 끝난 사용자는 다음 날 같은 현지 시각으로 due 를 옮긴다.
+ * D-day 와 idempotency key 는 사용자 시간대의 날짜 기준이라 배치를 다시 돌려도 메일이 중복되지 않는다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class CampaignNotificationBatch {
 
-    private final UserRepository userRepository;
+    static final String EMAIL_SUBJECT = "[알림] 캠페인 마감 임박 및 지연 안내";
+
+    // 여러 노드 중 한 노드만 실행. 빨리 끝나도 5분은 잡고 있어 cron 이 늦게 뜬 노드가 다시 돌지 않게 한다.
+    static final String LOCK_NAME = "campaign-notification-batch";
+    private static final Duration LOCK_AT_MOST_FOR = Duration.ofMinutes(55);
+    private static final Duration LOCK_AT_LEAST_FOR = Duration.ofMinutes(5);
+
+    // 현지 날짜 기준 D-3 까지 알린다
+    private static final int NOTIFY_DAYS_BEFORE = 3;
+
+    private final UserService userService;
     private final CampaignRepository campaignRepository;
-    private final EmailService emailService;
+    private final NotificationOutboxService outboxService;
+    private final DistributedLock distributedLock;
+    private final NotificationEmailRenderer renderer;
+    private final Executor queryExecutor;
+    private final int chunkSize;
+    private final Clock clock;
+
+    private final Timer runTimer;
+    private final Timer chunkTimer;
+    private final Counter usersCounter;
+    private final Counter emailsCounter;
+    private final Counter duplicatesCounter;
+    private final Counter failuresCounter;
+
+    @Autowired
+    public CampaignNotificationBatch(UserService userService,
+            CampaignRepository campaignRepository,
+            NotificationOutboxService outboxService,
+            DistributedLock distributedLock,
+            NotificationEmailRenderer renderer,
+            @Qualifier("notificationQueryExecutor") Executor queryExecutor,
+            @Value("${notification.batch.chunk-size:500}") int chunkSize,
+            MeterRegistry meterRegistry) {
+        this(userService, campaignRepository, outboxService, distributedLock, renderer, queryExecutor, chunkSize,
+                meterRegistry, Clock.systemUTC());
+    }
+
+    CampaignNotificationBatch(UserService userService,
+            CampaignRepository campaignRepository,
+            NotificationOutboxService outboxService,
+            DistributedLock distributedLock,
+            NotificationEmailRenderer renderer,
+            Executor queryExecutor,
+            int chunkSize,
+            MeterRegistry meterRegistry,
+            Clock clock) {
+        this.userService = userService;
+        this.campaignRepository = campaignRepository;
+        this.outboxService = outboxService;
+        this.distributedLock = distributedLock;
+        this.renderer = renderer;
+        this.queryExecutor = queryExecutor;
+        this.chunkSize = chunkSize;
+        this.clock = clock;
+
+        this.runTimer = Timer.builder("notification.batch.duration")
+                .description("알림 배치 1회 실행 시간")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("notification.batch.chunk.duration")
+                .description("사용자 청크 1개 조회/작성 시간")
+                .register(meterRegistry);
+        this.usersCounter = Counter.builder("notification.batch.users").register(meterRegistry);
+        this.emailsCounter = Counter.builder("notification.batch.emails").register(meterRegistry);
+        this.duplicatesCounter = Counter.builder("notification.batch.duplicates").register(meterRegistry);
+        this.failuresCounter = Counter.builder("notification.batch.failures").register(meterRegistry);
+    }
 
-    // Run every hour at the top of the hour
+    // Run every hour at the top of the hour.
+    // 30/45분 오프셋 시간대(예: Asia/Kolkata)는 현지 정각 이후 첫 실행에서 보낸다.
     @Scheduled(cron = "0 0 * * * *")
     public void sendDeadlineNotifications() {
-        int currentHour = LocalDateTime.now().getHour();
-        log.info("Starting deadline notification batch for hour: {}", currentHour);
+        Instant now = clock.instant();
+        distributedLock.runExclusively(LOCK_NAME, LOCK_AT_MOST_FOR, LOCK_AT_LEAST_FOR, lease -> {
+            log.info("Starting deadline notification batch for due <= {} (lock token={})", now,
+                    lease.fencingToken());
+            runTimer.record(() -> run(now, () -> distributedLock.isHeld(lease)));
+        });
+    }
+
+    /**
+     * @param now       이 시각까지 due 가 된 사용자를 처리한다
+     * @param stillHeld 페이지마다 확인해, 잠금을 잃었으면(TTL 초과) 남은 사용자를 처리하지 않는다
+     */
+    void run(Instant now, BooleanSupplier stillHeld) {
+        scheduleMissing(now);
+
+        List<CompletableFuture<Integer>> chunks = new ArrayList<>();
+        long users = 0;
+        Instant afterDueAt = Instant.EPOCH;
+        Long afterId = 0L;
+
+        while (true) {
+            if (!stillHeld.getAsBoolean()) {
+                log.warn("Lost notification batch lock, stopping after {} users", users);
+                break;
+            }
+            List<NotificationTarget> targets = userService.findDueNotificationTargets(now, afterDueAt, afterId,
+                    chunkSize);
+            if (targets.isEmpty()) {
+                break;
+            }
+            users += targets.size();
+            Instant fromDueAt = afterDueAt;
+            Long fromId = afterId;
+            chunks.add(CompletableFuture.supplyAsync(() -> processChunk(targets, fromDueAt, fromId, now),
+                    queryExecutor));
+            NotificationTarget last = targets.get(targets.size() - 1);
+            afterDueAt = last.notificationDueAt();
+            afterId = last.id();
+        }
 
-        List<User> usersToNotify = userRepository.findByNotificationEnabledTrueAndNotificationHour(currentHour);
-        if (usersToNotify.isEmpty()) {
+        if (users == 0) {
             log.info("No users to notify for this hour.");
             return;
         }
 
-        List<Long> userIds = usersToNotify.stream().map(User::getId).collect(Collectors.toList());
-        LocalDate today = LocalDate.now();
-        LocalDate threshold = today.plusDays(3);
+        int emails = chunks.stream().mapToInt(CompletableFuture::join).sum();
+        usersCounter.increment(users);
+        log.info("Deadline notification batch finished. due<={}, users={}, chunks={}, new outbox rows={}", now,
+                users, chunks.size(), emails);
+    }
 
-        List<Campaign> campaigns = campaignRepository.findByUsersAndDeadlineBefore(userIds, threshold);
+    // due 가 비어 있는 기존 사용자는 범위 조회에 걸리지 않으므로 먼저 채운다
+    // 채우다 실패해도 이미 due 가 있는 사용자의 알림은 보낸다
+    private void scheduleMissing(Instant now) {
+        int scheduled;
+        do {
+            try {
+                scheduled = userService.scheduleMissingNotifications(now, chunkSize);
+            } catch (RuntimeException e) {
+                log.error("Failed to schedule missing notification due times", e);
+                return;
+            }
+            if (scheduled > 0) {
+                log.info("Scheduled notification due time for {} user(s)", scheduled);
+            }
+        } while (scheduled == chunkSize);
+    }
 
-        Map<User, List<Campaign>> campaignsByUser = campaigns.stream()
-                .collect(Collectors.groupingBy(Campaign::getUser));
+    /**
+     * @param fromDueAt 이전 청크의 마지막 (due, id). 캠페인은 이 키셋 구간으로 조인해 읽는다
+     * @return 새로 적재한 outbox 행 수
+     */
+    private int processChunk(List<NotificationTarget> targets, Instant fromDueAt, Long fromId, Instant now) {
+        Timer.Sample sample = Timer.start();
 
-        for (User user : usersToNotify) {
-            List<Campaign> userCampaigns = campaignsByUser.get(user);
-            if (userCampaigns != null && !userCampaigns.isEmpty()) {
-                sendConsolidatedEmail(user, userCampaigns, today);
+        // 사용자마다 현지 날짜가 다르므로 가장 늦은 날짜 기준으로 한 번에 읽고 사용자별로 거른다
+        Map<Long, LocalDate> todayByUser = new HashMap<>();
+        LocalDate latestToday = LocalDate.MIN;
+        for (NotificationTarget target : targets) {
+            LocalDate today = NotificationSchedule.localDate(NotificationSchedule.zoneOf(target.timeZone()), now);
+            todayByUser.put(target.id(), today);
+            if (today.isAfter(latestToday)) {
+                latestToday = today;
             }
         }
-    }
 
-    private void sendConsolidatedEmail(User user, List<Campaign> campaigns, LocalDate today) {
-        StringBuilder body = new StringBuilder();
-        body.append(String.format("안녕하세요, %s님!\n\n", user.getNickname() != null ? user.getNickname() : "회원"));
-        body.append("마감이 임박하거나 지연된 캠페인이 있습니다. 아래 내용을 확인해 주세요:\n\n");
-
-        for (Campaign c : campaigns) {
-            long daysLeft = ChronoUnit.DAYS.between(today, c.getDeadline());
-            String statusLabel;
-            if (daysLeft < 0) {
-                statusLabel = "[지연됨!!]";
-            } else if (daysLeft == 0) {
-                statusLabel = "[오늘 마감]";
-            } else {
-                statusLabel = String.format("[D-%d]", daysLeft);
+        NotificationTarget last = targets.get(targets.size() - 1);
+        List<Campaign> campaigns;
+        try {
+            campaigns = campaignRepository.findNotifiableByUserDueRange(fromDueAt, fromId, last.notificationDueAt(),
+                    last.id(), latestToday.plusDays(NOTIFY_DAYS_BEFORE));
+        } catch (RuntimeException e) {
+            failuresCounter.increment(targets.size());
+            log.error("Failed to load campaigns for {} user(s) due <= {}", targets.size(), now, e);
+            return 0;
+        }
+
+        // User 엔티티 동일성 대신 id 로 묶는다 (조회 순서 유지)
+        Map<Long, List<Campaign>> campaignsByUser = new LinkedHashMap<>();
+        for (Campaign campaign : campaigns) {
+            Long userId = campaign.getUser().getId();
+            LocalDate today = todayByUser.get(userId);
+            // 조회 사이에 설정을 바꿔 구간에 새로 들어온 사용자는 이번 청크 대상이 아니다
+            if (today != null && !campaign.getDeadline().isAfter(today.plusDays(NOTIFY_DAYS_BEFORE))) {
+                campaignsByUser.computeIfAbsent(userId, id -> new ArrayList<>()).add(campaign);
             }
+        }
 
-            body.append(String.format("%s %s (플랫폼: %s)\n",
-                    statusLabel, c.getStoreName(), c.getPlatform().getName()));
-            body.append(String.format("- 마감일: %s\n", c.getDeadline()));
-            body.append(String.format("- 현재 상태: %s\n\n", c.getStatus()));
+        int enqueued = enqueue(campaignsByUser.size(), () -> toOutbox(campaignsByUser, todayByUser));
+        sample.stop(chunkTimer);
+        if (enqueued < 0) {
+            // due 를 그대로 두어 다음 실행에서 다시 처리한다
+            return 0;
         }
+        advance(targets, now);
+        emailsCounter.increment(enqueued);
+        duplicatesCounter.increment(campaignsByUser.size() - enqueued);
+        return enqueued;
+    }
+
+    private void advance(List<NotificationTarget> targets, Instant now) {
+        try {
+            userService.advanceNotificationDueAt(targets, now);
+        } catch (RuntimeException e) {
+            log.error("Failed to advance notification due time for {} user(s)", targets.size(), e);
+        }
+    }
 
-        body.append("프로젝트 관리를 위해 앱에서 확인 부탁드립니다.\n");
-        body.append("감사합니다.");
+    /**
+     * 롤백된 insert 로 id 가 채워진 엔티티를 다시 저장하지 않도록, 재시도 때는 행을 새로 만든다.
+     *
+     * @return 새로 적재한 행 수, 실패하면 -1
+     */
+    private int enqueue(int count, Supplier<List<NotificationOutbox>> messages) {
+        try {
+            return outboxService.enqueue(messages.get());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 같은 키를 먼저 넣었다. 다시 시도하면 그 키는 건너뛴다.
+            log.warn("Outbox key conflict, retrying chunk");
+        } catch (RuntimeException e) {
+            failuresCounter.increment(count);
+            log.error("Failed to enqueue {} notification(s)", count, e);
+            return -1;
+        }
+
+        // 재시도도 실패하면 이 청크만 실패로 집계하고, 다른 청크는 계속 처리한다
+        try {
+            return outboxService.enqueue(messages.get());
+        } catch (RuntimeException e) {
+            failuresCounter.increment(count);
+            log.error("Failed to enqueue {} notification(s) after key conflict retry", count, e);
+            return -1;
+        }
+    }
 
-        emailService.sendEmail(user.getEmail(), "[알림] 캠페인 마감 임박 및 지연 안내", body.toString());
+    private List<NotificationOutbox> toOutbox(Map<Long, List<Campaign>> campaignsByUser,
+            Map<Long, LocalDate> todayByUser) {
+        List<NotificationOutbox> messages = new ArrayList<>(campaignsByUser.size());
+        campaignsByUser.forEach((userId, userCampaigns) -> {
+            User user = userCampaigns.get(0).getUser();
+            LocalDate today = todayByUser.get(userId);
+            List<Long> campaignIds = userCampaigns.stream().map(Campaign::getId).toList();
+            messages.add(NotificationOutbox.of(userId, today, campaignIds, user.getEmail(), EMAIL_SUBJECT,
+                    renderer.renderText(user.getNickname(), userCampaigns, today)));
+        });
+        return messages;
     }
 }
@@ -0,0 +1,114 @@
+package org.example.notification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * "{name}" 자리표시자 템플릿. 생성 시 한 번만 파싱해 리터럴 조각과 슬롯 순서를 배열로 들고 있고,
+ * 렌더링은 리터럴/값을 버퍼에 이어 붙이기만 한다. (String.format 처럼 매번 포맷 문자열을 해석하지 않는다)
+ */
+final class CompiledTemplate {
+
+    /**
+     * 값 문자열을 버퍼에 붙이는 방식 (HTML 은 특수 문자를 치환)
+     */
+    interface Escaper {
+        void append(StringBuilder out, CharSequence value);
+    }
+
+    static final Escaper PLAIN = StringBuilder::append;
+
+    static final Escaper HTML = (out, value) -> {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '&' -> out.append("&amp;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    };
+
+    private final String[] literals; // slots.length + 1 개
+    private final int[] slots;       // 각 자리표시자가 render 인자의 몇 번째 값인지
+    private final Escaper escaper;
+
+    private CompiledTemplate(String[] literals, int[] slots, Escaper escaper) {
+        this.literals = literals;
+        this.slots = slots;
+        this.escaper = escaper;
+    }
+
+    /**
+     * @param slotNames render(values) 에 넘길 값의 순서. 템플릿에 없는 이름을 쓰면 IllegalArgumentException
+     */
+    static CompiledTemplate compile(String source, Escaper escaper, String... slotNames) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        int cursor = 0;
+        while (true) {
+            int open = source.indexOf('{', cursor);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("닫히지 않은 자리표시자: " + source.substring(open));
+            }
+            String name = source.substring(open + 1, close);
+            int index = List.of(slotNames).indexOf(name);
+            if (index < 0) {
+                throw new IllegalArgumentException("알 수 없는 자리표시자: {" + name + "}");
+            }
+            literals.add(source.substring(cursor, open));
+            slots.add(index);
+            cursor = close + 1;
+        }
+        literals.add(source.substring(cursor));
+        return new CompiledTemplate(literals.toArray(String[]::new),
+                slots.stream().mapToInt(Integer::intValue).toArray(), escaper);
+    }
+
+    void render(StringBuilder out, Object... values) {
+        for (int i = 0; i < slots.length; i++) {
+            out.append(literals[i]);
+            appendValue(out, values[slots[i]]);
+        }
+        out.append(literals[slots.length]);
+    }
+
+    private void appendValue(StringBuilder out, Object value) {
+        if (value instanceof LocalDate date) {
+            appendDate(out, date);
+        } else if (value instanceof Enum<?> constant) {
+            escaper.append(out, constant.name());
+        } else if (value instanceof CharSequence text) {
+            escaper.append(out, text);
+        } else {
+            escaper.append(out, String.valueOf(value));
+        }
+    }
+
+    /**
+     * LocalDate.toString() 과 같은 yyyy-MM-dd 를 중간 문자열 없이 쓴다.
+     */
+    private static void appendDate(StringBuilder out, LocalDate date) {
+        int year = date.getYear();
+        if (year < 1000 || year > 9999) {
+            out.append(date);
+            return;
+        }
+        out.append(year).append('-');
+        appendTwoDigits(out, date.getMonthValue());
+        out.append('-');
+        appendTwoDigits(out, date.getDayOfMonth());
+    }
+
+    private static void appendTwoDigits(StringBuilder out, int value) {
+        out.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.notification;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재시도를 모두 소진했거나 재시도해도 소용없는 오류로 발송하지 못한 메일.
+ * 수동 재발송/원인 분석용으로 원문을 그대로 남긴다.
+ */
+@Entity
+@Table(name = "email_dead_letters", indexes = {
+        @Index(name = "idx_email_dead_letters_failed_at", columnList = "failed_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmailDeadLetter {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    private String subject;
+
+    @Column(columnDefinition = "TEXT")
+    private String body;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "failed_at", nullable = false)
+    private LocalDateTime failedAt;
+
+    public static EmailDeadLetter of(String recipient, String subject, String body, int attempts,
+            String lastError, LocalDateTime failedAt) {
+        EmailDeadLetter deadLetter = new EmailDeadLetter();
+        deadLetter.recipient = recipient;
+        deadLetter.subject = subject;
+        deadLetter.body = body;
+        deadLetter.attempts = attempts;
+        deadLetter.lastError = lastError != null && lastError.length() > MAX_ERROR_LENGTH
+                ? lastError.substring(0, MAX_ERROR_LENGTH)
+                : lastError;
+        deadLetter.failedAt = failedAt;
+        return deadLetter;
+    }
+}
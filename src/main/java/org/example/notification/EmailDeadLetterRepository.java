@@ -0,0 +1,6 @@
+package org.example.notification;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface EmailDeadLetterRepository extends JpaRepository<EmailDeadLetter, Long> {
+}
@@ -1,30 +1,376 @@
 package org.example.notification;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.SendFailedException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailParseException;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 비동기 메일 발송 파이프라인.
+ * sendEmail 은 bounded 큐에 넣고 바로 반환하며, 워커가 큐에서 최대 batchSize 개를 모아
+ * JavaMailSender.send(SimpleMailMessage...) 한 번으로 보낸다. (배치 하나가 SMTP 연결 하나를 재사용)
+ * 일시적 실패는 지수 백오프로 재시도하고, 재시도를 소진했거나 주소 오류처럼 영구적인 실패는
+ * email_dead_letters 에 남긴다.
+ * 호출자가 발송 조건(shouldSend)을 주면 SMTP 로 보내기 직전에 확인하고, 거짓이면 보내지 않고 future 를 취소한다.
+ * 종료 때문에 보내지 못한 메일도 dead letter 가 아니라 future 취소로 끝난다. (다시 보내는 것은 호출자 몫)
+ */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class EmailService {
 
+    private static final long POLL_TIMEOUT_MS = 200;
+
     private final JavaMailSender mailSender;
+    private final EmailDeadLetterRepository deadLetterRepository;
+    private final Settings settings;
+
+    private final BlockingQueue<OutgoingEmail> queue;
+    // 백오프 시간이 지난 항목만 꺼낼 수 있다
+    private final DelayQueue<OutgoingEmail> retries = new DelayQueue<>();
+    private ExecutorService workers;
+    private volatile boolean running;
+
+    private final Timer batchTimer;
+    private final Timer deliveryTimer;
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter deadLetterCounter;
+    private final Counter rejectedCounter;
+    private final Counter skippedCounter;
+    private final Counter abandonedCounter;
+
+    /**
+     * @param queueCapacity  대기 가능한 메일 수. 가득 차면 enqueueTimeout 동안 호출 스레드를 막는다. (backpressure)
+     * @param batchSize      SMTP 연결 하나로 보낼 최대 메일 수
+     * @param maxAttempts    최초 시도를 포함한 최대 시도 횟수
+     */
+    record Settings(int queueCapacity, int workers, int batchSize, int maxAttempts,
+            Duration initialBackoff, Duration maxBackoff, Duration enqueueTimeout) {
+    }
+
+    @Autowired
+    public EmailService(JavaMailSender mailSender,
+            EmailDeadLetterRepository deadLetterRepository,
+            MeterRegistry meterRegistry,
+            @Value("${email.dispatch.queue-capacity:10000}") int queueCapacity,
+            @Value("${email.dispatch.workers:2}") int workers,
+            @Value("${email.dispatch.batch-size:20}") int batchSize,
+            @Value("${email.dispatch.max-attempts:5}") int maxAttempts,
+            @Value("${email.dispatch.initial-backoff:1s}") Duration initialBackoff,
+            @Value("${email.dispatch.max-backoff:5m}") Duration maxBackoff,
+            @Value("${email.dispatch.enqueue-timeout:5s}") Duration enqueueTimeout) {
+        this(mailSender, deadLetterRepository, meterRegistry, new Settings(queueCapacity, workers, batchSize,
+                maxAttempts, initialBackoff, maxBackoff, enqueueTimeout));
+    }
+
+    EmailService(JavaMailSender mailSender, EmailDeadLetterRepository deadLetterRepository,
+            MeterRegistry meterRegistry, Settings settings) {
+        this.mailSender = mailSender;
+        this.deadLetterRepository = deadLetterRepository;
+        this.settings = settings;
+        this.queue = new LinkedBlockingQueue<>(settings.queueCapacity());
+
+        Gauge.builder("email.queue.size", queue, BlockingQueue::size)
+                .description("발송 대기 중인 메일 수")
+                .register(meterRegistry);
+        Gauge.builder("email.retry.size", retries, DelayQueue::size)
+                .description("재시도 대기 중인 메일 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("email.send.batch")
+                .description("SMTP 배치 1회 발송 시간")
+                .register(meterRegistry);
+        this.deliveryTimer = Timer.builder("email.delivery.latency")
+                .description("큐 적재부터 발송 완료까지 걸린 시간")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("email.sent").register(meterRegistry);
+        this.retryCounter = failures(meterRegistry, "retry");
+        this.deadLetterCounter = failures(meterRegistry, "dead_letter");
+        this.rejectedCounter = failures(meterRegistry, "rejected");
+        this.skippedCounter = failures(meterRegistry, "skipped");
+        this.abandonedCounter = failures(meterRegistry, "abandoned");
+    }
+
+    private static Counter failures(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("email.failures")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        workers = Executors.newFixedThreadPool(settings.workers(), new CustomizableThreadFactory("email-worker-"));
+        for (int i = 0; i < settings.workers(); i++) {
+            workers.execute(this::workLoop);
+        }
+        log.info(">>> [EMAIL] Dispatcher started. workers={}, batchSize={}", settings.workers(),
+                settings.batchSize());
+    }
+
+    /**
+     * 새 메일은 더 받지 않고, 큐에 남은 메일은 보낸 뒤 종료한다.
+     * 시간 안에 못 보낸 메일과 백오프 대기 중인 메일은 기다리지 않고 future 를 취소한다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (workers != null) {
+            workers.shutdown();
+            if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        }
+        List<OutgoingEmail> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        pending.addAll(retries);
+        retries.clear();
+        pending.forEach(this::abandon);
+    }
+
+    /**
+     * 메일을 발송 큐에 넣는다. 반환된 future 는 발송 성공 시 완료되고, dead letter 로 빠지면 예외로 완료된다.
+     * 보내지 않고 끝난 경우(종료, shouldSend 거짓)에는 취소된다.
+     */
+    public CompletableFuture<Void> sendEmail(String to, String subject, String body) {
+        return sendEmail(to, subject, body, () -> true);
+    }
 
-    public void sendEmail(String to, String subject, String body) {
+    /**
+     * @param shouldSend 보내기 직전(재시도 포함)에 확인한다. 거짓이거나 확인에 실패하면 보내지 않고 future 를 취소한다.
+     */
+    public CompletableFuture<Void> sendEmail(String to, String subject, String body, BooleanSupplier shouldSend) {
         SimpleMailMessage message = new SimpleMailMessage();
         message.setTo(to);
         message.setSubject(subject);
         message.setText(body);
 
+        OutgoingEmail email = new OutgoingEmail(message, shouldSend);
+        if (!running) {
+            abandon(email);
+        } else if (!offer(email)) {
+            rejectedCounter.increment();
+            deadLetter(email, "발송 큐가 가득 찼습니다.");
+        }
+        return email.future;
+    }
+
+    /**
+     * 지금 기다리지 않고 넣을 수 있는 메일 수 (재시도 대기 중인 메일은 세지 않는다)
+     */
+    public int remainingCapacity() {
+        return queue.remainingCapacity();
+    }
+
+    private boolean offer(OutgoingEmail email) {
         try {
-            mailSender.send(message);
-            log.info("Email sent to: {}", to);
-        } catch (Exception e) {
-            log.error("Failed to send email to: {}", to, e);
-            // In a real app, we might want to retry or mark the notification as failed
+            return queue.offer(email, settings.enqueueTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void workLoop() {
+        List<OutgoingEmail> batch = new ArrayList<>(settings.batchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (!batch.isEmpty()) {
+                sendBatch(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 재시도 시각이 된 메일을 먼저 담고, 남은 자리를 새 메일로 채운다.
+     */
+    private void collect(List<OutgoingEmail> batch) throws InterruptedException {
+        int size = settings.batchSize();
+        retries.drainTo(batch, size);
+        queue.drainTo(batch, size - batch.size());
+        if (batch.isEmpty()) {
+            OutgoingEmail first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            if (first != null) {
+                batch.add(first);
+                queue.drainTo(batch, size - 1);
+            }
+        }
+    }
+
+    private void sendBatch(List<OutgoingEmail> batch) {
+        // 큐에서 기다리는 사이 더 보낼 필요가 없어진 메일은 뺀다
+        batch.removeIf(this::skip);
+        if (batch.isEmpty()) {
+            return;
+        }
+        SimpleMailMessage[] messages = batch.stream()
+                .map(email -> email.message)
+                .toArray(SimpleMailMessage[]::new);
+
+        Map<Object, Exception> failed = Map.of();
+        MailException batchError = null;
+        long start = System.nanoTime();
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException e) {
+            // 메시지별 실패가 담겨 온다. (연결 실패 시에는 남은 메시지 전부)
+            failed = e.getFailedMessages();
+            if (failed.isEmpty()) {
+                batchError = e;
+            }
+        } catch (MailException e) {
+            batchError = e;
+        } finally {
+            batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        for (OutgoingEmail email : batch) {
+            Exception error = batchError != null ? batchError : failed.get(email.message);
+            if (error == null) {
+                delivered(email);
+            } else {
+                // 배치 전체 실패는 어느 메시지 탓인지 모르므로 영구 실패로 보지 않는다
+                failed(email, error, batchError == null && isPermanent(error));
+            }
+        }
+    }
+
+    private boolean skip(OutgoingEmail email) {
+        try {
+            if (email.shouldSend.getAsBoolean()) {
+                return false;
+            }
+            log.info("Skipping email to: {} (no longer needed)", email.recipient());
+        } catch (RuntimeException e) {
+            // 확인할 수 없으면 보내지 않는다 (중복보다 호출자의 재시도가 낫다)
+            log.warn("Failed to check email to: {}, skipping: {}", email.recipient(), e.getMessage());
+        }
+        skippedCounter.increment();
+        email.future.cancel(false);
+        return true;
+    }
+
+    private void delivered(OutgoingEmail email) {
+        sentCounter.increment();
+        deliveryTimer.record(System.nanoTime() - email.enqueuedAt, TimeUnit.NANOSECONDS);
+        email.future.complete(null);
+        log.debug("Email sent to: {}", email.recipient());
+    }
+
+    private void failed(OutgoingEmail email, Exception error, boolean permanent) {
+        email.attempts++;
+        if (permanent || email.attempts >= settings.maxAttempts()) {
+            deadLetter(email, error.toString());
+            return;
+        }
+        if (!running) {
+            abandon(email);
+            return;
+        }
+        long backoffMillis = backoffMillis(email.attempts);
+        email.retryAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMillis);
+        retries.add(email);
+        retryCounter.increment();
+        log.warn("Failed to send email to: {} (attempt {}), retrying in {}ms: {}", email.recipient(),
+                email.attempts, backoffMillis, error.getMessage());
+    }
+
+    /**
+     * initialBackoff * 2^(attempts-1), maxBackoff 상한. 동시에 실패한 메일이 한꺼번에 재시도하지 않도록
+     * 0~20% 를 더한다.
+     */
+    long backoffMillis(int attempts) {
+        long initial = settings.initialBackoff().toMillis();
+        long max = settings.maxBackoff().toMillis();
+        long exponential = initial << Math.min(attempts - 1, 30);
+        long base = exponential <= 0 ? max : Math.min(exponential, max);
+        return base + ThreadLocalRandom.current().nextLong(base / 5 + 1);
+    }
+
+    private static boolean isPermanent(Exception error) {
+        return error instanceof MailParseException
+                || error instanceof MailPreparationException
+                || error instanceof SendFailedException sendFailed
+                && sendFailed.getInvalidAddresses() != null
+                && sendFailed.getInvalidAddresses().length > 0;
+    }
+
+    /**
+     * 종료 중이라 보내지 못한 메일. 발송 실패가 아니므로 dead letter 로 남기지 않는다.
+     */
+    private void abandon(OutgoingEmail email) {
+        abandonedCounter.increment();
+        log.warn("Email dispatcher stopped before sending to: {}", email.recipient());
+        email.future.cancel(false);
+    }
+
+    private void deadLetter(OutgoingEmail email, String reason) {
+        deadLetterCounter.increment();
+        int attempts = Math.max(email.attempts, 1);
+        log.error("Giving up email to: {} after {} attempt(s): {}", email.recipient(), attempts, reason);
+        try {
+            deadLetterRepository.save(EmailDeadLetter.of(email.recipient(), email.message.getSubject(),
+                    email.message.getText(), attempts, reason, LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            log.error("Failed to store dead letter for: {}", email.recipient(), e);
+        }
+        email.future.completeExceptionally(new MailSendException("메일 발송 실패: " + reason));
+    }
+
+    private static final class OutgoingEmail implements Delayed {
+
+        private final SimpleMailMessage message;
+        private final BooleanSupplier shouldSend;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private final long enqueuedAt = System.nanoTime();
+        private int attempts;
+        private volatile long retryAt;
+
+        private OutgoingEmail(SimpleMailMessage message, BooleanSupplier shouldSend) {
+            this.message = message;
+            this.shouldSend = shouldSend;
+        }
+
+        private String recipient() {
+            String[] to = message.getTo();
+            return to != null && to.length > 0 ? to[0] : null;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(retryAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(retryAt, ((OutgoingEmail) other).retryAt);
         }
     }
 }
@@ -0,0 +1,89 @@
+package org.example.notification;
+
+import org.example.campaign.Campaign;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 마감 알림 메일 본문 (text / HTML). 템플릿은 클래스 로딩 시 한 번 컴파일하고,
+ * 스레드별 StringBuilder 를 재사용해 메일마다 최종 String 하나만 새로 만든다.
+ */
+@Component
+public class NotificationEmailRenderer {
+
+    private static final String DEFAULT_NICKNAME = "회원";
+    // 알림 대상은 마감 3일 전까지라 D-1 ~ D-3 라벨만 미리 만들어 둔다
+    private static final String[] UPCOMING_LABELS = { "[오늘 마감]", "[D-1]", "[D-2]", "[D-3]" };
+    private static final String OVERDUE_LABEL = "[지연됨!!]";
+    private static final int INITIAL_BUFFER = 2 * 1024;
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private static final CompiledTemplate TEXT_HEADER = CompiledTemplate.compile("""
+            안녕하세요, {nickname}님!
+
+            마감이 임박하거나 지연된 캠페인이 있습니다. 아래 내용을 확인해 주세요:
+
+            """, CompiledTemplate.PLAIN, "nickname");
+    private static final CompiledTemplate TEXT_ITEM = CompiledTemplate.compile("""
+            {label} {store} (플랫폼: {platform})
+            - 마감일: {deadline}
+            - 현재 상태: {status}
+
+            """, CompiledTemplate.PLAIN, "label", "store", "platform", "deadline", "status");
+    private static final String TEXT_FOOTER = "프로젝트 관리를 위해 앱에서 확인 부탁드립니다.\n감사합니다.";
+
+    private static final CompiledTemplate HTML_HEADER = CompiledTemplate.compile(
+            "<html><body><p>안녕하세요, {nickname}님!</p>"
+                    + "<p>마감이 임박하거나 지연된 캠페인이 있습니다. 아래 내용을 확인해 주세요:</p><ul>",
+            CompiledTemplate.HTML, "nickname");
+    private static final CompiledTemplate HTML_ITEM = CompiledTemplate.compile(
+            "<li><strong>{label} {store}</strong> (플랫폼: {platform})"
+                    + "<br>- 마감일: {deadline}<br>- 현재 상태: {status}</li>",
+            CompiledTemplate.HTML, "label", "store", "platform", "deadline", "status");
+    private static final String HTML_FOOTER = "</ul><p>프로젝트 관리를 위해 앱에서 확인 부탁드립니다.<br>감사합니다.</p>"
+            + "</body></html>";
+
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal
+            .withInitial(() -> new StringBuilder(INITIAL_BUFFER));
+
+    public String renderText(String nickname, List<Campaign> campaigns, LocalDate today) {
+        return render(TEXT_HEADER, TEXT_ITEM, TEXT_FOOTER, nickname, campaigns, today);
+    }
+
+    public String renderHtml(String nickname, List<Campaign> campaigns, LocalDate today) {
+        return render(HTML_HEADER, HTML_ITEM, HTML_FOOTER, nickname, campaigns, today);
+    }
+
+    private String render(CompiledTemplate header, CompiledTemplate item, String footer, String nickname,
+            List<Campaign> campaigns, LocalDate today) {
+        StringBuilder out = BUFFER.get();
+        out.setLength(0);
+
+        header.render(out, nickname != null ? nickname : DEFAULT_NICKNAME);
+        for (Campaign c : campaigns) {
+            item.render(out, label(ChronoUnit.DAYS.between(today, c.getDeadline())), c.getStoreName(),
+                    c.getPlatform().getName(), c.getDeadline(), c.getStatus());
+        }
+        out.append(footer);
+
+        String body = out.toString();
+        if (out.capacity() > MAX_RETAINED_BUFFER) {
+            // 캠페인이 아주 많던 메일 한 통 때문에 큰 버퍼를 계속 들고 있지 않는다
+            BUFFER.set(new StringBuilder(INITIAL_BUFFER));
+        }
+        return body;
+    }
+
+    static String label(long daysLeft) {
+        if (daysLeft < 0) {
+            return OVERDUE_LABEL;
+        }
+        if (daysLeft < UPCOMING_LABELS.length) {
+            return UPCOMING_LABELS[(int) daysLeft];
+        }
+        return "[D-" + daysLeft + "]";
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.notification;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.stream.Collectors;
+
+/**
+ * 알림 메일 outbox. 배치는 발송 대신 이 테이블에 적재하고, relay 가 가져가 발송한다.
+ * idempotency key = (사용자, 날짜, 캠페인 id 집합) 해시라서 같은 날 배치를 다시 돌려도 행이 늘지 않는다.
+ */
+@Entity
+@Table(name = "notification_outbox", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_notification_outbox_key", columnNames = "idempotency_key")
+}, indexes = {
+        @Index(name = "idx_notification_outbox_status", columnList = "status, id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutbox {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "idempotency_key", nullable = false, length = 64)
+    private String idempotencyKey;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    private String subject;
+
+    @Column(columnDefinition = "TEXT")
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private NotificationOutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    public static NotificationOutbox of(Long userId, LocalDate date, Collection<Long> campaignIds,
+            String recipient, String subject, String body) {
+        NotificationOutbox outbox = new NotificationOutbox();
+        outbox.idempotencyKey = idempotencyKey(userId, date, campaignIds);
+        outbox.userId = userId;
+        outbox.recipient = recipient;
+        outbox.subject = subject;
+        outbox.body = body;
+        outbox.status = NotificationOutboxStatus.PENDING;
+        outbox.createdAt = LocalDateTime.now();
+        return outbox;
+    }
+
+    /**
+     * SHA-256("userId|date|정렬된 캠페인 id 목록") hex. 캠페인 순서와 무관하다.
+     */
+    static String idempotencyKey(Long userId, LocalDate date, Collection<Long> campaignIds) {
+        String source = userId + "|" + date + "|" + campaignIds.stream()
+                .sorted()
+                .distinct()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(source.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    public void claim(LocalDateTime leaseUntil) {
+        this.status = NotificationOutboxStatus.SENDING;
+        this.leaseUntil = leaseUntil;
+        this.attempts++;
+    }
+
+    public void markSent(LocalDateTime sentAt) {
+        this.status = NotificationOutboxStatus.SENT;
+        this.sentAt = sentAt;
+        this.leaseUntil = null;
+    }
+
+    public void markFailed(String error) {
+        this.status = NotificationOutboxStatus.FAILED;
+        this.leaseUntil = null;
+        this.lastError = error != null && error.length() > MAX_ERROR_LENGTH
+                ? error.substring(0, MAX_ERROR_LENGTH)
+                : error;
+    }
+}
@@ -0,0 +1,120 @@
+package org.example.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * notification_outbox 를 주기적으로 비운다. 여러 인스턴스가 동시에 돌아도 SKIP LOCKED + lease 로
+ * 같은 행을 나눠 갖지 않는다.
+ * 발송 후 SENT 로 바꾸기 전에 죽으면 lease 만료 후 다시 발송되므로, 중복은 그 구간으로 한정된다.
+ * EmailService 큐에 자리가 있는 만큼만 가져오고, 큐에서 기다리는 행은 lease 를 연장한다.
+ * 그래도 lease 가 끝나 다른 relay 가 다시 가져간 행은 보내기 직전의 확인(isStillClaimed)에서 걸러진다.
+ * 종료로 보내지 못한 행은 SENDING 으로 두어 lease 만료 후 다른 relay 가 다시 가져간다. FAILED 는 실제 발송 실패만.
+ */
+@Slf4j
+@Component
+public class NotificationOutboxRelay {
+
+    private final NotificationOutboxService outboxService;
+    private final EmailService emailService;
+    private final int batchSize;
+    private final int maxPerRun;
+    private final Duration lease;
+
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    // EmailService 에 넘겼지만 아직 결과가 오지 않은 행
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+    private long lastRenewedAt = System.nanoTime();
+
+    public NotificationOutboxRelay(NotificationOutboxService outboxService,
+            EmailService emailService,
+            @Value("${notification.outbox.batch-size:100}") int batchSize,
+            @Value("${notification.outbox.max-per-run:2000}") int maxPerRun,
+            @Value("${notification.outbox.lease:10m}") Duration lease,
+            MeterRegistry meterRegistry) {
+        this.outboxService = outboxService;
+        this.emailService = emailService;
+        this.batchSize = batchSize;
+        this.maxPerRun = maxPerRun;
+        this.lease = lease;
+        this.sentCounter = Counter.builder("notification.outbox.sent").register(meterRegistry);
+        this.failedCounter = Counter.builder("notification.outbox.failed").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.relay-interval-ms:5000}")
+    public void relay() {
+        renewLeases();
+
+        int total = 0;
+        int claimed;
+        int limit;
+        do {
+            limit = Math.min(batchSize, emailService.remainingCapacity());
+            if (limit <= 0) {
+                log.debug(">>> [OUTBOX] Email queue is full, skipping claim");
+                break;
+            }
+            List<NotificationOutbox> rows = outboxService.claim(limit, lease);
+            rows.forEach(this::dispatch);
+            claimed = rows.size();
+            total += claimed;
+        } while (claimed == limit && total < maxPerRun);
+
+        if (total > 0) {
+            log.info(">>> [OUTBOX] Claimed {} notification(s) for delivery", total);
+        }
+    }
+
+    /**
+     * 큐에서 기다리는 행이 lease 만료로 다시 claim 되지 않도록 lease 의 절반마다 연장한다.
+     */
+    private void renewLeases() {
+        if (inFlight.isEmpty() || System.nanoTime() - lastRenewedAt < lease.toNanos() / 2) {
+            return;
+        }
+        try {
+            int renewed = outboxService.renewLease(List.copyOf(inFlight), lease);
+            lastRenewedAt = System.nanoTime();
+            log.debug(">>> [OUTBOX] Renewed lease of {} in-flight notification(s)", renewed);
+        } catch (RuntimeException e) {
+            log.warn(">>> [OUTBOX] Failed to renew outbox leases: {}", e.getMessage());
+        }
+    }
+
+    private void dispatch(NotificationOutbox row) {
+        inFlight.add(row.getId());
+        emailService.sendEmail(row.getRecipient(), row.getSubject(), row.getBody(),
+                        () -> outboxService.isStillClaimed(row.getIdempotencyKey(), row.getAttempts()))
+                .whenComplete((sent, error) -> {
+                    inFlight.remove(row.getId());
+                    try {
+                        if (error instanceof CancellationException) {
+                            // 보내지 않았다: 다른 relay 가 다시 가져갔거나(상태는 그쪽이 바꾼다)
+                            // EmailService 가 종료됐다(lease 만료 후 다시 가져간다)
+                            log.info(">>> [OUTBOX] Outbox row {} not sent here, left as is", row.getId());
+                        } else if (error == null) {
+                            outboxService.markSent(row.getId());
+                            sentCounter.increment();
+                        } else {
+                            outboxService.markFailed(row.getId(), error.getMessage());
+                            failedCounter.increment();
+                        }
+                    } catch (RuntimeException e) {
+                        // 상태 갱신 실패 시 lease 만료 후 다시 발송된다
+                        log.error("Failed to update outbox row {} after delivery", row.getId(), e);
+                    }
+                });
+    }
+}
@@ -0,0 +1,43 @@
+package org.example.notification;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    @Query("select o.idempotencyKey from NotificationOutbox o where o.idempotencyKey in :keys")
+    Set<String> findExistingKeys(Collection<String> keys);
+
+    // 발송 대기 행 + lease 가 만료된 SENDING 행(relay 가 발송 도중 죽은 경우).
+    // lock timeout -2 = SKIP LOCKED: 다른 인스턴스가 잠근 행은 건너뛰어 relay 끼리 같은 행을 가져가지 않는다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select o from NotificationOutbox o
+            where o.status = org.example.notification.NotificationOutboxStatus.PENDING
+            or (o.status = org.example.notification.NotificationOutboxStatus.SENDING and o.leaseUntil < :now)
+            order by o.id
+            """)
+    List<NotificationOutbox> findClaimable(LocalDateTime now, Pageable pageable);
+
+    boolean existsByIdempotencyKeyAndStatusAndAttempts(String idempotencyKey, NotificationOutboxStatus status,
+            int attempts);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            update NotificationOutbox o set o.leaseUntil = :leaseUntil
+            where o.id in :ids and o.status = org.example.notification.NotificationOutboxStatus.SENDING
+            """)
+    int renewLease(Collection<Long> ids, LocalDateTime leaseUntil);
+}
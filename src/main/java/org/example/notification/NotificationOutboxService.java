@@ -0,0 +1,79 @@
+package org.example.notification;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class NotificationOutboxService {
+
+    private final NotificationOutboxRepository outboxRepository;
+
+    /**
+     * idempotency key 가 이미 있는 행은 건너뛰고 나머지를 한 트랜잭션으로 적재한다.
+     * 다른 인스턴스와 동시에 같은 키를 넣으면 unique 제약 위반(DataIntegrityViolationException)으로 롤백되며,
+     * 호출자가 다시 호출하면 이미 들어간 키는 건너뛴다.
+     *
+     * @return 새로 적재한 행 수
+     */
+    public int enqueue(List<NotificationOutbox> messages) {
+        if (messages.isEmpty()) {
+            return 0;
+        }
+        Set<String> existing = outboxRepository.findExistingKeys(messages.stream()
+                .map(NotificationOutbox::getIdempotencyKey)
+                .toList());
+        List<NotificationOutbox> fresh = messages.stream()
+                .filter(message -> !existing.contains(message.getIdempotencyKey()))
+                .toList();
+        outboxRepository.saveAll(fresh);
+        return fresh.size();
+    }
+
+    /**
+     * 발송할 행을 최대 limit 개 가져와 SENDING 으로 바꾼다. 커밋 후 잠금은 풀리지만
+     * leaseUntil 전까지는 다른 relay 가 다시 가져가지 않는다.
+     */
+    public List<NotificationOutbox> claim(int limit, Duration lease) {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutbox> rows = outboxRepository.findClaimable(now, PageRequest.of(0, limit));
+        rows.forEach(row -> row.claim(now.plus(lease)));
+        return rows;
+    }
+
+    /**
+     * 발송 중인 행의 lease 를 지금부터 다시 lease 만큼 늘린다. 이미 끝난(SENT/FAILED) 행은 건드리지 않는다.
+     */
+    public int renewLease(Collection<Long> ids, Duration lease) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return outboxRepository.renewLease(ids, LocalDateTime.now().plus(lease));
+    }
+
+    /**
+     * claim 한 뒤 lease 가 만료되어 다른 relay 가 다시 가져갔거나(attempts 가 올라감) 이미 끝난 행이면 false.
+     */
+    @Transactional(readOnly = true)
+    public boolean isStillClaimed(String idempotencyKey, int attempts) {
+        return outboxRepository.existsByIdempotencyKeyAndStatusAndAttempts(idempotencyKey,
+                NotificationOutboxStatus.SENDING, attempts);
+    }
+
+    public void markSent(Long id) {
+        outboxRepository.findById(id).ifPresent(row -> row.markSent(LocalDateTime.now()));
+    }
+
+    public void markFailed(Long id, String error) {
+        outboxRepository.findById(id).ifPresent(row -> row.markFailed(error));
+    }
+}
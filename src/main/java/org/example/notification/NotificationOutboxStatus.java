@@ -0,0 +1,8 @@
+package org.example.notification;
+
+public enum NotificationOutboxStatus {
+    PENDING,  // 발송 대기
+    SENDING,  // relay 가 가져감 (leaseUntil 까지 다른 relay 가 가져가지 않음)
+    SENT,
+    FAILED    // EmailService 가 재시도를 소진해 dead letter 로 넘김
+}
@@ -0,0 +1,64 @@
+package org.example.user;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * 사용자 현지 시각 기준 알림 시각 계산.
+ * 알림 배치는 users.notification_due_at(UTC) 범위만 읽으므로, 시간대/알림 시각이 바뀌거나
+ * 알림을 보낸 뒤에는 여기서 다음 시각을 계산해 저장한다.
+ */
+public final class NotificationSchedule {
+
+    public static final String DEFAULT_TIME_ZONE = "Asia/Seoul";
+    public static final int DEFAULT_HOUR = 9;
+
+    private NotificationSchedule() {
+    }
+
+    /**
+     * after 보다 뒤의, 해당 시간대에서 hour 시 정각이 되는 가장 이른 시각.
+     * 서머타임으로 그 시각이 없는 날은 ZonedDateTime 규칙대로 뒤로 밀린 시각을 쓴다.
+     */
+    public static Instant nextDueAt(ZoneId zone, int hour, Instant after) {
+        validateHour(hour);
+        LocalDate date = after.atZone(zone).toLocalDate();
+        ZonedDateTime due = date.atTime(hour, 0).atZone(zone);
+        if (!due.toInstant().isAfter(after)) {
+            due = date.plusDays(1).atTime(hour, 0).atZone(zone);
+        }
+        return due.toInstant();
+    }
+
+    /**
+     * 해당 시간대에서 지금이 며칠인지. 마감 D-day 계산과 알림 중복 키에 쓴다.
+     */
+    public static LocalDate localDate(ZoneId zone, Instant now) {
+        return now.atZone(zone).toLocalDate();
+    }
+
+    public static ZoneId zoneOf(String timeZone) {
+        if (timeZone == null || timeZone.isBlank()) {
+            return ZoneId.of(DEFAULT_TIME_ZONE);
+        }
+        try {
+            return ZoneId.of(timeZone);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid time zone: " + timeZone);
+        }
+    }
+
+    // 알림 시각 없이 저장된 기존 사용자는 기본 시각(9시)으로 본다
+    public static int hourOrDefault(Integer hour) {
+        return hour != null ? hour : DEFAULT_HOUR;
+    }
+
+    public static void validateHour(Integer hour) {
+        if (hour == null || hour < 0 || hour > 23) {
+            throw new IllegalArgumentException("Notification hour must be between 0 and 23");
+        }
+    }
+}
@@ -10,4 +10,5 @@ import lombok.NoArgsConstructor;
 public class NotificationSettingsDto {
     private boolean notificationEnabled;
     private Integer notificationHour;
+    private String timeZone; // IANA 시간대 (예: Asia/Seoul). 수정 시 null 이면 유지
 }
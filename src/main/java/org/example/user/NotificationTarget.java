@@ -0,0 +1,9 @@
+package org.example.user;
+
+import java.time.Instant;
+
+/**
+ * 알림 배치가 읽는 사용자 최소 정보. (엔티티를 올리지 않고 due 인덱스 범위만 읽는다)
+ */
+public record NotificationTarget(Long id, String timeZone, Integer notificationHour, Instant notificationDueAt) {
+}
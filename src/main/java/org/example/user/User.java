@@ -8,8 +8,13 @@ import lombok.NoArgsConstructor;
 import lombok.Builder;
 import org.example.common.entity.BaseEntity;
 
+import java.time.Instant;
+
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        // 알림 배치는 due 시각 범위 + id 키셋으로만 읽는다
+        @Index(name = "idx_users_notification_due_at", columnList = "notification_due_at, userId")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -42,7 +47,37 @@ public class User extends BaseEntity {
     private boolean notificationEnabled = true;
 
     @Builder.Default
-    private Integer notificationHour = 9; // Default 9 AM
+    private Integer notificationHour = NotificationSchedule.DEFAULT_HOUR; // Default 9 AM (사용자 현지 시각)
+
+    @Column(length = 50)
+    @Builder.Default
+    private String timeZone = NotificationSchedule.DEFAULT_TIME_ZONE;
+
+    // 다음 알림 시각(UTC). 알림을 끄면 null 이라 배치 범위 조회에 걸리지 않는다.
+    @Column(name = "notification_due_at")
+    private Instant notificationDueAt;
+
+    // campaign_monthly_stats 롤업이 campaign 테이블 기준으로 채워졌는지. 롤업 도입 전 가입자는 null 이라 처음 조회할 때 채운다.
+    @Column(name = "monthly_stats_ready")
+    @Builder.Default
+    private Boolean monthlyStatsReady = true;
+
+    /**
+     * 알림 설정(켜짐 여부, 시각, 시간대) 기준으로 now 이후의 다음 알림 시각을 다시 잡는다.
+     */
+    public void rescheduleNotification(Instant now) {
+        this.notificationDueAt = notificationEnabled
+                ? NotificationSchedule.nextDueAt(NotificationSchedule.zoneOf(timeZone),
+                        NotificationSchedule.hourOrDefault(notificationHour), now)
+                : null;
+    }
+
+    @PrePersist
+    void initNotificationDueAt() {
+        if (notificationDueAt == null) {
+            rescheduleNotification(Instant.now());
+        }
+    }
 
     public enum LoginType {
         REGULAR,
@@ -1,7 +1,11 @@
 package org.example.user;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,5 +14,45 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByKakaoUserId(String kakaoUserId);
 
-    List<User> findByNotificationEnabledTrueAndNotificationHour(Integer hour);
+    // 알림 배치용 키셋 페이지: idx_users_notification_due_at 범위 스캔 (알림을 끈 사용자는 due 가 null)
+    @Query("""
+            select new org.example.user.NotificationTarget(u.id, u.timeZone, u.notificationHour, u.notificationDueAt)
+            from User u
+            where u.notificationDueAt <= :cutoff
+            and (u.notificationDueAt > :afterDueAt or (u.notificationDueAt = :afterDueAt and u.id > :afterId))
+            order by u.notificationDueAt, u.id
+            """)
+    List<NotificationTarget> findDueNotificationTargets(Instant cutoff, Instant afterDueAt, Long afterId,
+            Pageable pageable);
+
+    // 그 사이 설정을 바꿔 due 가 cutoff 뒤로 옮겨진 사용자는 건드리지 않는다
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update User u set u.notificationDueAt = :nextDueAt
+            where u.id in :ids and u.notificationDueAt <= :cutoff
+            """)
+    int advanceNotificationDueAt(List<Long> ids, Instant cutoff, Instant nextDueAt);
+
+    // notification_due_at 컬럼이 생기기 전 가입자 채우기용
+    List<User> findByNotificationEnabledTrueAndNotificationDueAtIsNull(Pageable pageable);
+
+    @Query("select u.id from User u where u.id > :afterId order by u.id")
+    List<Long> findIdsAfter(Long afterId, Pageable pageable);
+
+    boolean existsByIdAndMonthlyStatsReadyTrue(Long id);
+
+    // 월별 통계 롤업을 아직 채우지 않은 (롤업 도입 전) 가입자
+    @Query("""
+            select u.id from User u
+            where u.id > :afterId and (u.monthlyStatsReady is null or u.monthlyStatsReady = false)
+            order by u.id
+            """)
+    List<Long> findIdsWithoutMonthlyStatsAfter(Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("""
+            update User u set u.monthlyStatsReady = true
+            where u.id = :userId and (u.monthlyStatsReady is null or u.monthlyStatsReady = false)
+            """)
+    int markMonthlyStatsReady(Long userId);
 }
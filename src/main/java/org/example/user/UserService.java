@@ -1,10 +1,20 @@
 package org.example.user;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class UserService {
@@ -35,12 +45,77 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
         user.setNotificationEnabled(settings.isNotificationEnabled());
-        user.setNotificationHour(settings.getNotificationHour());
+        if (settings.getNotificationHour() != null) {
+            NotificationSchedule.validateHour(settings.getNotificationHour());
+            user.setNotificationHour(settings.getNotificationHour());
+        } else if (user.getNotificationHour() == null) {
+            user.setNotificationHour(NotificationSchedule.DEFAULT_HOUR);
+        }
+        if (settings.getTimeZone() != null) {
+            user.setTimeZone(NotificationSchedule.zoneOf(settings.getTimeZone()).getId());
+        }
+        user.rescheduleNotification(Instant.now());
     }
 
     public NotificationSettingsDto getNotificationSettings(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
-        return new NotificationSettingsDto(user.isNotificationEnabled(), user.getNotificationHour());
+        return new NotificationSettingsDto(user.isNotificationEnabled(), user.getNotificationHour(),
+                user.getTimeZone());
+    }
+
+    @Transactional(readOnly = true)
+    public List<NotificationTarget> findDueNotificationTargets(Instant cutoff, Instant afterDueAt, Long afterId,
+            int limit) {
+        return userRepository.findDueNotificationTargets(cutoff, afterDueAt, afterId, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 알림을 보낸(또는 보낼 캠페인이 없던) 사용자의 다음 알림 시각을 옮긴다.
+     * 같은 시간대/알림 시각이면 다음 시각도 같으므로 묶음마다 UPDATE 한 번만 한다.
+     *
+     * @return 옮긴 사용자 수
+     */
+    @Transactional
+    public int advanceNotificationDueAt(List<NotificationTarget> targets, Instant now) {
+        Map<ZoneId, Map<Integer, List<Long>>> buckets = new LinkedHashMap<>();
+        for (NotificationTarget target : targets) {
+            buckets.computeIfAbsent(NotificationSchedule.zoneOf(target.timeZone()), zone -> new LinkedHashMap<>())
+                    .computeIfAbsent(NotificationSchedule.hourOrDefault(target.notificationHour()),
+                            hour -> new ArrayList<>())
+                    .add(target.id());
+        }
+
+        int advanced = 0;
+        for (Map.Entry<ZoneId, Map<Integer, List<Long>>> zone : buckets.entrySet()) {
+            for (Map.Entry<Integer, List<Long>> hour : zone.getValue().entrySet()) {
+                Instant next = NotificationSchedule.nextDueAt(zone.getKey(), hour.getKey(), now);
+                advanced += userRepository.advanceNotificationDueAt(hour.getValue(), now, next);
+            }
+        }
+        return advanced;
+    }
+
+    /**
+     * 알림은 켜져 있지만 다음 알림 시각이 비어 있는 사용자를 limit 명까지 채운다.
+     * 설정이 잘못된 사용자는 로그만 남기고 건너뛴다. (한 사용자 때문에 알림 배치 전체가 멈추지 않도록)
+     *
+     * @return 채운 사용자 수. limit 보다 작으면 더 없거나 건너뛴 사용자가 있으니 이번 실행에서는 멈춘다
+     */
+    @Transactional
+    public int scheduleMissingNotifications(Instant now, int limit) {
+        List<User> users = userRepository.findByNotificationEnabledTrueAndNotificationDueAtIsNull(
+                PageRequest.of(0, limit));
+        int scheduled = 0;
+        for (User user : users) {
+            try {
+                user.rescheduleNotification(now);
+                scheduled++;
+            } catch (RuntimeException e) {
+                log.warn("Failed to schedule notification for user: {} (timeZone={}, hour={}): {}", user.getId(),
+                        user.getTimeZone(), user.getNotificationHour(), e.getMessage());
+            }
+        }
+        return scheduled;
     }
 }
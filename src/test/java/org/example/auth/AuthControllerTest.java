@@ -18,6 +18,7 @@ import java.util.Optional;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -45,6 +46,9 @@ public class AuthControllerTest {
     @MockBean
     private PasswordEncoder passwordEncoder;
 
+    @MockBean
+    private CachingJwtDecoder jwtDecoder;
+
     @Test
     @DisplayName("회원가입 성공")
     void signup() throws Exception {
@@ -88,4 +92,32 @@ public class AuthControllerTest {
                 .andExpect(jsonPath("$.accessToken").value("access-token"))
                 .andExpect(jsonPath("$.refreshToken").value("refresh-token"));
     }
+
+    @Test
+    @DisplayName("기존 RefreshToken 이 있으면 재로그인 시 이전 토큰을 폐기한다")
+    void loginRevokesPreviousTokens() throws Exception {
+        LoginRequest request = new LoginRequest();
+        request.setEmail("test@test.com");
+        request.setPassword("password");
+
+        User user = User.builder()
+                .id(1L)
+                .email("test@test.com")
+                .password("encoded-password")
+                .build();
+
+        given(userRepository.findByEmail(anyString())).willReturn(Optional.of(user));
+        given(passwordEncoder.matches(anyString(), anyString())).willReturn(true);
+        given(refreshTokenRepository.existsById(1L)).willReturn(true);
+        given(jwtTokenProvider.createAccessToken(anyLong())).willReturn("access-token");
+        given(jwtTokenProvider.createRefreshToken(anyLong())).willReturn("refresh-token");
+
+        mockMvc.perform(post("/auth/login")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+
+        verify(jwtDecoder).revokeUser(1L);
+    }
 }
@@ -0,0 +1,165 @@
+package org.example.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.endsWith;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:10Z");
+
+    private JwtDecoder delegate;
+    private SimpleMeterRegistry meterRegistry;
+    private CachingJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(JwtDecoder.class);
+        meterRegistry = new SimpleMeterRegistry();
+        decoder = new CachingJwtDecoder(delegate, 100, Duration.ofDays(14), meterRegistry, null,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 검증하고 이후에는 캐시에서 반환한다")
+    void cachesVerifiedToken() {
+        // given
+        given(delegate.decode("token-a")).willReturn(jwt("token-a", "1", NOW.minusSeconds(5)));
+
+        // when
+        Jwt first = decoder.decode("token-a");
+        Jwt second = decoder.decode("token-a");
+
+        // then
+        assertThat(second).isSameAs(first);
+        verify(delegate, times(1)).decode("token-a");
+        assertThat(meterRegistry.get("cache.gets").tag("cache", CachingJwtDecoder.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", CachingJwtDecoder.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("폐기 이전에 발급된 토큰은 캐시에 있어도 거절하고, 이후 발급된 토큰은 허용한다")
+    void rejectsTokensIssuedBeforeRevocation() {
+        // given
+        given(delegate.decode("old")).willReturn(jwt("old", "1", NOW.minusSeconds(5)));
+        given(delegate.decode("new")).willReturn(jwt("new", "1", NOW));
+        given(delegate.decode("other")).willReturn(jwt("other", "2", NOW.minusSeconds(5)));
+        decoder.decode("old");
+        decoder.decode("other");
+
+        // when
+        decoder.revokeUser(1L);
+
+        // then
+        assertThatThrownBy(() -> decoder.decode("old")).isInstanceOf(BadJwtException.class);
+        assertThat(decoder.decode("new").getSubject()).isEqualTo("1");
+        assertThat(decoder.decode("other").getSubject()).isEqualTo("2");
+        verify(delegate, times(1)).decode("other");
+    }
+
+    @Test
+    @DisplayName("폐기 시각을 Redis 에 남기고 다른 노드에 알린다")
+    void sharesRevocationThroughRedis() {
+        // given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(values);
+        CachingJwtDecoder shared = sharedDecoder(redisTemplate);
+
+        // when
+        shared.revokeUser(1L);
+
+        // then
+        verify(values).set("jwt:revoked-before:1", String.valueOf(NOW.getEpochSecond()), Duration.ofDays(14));
+        verify(redisTemplate).convertAndSend(eq(CachingJwtDecoder.REVOCATION_CHANNEL),
+                endsWith("|1|" + NOW.getEpochSecond()));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 폐기 알림을 받으면 캐시에 남은 이전 토큰을 거절한다")
+    void appliesRevocationFromOtherNode() {
+        // given
+        given(delegate.decode("old")).willReturn(jwt("old", "1", NOW.minusSeconds(5)));
+        decoder.decode("old");
+
+        // when
+        decoder.onMessage(new DefaultMessage(CachingJwtDecoder.REVOCATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                ("other-node|1|" + NOW.getEpochSecond()).getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertThatThrownBy(() -> decoder.decode("old")).isInstanceOf(BadJwtException.class);
+    }
+
+    @Test
+    @DisplayName("알림을 놓친 노드도 캐시 miss 때 Redis 의 폐기 시각으로 이전 토큰을 거절한다")
+    void rejectsTokenRevokedOnOtherNodeOnCacheMiss() {
+        // given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        given(redisTemplate.opsForValue()).willReturn(values);
+        given(values.get("jwt:revoked-before:1")).willReturn(String.valueOf(NOW.getEpochSecond()));
+        given(delegate.decode("old")).willReturn(jwt("old", "1", NOW.minusSeconds(5)));
+        given(delegate.decode("new")).willReturn(jwt("new", "1", NOW));
+        CachingJwtDecoder shared = sharedDecoder(redisTemplate);
+
+        // when & then
+        assertThatThrownBy(() -> shared.decode("old")).isInstanceOf(BadJwtException.class);
+        assertThat(shared.decode("new").getSubject()).isEqualTo("1");
+    }
+
+    @Test
+    @DisplayName("Redis 를 읽지 못해도 검증은 계속한다")
+    void decodesWhenRedisUnavailable() {
+        // given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        given(redisTemplate.opsForValue()).willThrow(new IllegalStateException("connection refused"));
+        given(delegate.decode("token-a")).willReturn(jwt("token-a", "1", NOW.minusSeconds(5)));
+        CachingJwtDecoder shared = sharedDecoder(redisTemplate);
+
+        // when
+        Jwt jwt = shared.decode("token-a");
+
+        // then
+        assertThat(jwt.getSubject()).isEqualTo("1");
+    }
+
+    private CachingJwtDecoder sharedDecoder(StringRedisTemplate redisTemplate) {
+        return new CachingJwtDecoder(delegate, 100, Duration.ofDays(14), new SimpleMeterRegistry(), redisTemplate,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private Jwt jwt(String token, String subject, Instant issuedAt) {
+        return Jwt.withTokenValue(token)
+                .header("alg", "HS256")
+                .subject(subject)
+                .issuedAt(issuedAt)
+                .expiresAt(issuedAt.plusSeconds(3600))
+                .build();
+    }
+}
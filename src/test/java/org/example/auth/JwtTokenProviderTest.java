@@ -0,0 +1,62 @@
+package org.example.auth;
+
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "very-very-secret-key-that-is-at-least-32-bytes";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 60_000L, 120_000L, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("발급한 토큰에서 userId 를 꺼내고 서명/검증 시간을 기록한다")
+    void roundTrip() {
+        // when
+        String token = jwtTokenProvider.createAccessToken(42L);
+        Long userId = jwtTokenProvider.getUserId(token);
+
+        // then
+        assertThat(userId).isEqualTo(42L);
+        assertThat(meterRegistry.get("jwt.token").tag("operation", "sign").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("jwt.token").tag("operation", "verify").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰은 거절한다")
+    void rejectForeignSignature() {
+        // given
+        JwtTokenProvider other = new JwtTokenProvider("another-secret-key-that-is-at-least-32-bytes!!", 60_000L,
+                120_000L, new SimpleMeterRegistry());
+        String token = other.createAccessToken(42L);
+
+        // when & then
+        assertThatThrownBy(() -> jwtTokenProvider.getUserId(token))
+                .isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 거절한다")
+    void rejectExpired() {
+        // given
+        JwtTokenProvider expired = new JwtTokenProvider(SECRET, -1_000L, -1_000L, new SimpleMeterRegistry());
+        String token = expired.createAccessToken(42L);
+
+        // when & then
+        assertThatThrownBy(() -> jwtTokenProvider.getUserId(token))
+                .isInstanceOf(JwtException.class);
+    }
+}
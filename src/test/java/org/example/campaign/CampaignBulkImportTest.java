@@ -0,0 +1,153 @@
+package org.example.campaign;
+
+import org.example.category.Category;
+import org.example.platform.Platform;
+import org.example.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ CampaignBulkService.class, CampaignMonthlyStatsService.class })
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+class CampaignBulkImportTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private CampaignBulkService bulkService;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    @Autowired
+    private CampaignMonthlyStatRepository statRepository;
+
+    @MockBean
+    private CampaignCacheEvictor campaignCacheEvictor;
+
+    private User user;
+    private Platform platform;
+    private Category food;
+
+    @BeforeEach
+    void setUp() {
+        user = em.persist(User.builder().email("bulk@test.com").password("pw").build());
+        platform = em.persist(Platform.builder().code("review_note").name("리뷰노트")
+                .rewardEnabled(true).rewardPolicyId(7L).active(true).build());
+        food = em.persist(Category.builder().name("맛집").build());
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("여러 청크에 걸친 요청을 모두 등록하고, 통계와 캐시 무효화는 한 번에 반영한다")
+    void importCampaigns_SavesAllChunks() {
+        // given: 청크 3개 (50, 50, 20)
+        List<CampaignCreateRequestDto> requests = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            requests.add(request("store" + i, food.getId()));
+        }
+
+        // when
+        int imported = bulkService.importCampaigns(user.getId(), requests.iterator());
+        em.clear();
+
+        // then
+        List<CampaignResponseDto> saved = campaignRepository.findDtosByUserId(user.getId(), Sort.by("id"));
+        assertThat(imported).isEqualTo(120);
+        assertThat(saved).hasSize(120);
+        assertThat(saved).extracting(CampaignResponseDto::getId).doesNotHaveDuplicates();
+        assertThat(saved.get(0).getStoreName()).isEqualTo("store0");
+        assertThat(saved.get(0).getAvailableDays()).containsExactly("MONDAY", "FRIDAY");
+        assertThat(statRepository.findByUserIdAndBaseAndStatMonthAndCategoryId(user.getId(),
+                CampaignStatisticsBase.DEADLINE, LocalDate.of(2024, 3, 1), food.getId()))
+                .get()
+                .satisfies(stat -> assertThat(stat.getCounts().countOf(Status.PENDING)).isEqualTo(120));
+        verify(campaignCacheEvictor, times(1)).evictUser(user.getId());
+    }
+
+    @Test
+    @DisplayName("없는 카테고리가 있으면 아무것도 등록하지 않는다")
+    void importCampaigns_RejectsUnknownCategory() {
+        // given
+        List<CampaignCreateRequestDto> requests = List.of(request("ok", food.getId()), request("bad", 9999L));
+
+        // when & then
+        assertThatThrownBy(() -> bulkService.importCampaigns(user.getId(), requests.iterator()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("카테고리 없음")
+                .hasMessageContaining("9999");
+        assertThat(campaignRepository.findDtosByUserId(user.getId(), Sort.unsorted())).isEmpty();
+        verify(campaignCacheEvictor, never()).evictUser(anyLong());
+    }
+
+    @Test
+    @DisplayName("검증에 실패한 요청은 몇 번째인지 알려준다")
+    void importCampaigns_ReportsInvalidRow() {
+        // given
+        CampaignCreateRequestDto invalid = request(" ", food.getId());
+        List<CampaignCreateRequestDto> requests = List.of(request("ok", food.getId()), invalid);
+
+        // when & then
+        assertThatThrownBy(() -> bulkService.importCampaigns(user.getId(), requests.iterator()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("2번째")
+                .hasMessageContaining("storeName");
+    }
+
+    @Test
+    @DisplayName("최대 건수를 넘으면 거절한다")
+    void importCampaigns_RejectsTooManyItems() {
+        // given
+        ReflectionTestUtils.setField(AopTestUtils.getTargetObject(bulkService), "maxItems", 2);
+        List<CampaignCreateRequestDto> requests = List.of(request("a", food.getId()), request("b", food.getId()),
+                request("c", food.getId()));
+
+        // when & then
+        assertThatThrownBy(() -> bulkService.importCampaigns(user.getId(), requests.iterator()))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("최대 2건");
+    }
+
+    private CampaignCreateRequestDto request(String storeName, Long categoryId) {
+        CampaignCreateRequestDto request = new CampaignCreateRequestDto();
+        request.setPlatformId(platform.getPlatformId());
+        request.setCategoryId(categoryId);
+        request.setStoreName(storeName);
+        request.setStorePhone("010-1234-5678");
+        request.setAddress("서울시 성동구");
+        request.setSupportAmount(30000L);
+        request.setReceiptReview(true);
+        request.setExperienceStartDate(LocalDate.of(2024, 3, 1));
+        request.setExperienceEndDate(LocalDate.of(2024, 3, 10));
+        request.setDeadline(LocalDate.of(2024, 3, 15));
+        request.setAvailableDays(List.of("MONDAY", "FRIDAY"));
+        request.setAvailableTime("11:00 - 21:00");
+        return request;
+    }
+}
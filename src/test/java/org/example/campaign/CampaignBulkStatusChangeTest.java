@@ -0,0 +1,230 @@
+package org.example.campaign;
+
+import org.example.category.Category;
+import org.example.platform.Platform;
+import org.example.user.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({ CampaignBulkService.class, CampaignMonthlyStatsService.class })
+@ImportAutoConfiguration(ValidationAutoConfiguration.class)
+class CampaignBulkStatusChangeTest {
+
+    private static final LocalDate DEADLINE = LocalDate.of(2024, 3, 15);
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private CampaignBulkService bulkService;
+
+    @Autowired
+    private CampaignMonthlyStatsService statsService;
+
+    @Autowired
+    private CampaignMonthlyStatRepository statRepository;
+
+    @MockBean
+    private CampaignCacheEvictor campaignCacheEvictor;
+
+    private User user;
+    private Platform platform;
+    private Category food;
+
+    @BeforeEach
+    void setUp() {
+        user = em.persist(User.builder().email("status@test.com").password("pw").build());
+        platform = em.persist(Platform.builder().code("review_note").name("리뷰노트")
+                .rewardEnabled(true).rewardPolicyId(7L).active(true).build());
+        food = em.persist(Category.builder().name("맛집").build());
+    }
+
+    @Test
+    @DisplayName("규칙을 어긴 항목만 실패로 돌려주고, 나머지는 한 번에 반영한 뒤 캐시를 한 번만 무효화한다")
+    void changeStatuses_AppliesValidTransitions() {
+        // given
+        Campaign pending = persist(user, Status.PENDING);
+        Campaign reserved = persist(user, Status.RESERVED);
+        Campaign visited = persist(user, Status.VISITED);
+        em.flush();
+        em.clear();
+
+        // when
+        List<CampaignStatusChangeResult> results = bulkService.changeStatuses(user.getId(), List.of(
+                new CampaignStatusChangeRequest(pending.getId(), CampaignAction.RESERVE, LocalDate.of(2024, 3, 5)),
+                new CampaignStatusChangeRequest(reserved.getId(), CampaignAction.COMPLETE, null),
+                new CampaignStatusChangeRequest(visited.getId(), CampaignAction.COMPLETE, null)));
+        em.clear();
+
+        // then
+        assertThat(results).extracting(CampaignStatusChangeResult::isSuccess).containsExactly(true, false, true);
+        assertThat(results.get(0).getStatus()).isEqualTo(Status.RESERVED);
+        assertThat(results.get(1).getMessage()).isEqualTo("VISITED 상태에서만 완료 처리 가능");
+        assertThat(em.find(Campaign.class, pending.getId()).getStatus()).isEqualTo(Status.RESERVED);
+        assertThat(em.find(Campaign.class, pending.getId()).getVisitDate()).isEqualTo(LocalDate.of(2024, 3, 5));
+        assertThat(em.find(Campaign.class, reserved.getId()).getStatus()).isEqualTo(Status.RESERVED);
+        assertThat(em.find(Campaign.class, visited.getId()).getStatus()).isEqualTo(Status.DONE);
+        assertThat(statRepository.findByUserIdAndBaseAndStatMonthAndCategoryId(user.getId(),
+                CampaignStatisticsBase.DEADLINE, LocalDate.of(2024, 3, 1), food.getId()))
+                .get()
+                .satisfies(stat -> {
+                    assertThat(stat.getCounts().countOf(Status.PENDING)).isZero();
+                    assertThat(stat.getCounts().countOf(Status.RESERVED)).isEqualTo(2);
+                    assertThat(stat.getCounts().countOf(Status.VISITED)).isZero();
+                    assertThat(stat.getCounts().countOf(Status.DONE)).isEqualTo(1);
+                });
+        verify(campaignCacheEvictor, times(1)).evictUser(user.getId());
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 캠페인, 없는 캠페인, 방문일 없는 예약은 실패로 돌려주고 아무것도 바꾸지 않는다")
+    void changeStatuses_ReportsFailures() {
+        // given
+        User other = em.persist(User.builder().email("other@test.com").password("pw").build());
+        Campaign mine = persist(user, Status.PENDING);
+        Campaign others = persist(other, Status.PENDING);
+        em.flush();
+        em.clear();
+
+        // when
+        List<CampaignStatusChangeResult> results = bulkService.changeStatuses(user.getId(), List.of(
+                new CampaignStatusChangeRequest(others.getId(), CampaignAction.CANCEL, null),
+                new CampaignStatusChangeRequest(9999L, CampaignAction.CANCEL, null),
+                new CampaignStatusChangeRequest(mine.getId(), CampaignAction.RESERVE, null),
+                new CampaignStatusChangeRequest(mine.getId(), null, null)));
+        em.clear();
+
+        // then
+        assertThat(results).extracting(CampaignStatusChangeResult::isSuccess).containsOnly(false);
+        assertThat(results).extracting(CampaignStatusChangeResult::getMessage).containsExactly(
+                "캠페인을 찾을 수 없습니다.",
+                "캠페인을 찾을 수 없습니다.",
+                "방문일은 필수입니다.",
+                "campaignId 와 action 은 필수입니다.");
+        assertThat(em.find(Campaign.class, others.getId()).getStatus()).isEqualTo(Status.PENDING);
+        assertThat(em.find(Campaign.class, mine.getId()).getStatus()).isEqualTo(Status.PENDING);
+        verify(campaignCacheEvictor, never()).evictUser(anyLong());
+    }
+
+    @Test
+    @DisplayName("같은 캠페인을 여러 번 바꾸면 요청 순서대로 적용하고 통계는 최종 상태로 맞춘다")
+    void changeStatuses_AppliesInRequestOrder() {
+        // given
+        Campaign campaign = persist(user, Status.PENDING);
+        em.flush();
+        em.clear();
+
+        // when
+        List<CampaignStatusChangeResult> results = bulkService.changeStatuses(user.getId(), List.of(
+                new CampaignStatusChangeRequest(campaign.getId(), CampaignAction.RESERVE, LocalDate.of(2024, 3, 5)),
+                new CampaignStatusChangeRequest(campaign.getId(), CampaignAction.VISIT, null)));
+        em.clear();
+
+        // then
+        assertThat(results).extracting(CampaignStatusChangeResult::getStatus)
+                .containsExactly(Status.RESERVED, Status.VISITED);
+        assertThat(em.find(Campaign.class, campaign.getId()).getStatus()).isEqualTo(Status.VISITED);
+        assertThat(statRepository.findByUserIdAndBaseAndStatMonthAndCategoryId(user.getId(),
+                CampaignStatisticsBase.DEADLINE, LocalDate.of(2024, 3, 1), food.getId()))
+                .get()
+                .satisfies(stat -> {
+                    assertThat(stat.getCounts().countOf(Status.PENDING)).isZero();
+                    assertThat(stat.getCounts().countOf(Status.RESERVED)).isZero();
+                    assertThat(stat.getCounts().countOf(Status.VISITED)).isEqualTo(1);
+                });
+    }
+
+    @Test
+    @DisplayName("상태 UPDATE 는 캠페인 수와 관계없이 전이마다 한 문장으로 나간다")
+    void changeStatuses_IssuesOneUpdatePerTransition() {
+        // given: 예약(PENDING → RESERVED), 완료(VISITED → DONE) 두 전이를 사용자마다 2건씩 / 6건씩
+        User large = em.persist(User.builder().email("large@test.com").password("pw").build());
+        List<CampaignStatusChangeRequest> smallRequests = reserveAndComplete(user, 2);
+        List<CampaignStatusChangeRequest> largeRequests = reserveAndComplete(large, 6);
+        em.flush();
+        em.clear();
+
+        // when
+        long smallStatements = countStatements(() -> bulkService.changeStatuses(user.getId(), smallRequests));
+        long largeStatements = countStatements(() -> bulkService.changeStatuses(large.getId(), largeRequests));
+        em.clear();
+
+        // then: 조회 1 + UPDATE 2 + 롤업 반영. 건수가 세 배여도 문장 수는 같다
+        assertThat(largeStatements).isEqualTo(smallStatements);
+        for (CampaignStatusChangeRequest request : largeRequests) {
+            Campaign campaign = em.find(Campaign.class, request.getCampaignId());
+            if (request.getAction() == CampaignAction.RESERVE) {
+                assertThat(campaign.getStatus()).isEqualTo(Status.RESERVED);
+                assertThat(campaign.getVisitDate()).isEqualTo(LocalDate.of(2024, 3, 5));
+            } else {
+                assertThat(campaign.getStatus()).isEqualTo(Status.DONE);
+                assertThat(campaign.getCompletedAt()).isNotNull();
+            }
+            assertThat(campaign.getVersion()).isEqualTo(1);
+            assertThat(campaign.getUpdatedBy()).isEqualTo(large.getId());
+        }
+    }
+
+    private List<CampaignStatusChangeRequest> reserveAndComplete(User owner, int perTransition) {
+        List<CampaignStatusChangeRequest> requests = new ArrayList<>();
+        for (int i = 0; i < perTransition; i++) {
+            requests.add(new CampaignStatusChangeRequest(persist(owner, Status.PENDING).getId(),
+                    CampaignAction.RESERVE, LocalDate.of(2024, 3, 5)));
+            requests.add(new CampaignStatusChangeRequest(persist(owner, Status.VISITED).getId(),
+                    CampaignAction.COMPLETE, null));
+        }
+        return requests;
+    }
+
+    private long countStatements(Supplier<?> work) {
+        Statistics statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        Object result = work.get();
+        // 롤업 행 변경도 이 호출 몫으로 센다
+        em.flush();
+        assertThat(result).isNotNull();
+        return statistics.getPrepareStatementCount();
+    }
+
+    // 롤업은 서비스 경로로 만든 것처럼 등록 시점 스냅샷으로 채워 둔다
+    private Campaign persist(User owner, Status status) {
+        Campaign campaign = em.persist(Campaign.builder()
+                .user(owner)
+                .platform(platform)
+                .category(food)
+                .storeName("store")
+                .status(status)
+                .deadline(DEADLINE)
+                .receiptReview(false)
+                .supportAmount(30000L)
+                .build());
+        statsService.apply(null, CampaignStatsSnapshot.of(campaign));
+        return campaign;
+    }
+}
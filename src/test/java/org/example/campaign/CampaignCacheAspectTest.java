@@ -0,0 +1,167 @@
+package org.example.campaign;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.common.cache.SingleFlight;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CampaignCacheAspectTest {
+
+    private static final String KEY = "user:7:campaigns";
+    private static final String PREFIX = "user:*:campaigns";
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private final SampleQueries target = new SampleQueries();
+    private SampleQueries proxy;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        CampaignCacheAspect aspect = new CampaignCacheAspect(redisTemplate, new SingleFlight(meterRegistry),
+                meterRegistry);
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        proxy = factory.getProxy();
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("miss 면 인자로 만든 키에 결과를 TTL ±jitter 로 저장하고 miss/적재 시간을 기록한다")
+    void miss_StoresUnderTemplatedKeyWithJitteredTtl() {
+        // given
+        givenCached(KEY, null);
+
+        // when
+        List<String> result = proxy.campaigns(7L);
+
+        // then: ttl = 100s ±10%
+        assertThat(result).containsExactly("c7");
+        verify(valueOperations).set(eq(KEY), eq(List.of("c7")),
+                longThat(ttl -> ttl >= 90_000 && ttl <= 110_000), eq(TimeUnit.MILLISECONDS));
+        assertThat(requests("miss")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("campaign.cache.load").tag("prefix", PREFIX).timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("hit 이면 원본을 호출하지 않는다")
+    void hit_ReturnsCachedValue() {
+        // given
+        givenCached(KEY, List.of("cached"));
+
+        // when
+        List<String> result = proxy.campaigns(7L);
+
+        // then
+        assertThat(result).containsExactly("cached");
+        assertThat(target.calls.get()).isZero();
+        assertThat(requests("hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("null 결과는 자리표시로 emptyTtl 동안 캐시되고, 다시 읽으면 null 을 돌려준다")
+    void nullResult_IsNegativelyCached() {
+        // given
+        givenCached("user:7:latest", null);
+
+        // when
+        String first = proxy.latest(7L);
+        givenCached("user:7:latest", CampaignCacheAspect.NULL_MARKER);
+        String second = proxy.latest(7L);
+
+        // then: emptyTtl = 5s ±10%
+        assertThat(first).isNull();
+        assertThat(second).isNull();
+        assertThat(target.calls.get()).isEqualTo(1);
+        verify(valueOperations).set(eq("user:7:latest"), eq(CampaignCacheAspect.NULL_MARKER),
+                longThat(ttl -> ttl >= 4_500 && ttl <= 5_500), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("빈 목록은 기본 emptyTtl(30초)로 짧게 캐시한다")
+    void emptyResult_UsesEmptyTtl() {
+        // given
+        givenCached("user:0:campaigns", null);
+
+        // when
+        proxy.campaigns(0L);
+
+        // then
+        verify(valueOperations).set(eq("user:0:campaigns"), eq(List.of()),
+                longThat(ttl -> ttl >= 27_000 && ttl <= 33_000), eq(TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    @DisplayName("Redis 조회가 실패하면 miss 로 보고 원본 결과를 돌려준다")
+    void lookupFailure_FallsBackToSource() {
+        // given
+        given(valueOperations.get(KEY)).willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        List<String> result = proxy.campaigns(7L);
+
+        // then
+        assertThat(result).containsExactly("c7");
+        assertThat(requests("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("지표 prefix 는 키의 숫자 세그먼트를 * 로 묶는다")
+    void metricPrefix_MasksNumericSegments() {
+        assertThat(CampaignCacheAspect.metricPrefix("user:42:campaigns")).isEqualTo("user:*:campaigns");
+        assertThat(CampaignCacheAspect.metricPrefix("user:42:month:2024-03")).isEqualTo("user:*:month:2024-03");
+        assertThat(CampaignCacheAspect.metricPrefix("categories")).isEqualTo("categories");
+    }
+
+    private void givenCached(String key, Object value) {
+        given(valueOperations.get(key)).willReturn(value);
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get("campaign.cache.requests").tags("prefix", PREFIX, "result", result).counter()
+                .count();
+    }
+
+    static class SampleQueries {
+
+        final AtomicInteger calls = new AtomicInteger();
+
+        @CampaignCacheable(key = "'user:' + #userId + ':campaigns'", ttl = 100)
+        public List<String> campaigns(Long userId) {
+            calls.incrementAndGet();
+            return userId == 0 ? List.of() : List.of("c" + userId);
+        }
+
+        @CampaignCacheable(key = "'user:' + #userId + ':latest'", emptyTtl = 5)
+        public String latest(Long userId) {
+            calls.incrementAndGet();
+            return null;
+        }
+    }
+}
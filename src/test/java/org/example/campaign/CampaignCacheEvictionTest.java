@@ -0,0 +1,71 @@
+package org.example.campaign;
+
+import org.example.common.config.TestCacheConfig;
+import org.example.user.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestCacheConfig.class)
+public class CampaignCacheEvictionTest {
+
+    @Autowired
+    private CampaignService campaignService;
+
+    @MockBean
+    private CampaignRepository campaignRepository;
+
+    @Test
+    @DisplayName("상태 변경 시 해당 사용자의 캐시만 무효화되고 다른 사용자의 캐시는 유지된다")
+    void changeStatus_EvictsOnlyOwnerEntries() {
+        // Given
+        Long owner = 101L;
+        Long other = 202L;
+        Sort sort = Sort.by("deadline").ascending();
+
+        Campaign campaign = Campaign.builder()
+                .id(1L)
+                .user(User.builder().id(owner).build())
+                .status(Status.PENDING)
+                .build();
+        when(campaignRepository.findDtosByUserId(anyLong(), any())).thenReturn(List.of());
+        when(campaignRepository.findDtosByUserIdAndStatus(anyLong(), any(), any())).thenReturn(List.of());
+        when(campaignRepository.findByIdAndUser_Id(1L, owner)).thenReturn(Optional.of(campaign));
+        when(campaignRepository.transitionStatus(eq(1L), eq(owner), eq(Status.PENDING), eq(Status.CANCELED), any(),
+                any(), any(), any(), eq(owner))).thenReturn(1);
+
+        campaignService.findAllByUserId(owner);
+        campaignService.findCampaigns(owner, Status.PENDING, sort);
+        campaignService.findAllByUserId(other);
+        campaignService.findCampaigns(other, Status.PENDING, sort);
+
+        // When
+        campaignService.changeStatus(1L, owner, CampaignAction.CANCEL, null);
+
+        campaignService.findAllByUserId(owner);
+        campaignService.findCampaigns(owner, Status.PENDING, sort);
+        campaignService.findAllByUserId(other);
+        campaignService.findCampaigns(other, Status.PENDING, sort);
+
+        // Then: owner는 다시 DB 조회, other는 캐시 HIT 유지
+        verify(campaignRepository, times(2)).findDtosByUserId(eq(owner), any());
+        verify(campaignRepository, times(2)).findDtosByUserIdAndStatus(eq(owner), eq(Status.PENDING), any());
+        verify(campaignRepository, times(1)).findDtosByUserId(eq(other), any());
+        verify(campaignRepository, times(1)).findDtosByUserIdAndStatus(eq(other), eq(Status.PENDING), any());
+    }
+}
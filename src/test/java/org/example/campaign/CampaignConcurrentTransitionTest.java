@@ -0,0 +1,245 @@
+package org.example.campaign;
+
+import org.example.category.Category;
+import org.example.category.CategoryRepository;
+import org.example.platform.Platform;
+import org.example.platform.PlatformRepository;
+import org.example.user.User;
+import org.example.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 기기에서 같은 캠페인에 VISIT / CANCEL 을 동시에 보내는 상황.
+ * 요청마다 자기 트랜잭션으로 커밋되어야 하므로 테스트 트랜잭션은 쓰지 않는다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ CampaignService.class, CampaignMonthlyStatsService.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CampaignConcurrentTransitionTest {
+
+    private static final int CAMPAIGNS = 20;
+    private static final int REQUESTS_PER_ACTION = 4;
+    private static final LocalDate DEADLINE = LocalDate.of(2024, 3, 15);
+
+    @Autowired
+    private CampaignService campaignService;
+
+    @Autowired
+    private CampaignMonthlyStatsService statsService;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    @Autowired
+    private CampaignMonthlyStatRepository statRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformRepository platformRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private CampaignMapper campaignMapper;
+
+    @MockBean
+    private CampaignCacheEvictor campaignCacheEvictor;
+
+    private TransactionTemplate tx;
+    private User user;
+    private Category food;
+    private final List<Long> campaignIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        tx.executeWithoutResult(status -> {
+            user = userRepository.save(User.builder().email("race@test.com").password("pw").build());
+            Platform platform = platformRepository.save(Platform.builder().code("review_note").name("리뷰노트")
+                    .rewardEnabled(false).active(true).build());
+            food = categoryRepository.save(Category.builder().name("맛집").build());
+            for (int i = 0; i < CAMPAIGNS; i++) {
+                Campaign campaign = campaignRepository.save(Campaign.builder()
+                        .user(user)
+                        .platform(platform)
+                        .category(food)
+                        .storeName("store" + i)
+                        .status(Status.RESERVED)
+                        .deadline(DEADLINE)
+                        .visitDate(LocalDate.of(2024, 3, 5))
+                        .receiptReview(false)
+                        .build());
+                statsService.apply(null, CampaignStatsSnapshot.of(campaign));
+                campaignIds.add(campaign.getId());
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        campaignRepository.deleteAllInBatch();
+        statRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+        platformRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("VISIT 과 CANCEL 이 동시에 몰려도 전이는 한 번씩만 반영되고, 버전과 통계가 실제 변경 횟수와 맞는다")
+    void concurrentTransitionsAreSerialized() throws Exception {
+        // given: 캠페인마다 VISIT 4건, CANCEL 4건
+        List<Callable<Outcome>> requests = new ArrayList<>();
+        for (Long campaignId : campaignIds) {
+            for (int i = 0; i < REQUESTS_PER_ACTION; i++) {
+                requests.add(() -> send(campaignId, CampaignAction.VISIT));
+                requests.add(() -> send(campaignId, CampaignAction.CANCEL));
+            }
+        }
+
+        // when
+        List<Outcome> outcomes = runConcurrently(requests);
+
+        // then
+        Map<Long, Integer> applied = new HashMap<>();
+        Map<Long, Integer> visits = new HashMap<>();
+        for (Outcome outcome : outcomes) {
+            // 상태가 바뀐 횟수만큼만 밀릴 수 있어 (RESERVED → VISITED → CANCELED) 재시도 안에 끝난다
+            assertThat(outcome.result()).isNotEqualTo(Result.CONFLICT);
+            if (outcome.result() == Result.APPLIED) {
+                applied.merge(outcome.campaignId(), 1, Integer::sum);
+                if (outcome.action() == CampaignAction.VISIT) {
+                    visits.merge(outcome.campaignId(), 1, Integer::sum);
+                }
+            }
+        }
+        assertThat(visits.values()).allMatch(count -> count == 1);
+
+        tx.executeWithoutResult(status -> {
+            for (Long campaignId : campaignIds) {
+                Campaign campaign = campaignRepository.findById(campaignId).orElseThrow();
+                assertThat(campaign.getStatus()).isEqualTo(Status.CANCELED);
+                // 반영된 전이마다 버전이 하나씩 오른다 (덮어쓴 변경이 없다)
+                assertThat(campaign.getVersion()).as("campaign %d", campaignId)
+                        .isEqualTo(applied.get(campaignId).longValue());
+            }
+            CampaignMonthlyStatCounts counts = statRepository.findByUserIdAndBaseAndStatMonthAndCategoryId(
+                    user.getId(), CampaignStatisticsBase.DEADLINE, LocalDate.of(2024, 3, 1), food.getId())
+                    .orElseThrow()
+                    .getCounts();
+            assertThat(counts.countOf(Status.CANCELED)).isEqualTo(CAMPAIGNS);
+            assertThat(counts.countOf(Status.RESERVED)).isZero();
+            assertThat(counts.countOf(Status.VISITED)).isZero();
+        });
+    }
+
+    @Test
+    @DisplayName("동시에 리뷰를 등록해도 한 건만 완료 처리되고, 나머지는 상태 규칙으로 거절된다")
+    void concurrentReviewSubmissionCompletesOnce() throws Exception {
+        // given
+        Long campaignId = campaignIds.get(0);
+        campaignService.changeStatus(campaignId, user.getId(), CampaignAction.VISIT, null);
+        List<Callable<Outcome>> requests = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            String reviewUrl = "https://blog.example.com/" + i;
+            requests.add(() -> {
+                try {
+                    campaignService.submitReview(campaignId, user.getId(), reviewUrl);
+                    return new Outcome(campaignId, CampaignAction.COMPLETE, Result.APPLIED);
+                } catch (IllegalStateException e) {
+                    return new Outcome(campaignId, CampaignAction.COMPLETE, Result.REJECTED);
+                }
+            });
+        }
+
+        // when
+        List<Outcome> outcomes = runConcurrently(requests);
+
+        // then
+        assertThat(outcomes).filteredOn(outcome -> outcome.result() == Result.APPLIED).hasSize(1);
+        assertThat(outcomes).filteredOn(outcome -> outcome.result() == Result.REJECTED).hasSize(7);
+        tx.executeWithoutResult(status -> {
+            Campaign campaign = campaignRepository.findById(campaignId).orElseThrow();
+            assertThat(campaign.getStatus()).isEqualTo(Status.DONE);
+            assertThat(campaign.getReviewUrl()).startsWith("https://blog.example.com/");
+            assertThat(campaign.getCompletedAt()).isNotNull();
+            assertThat(campaign.getVersion()).isEqualTo(2);
+            // 벌크 update 라 auditing 을 거치지 않아도 마지막으로 바꾼 사용자가 남는다
+            assertThat(campaign.getUpdatedBy()).isEqualTo(user.getId());
+        });
+    }
+
+    private Outcome send(Long campaignId, CampaignAction action) {
+        try {
+            campaignService.changeStatus(campaignId, user.getId(), action, null);
+            return new Outcome(campaignId, action, Result.APPLIED);
+        } catch (IllegalStateException e) {
+            return new Outcome(campaignId, action, Result.REJECTED);
+        } catch (ResponseStatusException e) {
+            return new Outcome(campaignId, action, Result.CONFLICT);
+        }
+    }
+
+    private List<Outcome> runConcurrently(List<Callable<Outcome>> requests) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Outcome>> futures = new ArrayList<>();
+            for (Callable<Outcome> request : requests) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return request.call();
+                }));
+            }
+            start.countDown();
+
+            List<Outcome> outcomes = new ArrayList<>();
+            for (Future<Outcome> future : futures) {
+                outcomes.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return outcomes;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private enum Result {
+        APPLIED, REJECTED, CONFLICT
+    }
+
+    private record Outcome(Long campaignId, CampaignAction action, Result result) {
+    }
+}
@@ -1,7 +1,6 @@
 package org.example.campaign;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.example.auth.JwtTokenProvider;
 import org.example.category.Category;
 import org.example.platform.Platform;
 import org.example.user.User;
@@ -14,16 +13,23 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -41,16 +47,13 @@ public class CampaignControllerTest {
         private CampaignService campaignService;
 
         @MockBean
-        private JwtTokenProvider jwtTokenProvider;
+        private CampaignBulkService campaignBulkService;
 
         private Long userId = 1L;
-        private String token = "Bearer test-token";
         private Campaign campaign;
 
         @BeforeEach
         void setUp() {
-                given(jwtTokenProvider.getUserId(anyString())).willReturn(userId);
-
                 User user = User.builder().id(userId).build();
                 Platform platform = Platform.builder().platformId(1L).name("Test Platform").build();
                 Category category = Category.builder().id(1L).name("Test Category").build();
@@ -77,11 +80,11 @@ public class CampaignControllerTest {
         @Test
         @DisplayName("캠페인 단건 조회 성공")
         void getCampaignById() throws Exception {
-                given(campaignService.findByCampaignIdAndUser(anyLong(), anyLong()))
-                                .willReturn(Optional.of(campaign));
+                given(campaignService.findCampaignDto(anyLong(), anyLong()))
+                                .willReturn(Optional.of(CampaignResponseDto.fromEntity(campaign)));
 
                 mockMvc.perform(get("/campaigns/1")
-                                .header("Authorization", token))
+                                .with(jwt().jwt(j -> j.subject(userId.toString()))))
                                 .andExpect(status().isOk())
                                 .andExpect(jsonPath("$.storeName").value("Test Store"))
                                 .andExpect(jsonPath("$.id").value(1))
@@ -109,7 +112,7 @@ public class CampaignControllerTest {
                                 .willReturn(campaign);
 
                 mockMvc.perform(post("/campaigns")
-                                .header("Authorization", token)
+                                .with(jwt().jwt(j -> j.subject(userId.toString())))
                                 .with(csrf())
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(objectMapper.writeValueAsString(requestDto)))
@@ -120,10 +123,11 @@ public class CampaignControllerTest {
         @Test
         @DisplayName("사용자 캠페인 목록 조회")
         void getCampaigns() throws Exception {
-                given(campaignService.findAllByUserId(anyLong())).willReturn(List.of(campaign));
+                given(campaignService.findAllByUserId(anyLong()))
+                                .willReturn(List.of(CampaignResponseDto.fromEntity(campaign)));
 
                 mockMvc.perform(get("/campaigns")
-                                .header("Authorization", token))
+                                .with(jwt().jwt(j -> j.subject(userId.toString()))))
                                 .andExpect(status().isOk())
                                 .andExpect(jsonPath("$[0].storeName").value("Test Store"));
         }
@@ -138,7 +142,7 @@ public class CampaignControllerTest {
                                 .willReturn(campaign);
 
                 mockMvc.perform(patch("/campaigns/1")
-                                .header("Authorization", token)
+                                .with(jwt().jwt(j -> j.subject(userId.toString())))
                                 .with(csrf())
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(objectMapper.writeValueAsString(updateDto)))
@@ -149,7 +153,7 @@ public class CampaignControllerTest {
         @DisplayName("캠페인 삭제 성공")
         void deleteCampaign() throws Exception {
                 mockMvc.perform(delete("/campaigns/1")
-                                .header("Authorization", token)
+                                .with(jwt().jwt(j -> j.subject(userId.toString())))
                                 .with(csrf()))
                                 .andExpect(status().isOk());
 
@@ -160,7 +164,7 @@ public class CampaignControllerTest {
         @DisplayName("캠페인 상태 변경 성공")
         void changeStatus() throws Exception {
                 mockMvc.perform(patch("/campaigns/1/status/RESERVE")
-                                .header("Authorization", token)
+                                .with(jwt().jwt(j -> j.subject(userId.toString())))
                                 .with(csrf())
                                 .param("visitDate", LocalDate.now().toString()))
                                 .andExpect(status().isOk());
@@ -169,6 +173,28 @@ public class CampaignControllerTest {
                                 any(LocalDate.class));
         }
 
+        @Test
+        @DisplayName("캠페인 일괄 상태 변경은 항목별 결과를 돌려준다")
+        void changeStatuses() throws Exception {
+                CampaignStatusChangeRequest reserve = new CampaignStatusChangeRequest(1L, CampaignAction.RESERVE,
+                                LocalDate.of(2024, 3, 5));
+                CampaignStatusChangeRequest visit = new CampaignStatusChangeRequest(2L, CampaignAction.VISIT, null);
+                given(campaignBulkService.changeStatuses(eq(userId), anyList())).willReturn(List.of(
+                                CampaignStatusChangeResult.succeeded(reserve, Status.RESERVED),
+                                CampaignStatusChangeResult.failed(visit, "RESERVED 상태에서만 방문 처리 가능")));
+
+                mockMvc.perform(patch("/campaigns/status")
+                                .with(jwt().jwt(j -> j.subject(userId.toString())))
+                                .with(csrf())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(List.of(reserve, visit))))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$[0].success").value(true))
+                                .andExpect(jsonPath("$[0].status").value("RESERVED"))
+                                .andExpect(jsonPath("$[1].success").value(false))
+                                .andExpect(jsonPath("$[1].message").value("RESERVED 상태에서만 방문 처리 가능"));
+        }
+
         @Test
         @DisplayName("상태별 캠페인 목록 조회")
         void getCampaignsByStatus() throws Exception {
@@ -176,10 +202,122 @@ public class CampaignControllerTest {
                                 .willReturn(List.of(CampaignResponseDto.fromEntity(campaign)));
 
                 mockMvc.perform(get("/campaigns/status")
-                                .header("Authorization", token)
+                                .with(jwt().jwt(j -> j.subject(userId.toString())))
                                 .param("status", "PENDING")
                                 .param("order", "asc"))
                                 .andExpect(status().isOk())
                                 .andExpect(jsonPath("$[0].status").value("PENDING"));
         }
+
+        @Test
+        @DisplayName("커서 기반 캠페인 목록 조회")
+        void getCampaignPage() throws Exception {
+                CampaignPageResponse page = CampaignPageResponse.builder()
+                                .items(List.of(CampaignResponseDto.fromEntity(campaign)))
+                                .nextCursor("next")
+                                .hasNext(true)
+                                .build();
+                given(campaignService.findCampaignPage(anyLong(), any(), any(), anyInt())).willReturn(page);
+
+                mockMvc.perform(get("/campaigns/page")
+                                .with(jwt().jwt(j -> j.subject(userId.toString())))
+                                .param("size", "1"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.items[0].storeName").value("Test Store"))
+                                .andExpect(jsonPath("$.nextCursor").value("next"))
+                                .andExpect(jsonPath("$.hasNext").value(true));
+
+                verify(campaignService).findCampaignPage(eq(userId), isNull(), isNull(), eq(1));
+        }
+
+        @Test
+        @DisplayName("JSON 배열로 캠페인 일괄 등록")
+        void importCampaignsJson() throws Exception {
+                CampaignCreateRequestDto requestDto = new CampaignCreateRequestDto();
+                requestDto.setStoreName("Bulk Store");
+                given(campaignBulkService.importCampaigns(eq(userId), any())).willReturn(2);
+
+                mockMvc.perform(post("/campaigns/bulk")
+                                .with(jwt().jwt(j -> j.subject(userId.toString())))
+                                .with(csrf())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(List.of(requestDto, requestDto))))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.imported").value(2));
+        }
+
+        @Test
+        @DisplayName("JSON 배열은 원소 단위로 읽어, 최대 건수에서 거절하면 나머지 본문은 읽지 않는다")
+        void importCampaignsJson_RejectsBeforeReadingRest() throws Exception {
+                given(campaignBulkService.importCampaigns(eq(userId), any())).willAnswer(invocation -> {
+                        Iterator<CampaignCreateRequestDto> rows = invocation.getArgument(1);
+                        assertThat(rows.next().getStoreName()).isEqualTo("First");
+                        throw new IllegalArgumentException("한 번에 등록할 수 있는 캠페인은 최대 1건입니다.");
+                });
+                // 첫 원소 뒤는 읽으면 깨지는 본문. 한 번에 바인딩했다면 파싱 오류가 먼저 났다
+                String body = "[{\"storeName\":\"First\"},{\"storeName\": oops";
+
+                mockMvc.perform(post("/campaigns/bulk")
+                                .with(jwt().jwt(j -> j.subject(userId.toString())))
+                                .with(csrf())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(body))
+                                .andExpect(status().isBadRequest())
+                                .andExpect(jsonPath("$.message").value("한 번에 등록할 수 있는 캠페인은 최대 1건입니다."));
+        }
+
+        @Test
+        @DisplayName("CSV 로 캠페인 일괄 등록")
+        void importCampaignsCsv() throws Exception {
+                given(campaignBulkService.importCampaigns(eq(userId), any())).willAnswer(invocation -> {
+                        Iterator<CampaignCreateRequestDto> rows = invocation.getArgument(1);
+                        int count = 0;
+                        while (rows.hasNext()) {
+                                assertThat(rows.next().getStoreName()).isEqualTo("CSV Store");
+                                count++;
+                        }
+                        return count;
+                });
+                String csv = """
+                                platformId,categoryId,storeName
+                                1,1,CSV Store
+                                1,1,CSV Store
+                                """;
+
+                mockMvc.perform(post("/campaigns/bulk")
+                                .with(jwt().jwt(j -> j.subject(userId.toString())))
+                                .with(csrf())
+                                .contentType("text/csv")
+                                .content(csv))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.imported").value(2));
+        }
+
+        @Test
+        @DisplayName("캠페인 목록 CSV 내보내기")
+        void exportCampaigns() throws Exception {
+                given(campaignService.streamCampaigns(eq(userId), isNull(), any())).willAnswer(invocation -> {
+                        Consumer<CampaignResponseDto> consumer = invocation.getArgument(2);
+                        consumer.accept(CampaignResponseDto.fromEntity(campaign));
+                        return 1L;
+                });
+
+                MvcResult result = mockMvc.perform(get("/campaigns/export")
+                                .with(jwt().jwt(j -> j.subject(userId.toString()))))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                mockMvc.perform(asyncDispatch(result))
+                                .andExpect(status().isOk())
+                                .andExpect(header().string("Content-Disposition", containsString("campaigns.csv")))
+                                .andExpect(content().string(startsWith("platformId,categoryId,storeName,")))
+                                .andExpect(content().string(containsString("Test Store")));
+        }
+
+        @Test
+        @DisplayName("JWT principal 이 없으면 401 을 반환한다")
+        void rejectWithoutJwtPrincipal() throws Exception {
+                mockMvc.perform(get("/campaigns"))
+                                .andExpect(status().isUnauthorized());
+        }
 }
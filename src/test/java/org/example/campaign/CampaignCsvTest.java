@@ -0,0 +1,88 @@
+package org.example.campaign;
+
+import com.fasterxml.jackson.databind.SequenceWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CampaignCsvTest {
+
+    @Test
+    @DisplayName("내보낸 CSV 를 다시 읽으면 등록 요청과 같은 값이 나온다")
+    void exportThenImport_RoundTrips() throws Exception {
+        // given
+        CampaignResponseDto dto = new CampaignResponseDto(1L, "가게, 성수점", "010-1234-5678", "서울시 \"성동구\"", 1L,
+                "리뷰노트", 2L, "맛집", 30000L, null, true, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 10),
+                LocalDate.of(2024, 3, 15), null, List.of("MONDAY", "FRIDAY"), "11:00 - 21:00", "PENDING",
+                (LocalDateTime) null);
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (SequenceWriter writer = CampaignCsv.writer(out)) {
+            writer.write(CampaignCsv.toRow(dto));
+        }
+        List<CampaignCreateRequestDto> rows = readAll(new ByteArrayInputStream(out.toByteArray()));
+
+        // then
+        assertThat(out.toString(StandardCharsets.UTF_8)).startsWith("platformId,categoryId,storeName,");
+        assertThat(rows).containsExactly(CampaignCsv.toRow(dto));
+    }
+
+    @Test
+    @DisplayName("헤더 순서가 달라도 이름으로 컬럼을 맞추고, 빈 값은 null 로 읽는다")
+    void read_FollowsHeaderOrder() throws Exception {
+        // given
+        String csv = """
+                storeName,platformId,categoryId,storePhone,address,supportAmount,extraCost,receiptReview,\
+                experienceStartDate,experienceEndDate,deadline,availableDays,availableTime
+                가게,1,2,010-0000-0000,서울,10000,,false,2024-03-01,2024-03-10,2024-03-15,SATURDAY;SUNDAY,종일
+                """;
+
+        // when
+        List<CampaignCreateRequestDto> rows = readAll(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        // then
+        assertThat(rows).singleElement().satisfies(row -> {
+            assertThat(row.getStoreName()).isEqualTo("가게");
+            assertThat(row.getPlatformId()).isEqualTo(1L);
+            assertThat(row.getExtraCost()).isNull();
+            assertThat(row.getAvailableDays()).containsExactly("SATURDAY", "SUNDAY");
+            assertThat(row.getDeadline()).isEqualTo(LocalDate.of(2024, 3, 15));
+        });
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 값은 줄 번호와 함께 IllegalArgumentException 으로 알린다")
+    void read_ReportsLineOfInvalidValue() {
+        // given
+        String csv = """
+                platformId,categoryId,deadline,storeName
+                1,2,2024-03-15,가게
+                1,2,not-a-date,가게
+                """;
+
+        // when & then
+        assertThatThrownBy(() -> readAll(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("CSV 3번째 줄");
+    }
+
+    private List<CampaignCreateRequestDto> readAll(InputStream in) throws Exception {
+        List<CampaignCreateRequestDto> rows = new ArrayList<>();
+        try (CampaignImportRows iterator = CampaignCsv.read(in)) {
+            iterator.forEachRemaining(rows::add);
+        }
+        return rows;
+    }
+}
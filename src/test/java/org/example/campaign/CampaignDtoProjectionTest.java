@@ -0,0 +1,106 @@
+package org.example.campaign;
+
+import org.example.category.Category;
+import org.example.platform.Platform;
+import org.example.user.User;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class CampaignDtoProjectionTest {
+
+    private static final int CAMPAIGN_COUNT = 500;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    private User user;
+    private Campaign first;
+
+    @BeforeEach
+    void setUp() {
+        user = em.persist(User.builder().email("dto@test.com").password("pw").build());
+        Platform platform = em.persist(Platform.builder().code("review_note").name("리뷰노트")
+                .rewardEnabled(false).active(true).build());
+        Category category = em.persist(Category.builder().name("맛집").build());
+
+        for (int i = 0; i < CAMPAIGN_COUNT; i++) {
+            Campaign campaign = em.persist(Campaign.builder()
+                    .user(user)
+                    .platform(platform)
+                    .category(i % 2 == 0 ? category : null)
+                    .storeName("store" + i)
+                    .storePhone("010-0000-" + i)
+                    .address("address" + i)
+                    .supportAmount(10000L + i)
+                    .receiptReview(i % 3 == 0)
+                    .availableDays(i % 4 == 0 ? null : "MONDAY,FRIDAY")
+                    .availableTime("10:00 - 20:00")
+                    .experienceStartDate(LocalDate.of(2024, 1, 1))
+                    .experienceEndDate(LocalDate.of(2024, 1, 31))
+                    .deadline(LocalDate.of(2024, 1, 1).plusDays(i % 60))
+                    .status(i % 5 == 0 ? Status.DONE : Status.PENDING)
+                    .completedAt(i % 5 == 0 ? LocalDateTime.of(2024, 2, 1, 12, 0) : null)
+                    .build());
+            if (first == null) {
+                first = campaign;
+            }
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("DTO 프로젝션 결과는 엔티티 변환 결과와 같다")
+    void projectionMatchesEntityMapping() {
+        // given
+        Sort sort = Sort.by("deadline").ascending().and(Sort.by("id"));
+        List<CampaignResponseDto> expected = campaignRepository.findByUserIdAndStatus(user.getId(), Status.PENDING,
+                sort).stream()
+                .map(CampaignResponseDto::fromEntity)
+                .toList();
+        em.clear();
+
+        // when
+        List<CampaignResponseDto> actual = campaignRepository.findDtosByUserIdAndStatus(user.getId(),
+                Status.PENDING, sort);
+        CampaignResponseDto single = campaignRepository.findDtoByIdAndUserId(first.getId(), user.getId())
+                .orElseThrow();
+
+        // then
+        assertThat(actual).containsExactlyElementsOf(expected);
+        assertThat(single.getId()).isEqualTo(first.getId());
+        assertThat(single.getAvailableDays()).isEmpty();
+        assertThat(single.getCategoryName()).isEqualTo("맛집");
+        assertThat(single.getStatus()).isEqualTo(Status.DONE.name());
+    }
+
+    @Test
+    @DisplayName("DTO 프로젝션은 영속성 컨텍스트에 엔티티를 올리지 않는다")
+    void projectionSkipsPersistenceContext() {
+        // when
+        List<CampaignResponseDto> dtos = campaignRepository.findDtosByUserId(user.getId(), Sort.unsorted());
+
+        // then
+        assertThat(dtos).hasSize(CAMPAIGN_COUNT);
+        Session session = em.getEntityManager().unwrap(Session.class);
+        assertThat(session.getStatistics().getEntityCount()).isZero();
+    }
+}
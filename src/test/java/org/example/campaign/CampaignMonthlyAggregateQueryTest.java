@@ -0,0 +1,101 @@
+package org.example.campaign;
+
+import org.example.category.Category;
+import org.example.platform.Platform;
+import org.example.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class CampaignMonthlyAggregateQueryTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    private User user;
+    private Platform platform;
+    private Category food;
+    private Category beauty;
+
+    @BeforeEach
+    void setUp() {
+        user = em.persist(User.builder().email("stats@test.com").password("pw").build());
+        platform = em.persist(Platform.builder().code("review_note").name("리뷰노트")
+                .rewardEnabled(false).active(true).build());
+        food = em.persist(Category.builder().name("맛집").build());
+        beauty = em.persist(Category.builder().name("뷰티").build());
+
+        persist(food, Status.DONE, LocalDate.of(2024, 1, 10), true, 10000L, 1000L);
+        persist(food, Status.DONE, LocalDate.of(2024, 1, 20), false, 20000L, null);
+        persist(beauty, Status.PENDING, LocalDate.of(2024, 1, 31), null, null, null);
+        persist(food, Status.RESERVED, LocalDate.of(2024, 2, 1), true, 5000L, 500L);
+        persist(food, Status.DONE, LocalDate.of(2024, 4, 1), true, 7000L, 0L);
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("마감일 기준으로 사용자의 전체 기간을 (월, 카테고리, 상태) 단위로 집계한다")
+    void aggregateMonthlyByDeadline() {
+        // when
+        List<CampaignMonthlyAggregate> rows = campaignRepository.aggregateMonthlyByDeadline(user.getId());
+
+        // then
+        List<CampaignMonthlyAggregate> sorted = rows.stream()
+                .sorted(Comparator.comparing(CampaignMonthlyAggregate::getStatMonth)
+                        .thenComparing(CampaignMonthlyAggregate::getCategoryId)
+                        .thenComparing(CampaignMonthlyAggregate::getStatus))
+                .toList();
+        assertThat(sorted)
+                .extracting(CampaignMonthlyAggregate::getStatMonth, CampaignMonthlyAggregate::getCategoryId,
+                        CampaignMonthlyAggregate::getStatus, CampaignMonthlyAggregate::getCampaignCount,
+                        CampaignMonthlyAggregate::getSupportAmount, CampaignMonthlyAggregate::getExtraCost,
+                        CampaignMonthlyAggregate::getReceiptReviewCount)
+                .containsExactly(
+                        tuple(1, food.getId(), Status.DONE, 2L, 30000L, 1000L, 1L),
+                        tuple(1, beauty.getId(), Status.PENDING, 1L, 0L, 0L, 0L),
+                        tuple(2, food.getId(), Status.RESERVED, 1L, 5000L, 500L, 1L),
+                        tuple(4, food.getId(), Status.DONE, 1L, 7000L, 0L, 1L));
+    }
+
+    @Test
+    @DisplayName("방문일이 없는 캠페인은 방문일 기준 집계에서 제외된다")
+    void aggregateMonthlyByVisitDateSkipsMissingDate() {
+        // when
+        List<CampaignMonthlyAggregate> rows = campaignRepository.aggregateMonthlyByVisitDate(user.getId());
+
+        // then
+        assertThat(rows).isEmpty();
+    }
+
+    private void persist(Category category, Status status, LocalDate deadline, Boolean receiptReview,
+            Long supportAmount, Long extraCost) {
+        em.persist(Campaign.builder()
+                .user(user)
+                .platform(platform)
+                .category(category)
+                .storeName("store")
+                .status(status)
+                .deadline(deadline)
+                .receiptReview(receiptReview)
+                .supportAmount(supportAmount)
+                .extraCost(extraCost)
+                .build());
+    }
+}
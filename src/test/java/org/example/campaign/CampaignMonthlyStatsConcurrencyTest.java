@@ -0,0 +1,166 @@
+package org.example.campaign;
+
+import org.example.category.Category;
+import org.example.category.CategoryRepository;
+import org.example.platform.Platform;
+import org.example.platform.PlatformRepository;
+import org.example.user.User;
+import org.example.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 (user, base, month, category) 를 처음 쓰는 요청이 동시에 들어오는 상황.
+ * 요청마다 자기 트랜잭션으로 커밋되어야 하므로 테스트 트랜잭션은 쓰지 않는다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(CampaignMonthlyStatsService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CampaignMonthlyStatsConcurrencyTest {
+
+    private static final int REQUESTS = 8;
+
+    @Autowired
+    private CampaignMonthlyStatsService statsService;
+
+    @Autowired
+    private CampaignMonthlyStatRepository statRepository;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformRepository platformRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        campaignRepository.deleteAllInBatch();
+        statRepository.deleteAllInBatch();
+        categoryRepository.deleteAllInBatch();
+        platformRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("처음 쓰는 롤업 행을 동시에 만들어도 키 충돌 없이 모든 증분이 한 행에 합쳐진다")
+    void concurrentFirstInsertMergesIntoSingleRow() throws Exception {
+        // given: 캠페인 등록 REQUESTS 건이 같은 달, 같은 카테고리에 동시에 들어온다
+        CampaignStatsSnapshot created = new CampaignStatsSnapshot(1L, 3L, LocalDate.of(2024, 3, 15), null,
+                Status.PENDING, false, 1000L, 0L);
+        ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+
+        // when
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    statsService.apply(null, created);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        List<CampaignMonthlyStat> stats = statRepository.findAll();
+        assertThat(stats).hasSize(1);
+        assertThat(stats.get(0).getCounts().countOf(Status.PENDING)).isEqualTo(REQUESTS);
+        assertThat(stats.get(0).getCounts().getTotalSupportAmount()).isEqualTo(1000L * REQUESTS);
+    }
+
+    @Test
+    @DisplayName("재계산 중 다른 요청이 같은 키의 롤업 행을 처음 만들어도 그 증분을 덮어쓰지 않는다")
+    void rebuildKeepsDeltaOfConcurrentFirstInsert() throws Exception {
+        // given: 롤업 행이 아직 없는 3월 캠페인 하나
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        User user = userRepository.save(User.builder().email("rebuild@test.com").password("pw").build());
+        Platform platform = platformRepository.save(Platform.builder().code("review_note").name("리뷰노트")
+                .rewardEnabled(false).active(true).build());
+        Category food = categoryRepository.save(Category.builder().name("맛집").build());
+        campaignRepository.save(campaign(user, platform, food));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when: 같은 달 캠페인 등록이 롤업 행을 만들고 커밋하기 전에 재계산이 시작된다
+        try {
+            CountDownLatch inserted = new CountDownLatch(1);
+            CountDownLatch commit = new CountDownLatch(1);
+            Future<?> writer = executor.submit(() -> tx.executeWithoutResult(status -> {
+                Campaign created = campaignRepository.save(campaign(user, platform, food));
+                statsService.apply(null, CampaignStatsSnapshot.of(created));
+                inserted.countDown();
+                try {
+                    commit.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+            assertThat(inserted.await(10, TimeUnit.SECONDS)).isTrue();
+            Future<Integer> rebuild = executor.submit(() -> statsService.rebuild(user.getId()));
+            // 재계산이 같은 키의 행을 기다리는 동안 등록이 커밋된다
+            Thread.sleep(500);
+            commit.countDown();
+            writer.get(30, TimeUnit.SECONDS);
+            rebuild.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        CampaignMonthlyStatCounts counts = statRepository.findByUserIdAndBaseAndStatMonthBetween(user.getId(),
+                CampaignStatisticsBase.DEADLINE, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 1))
+                .get(0)
+                .getCounts();
+        assertThat(counts.countOf(Status.PENDING)).isEqualTo(2);
+        assertThat(counts.getTotalSupportAmount()).isEqualTo(2000L);
+    }
+
+    private Campaign campaign(User user, Platform platform, Category category) {
+        return Campaign.builder()
+                .user(user)
+                .platform(platform)
+                .category(category)
+                .storeName("store")
+                .status(Status.PENDING)
+                .deadline(LocalDate.of(2024, 3, 15))
+                .supportAmount(1000L)
+                .receiptReview(false)
+                .build();
+    }
+}
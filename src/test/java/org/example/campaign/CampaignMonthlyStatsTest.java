@@ -0,0 +1,198 @@
+package org.example.campaign;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.category.Category;
+import org.example.common.lock.DistributedLock;
+import org.example.platform.Platform;
+import org.example.user.User;
+import org.example.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(CampaignMonthlyStatsService.class)
+class CampaignMonthlyStatsTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private CampaignMonthlyStatsService statsService;
+
+    @Autowired
+    private CampaignMonthlyStatRepository statRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User user;
+    private Platform platform;
+    private Category food;
+
+    @BeforeEach
+    void setUp() {
+        user = em.persist(User.builder().email("rollup@test.com").password("pw").build());
+        platform = em.persist(Platform.builder().code("review_note").name("리뷰노트")
+                .rewardEnabled(false).active(true).build());
+        food = em.persist(Category.builder().name("맛집").build());
+    }
+
+    @Test
+    @DisplayName("상태 변경 시 이전 상태 카운트는 빠지고 새 상태 카운트가 더해진다")
+    void applyStatusChange() {
+        // given
+        Campaign campaign = persist(Status.RESERVED, LocalDate.of(2024, 3, 15), true, 10000L, 2000L);
+        statsService.apply(null, CampaignStatsSnapshot.of(campaign));
+        CampaignStatsSnapshot before = CampaignStatsSnapshot.of(campaign);
+
+        // when
+        campaign.changeStatus(Status.DONE);
+        statsService.apply(before, CampaignStatsSnapshot.of(campaign));
+        em.flush();
+        em.clear();
+
+        // then
+        List<CampaignMonthlyStat> stats = statsService.findStats(user.getId(), CampaignStatisticsBase.DEADLINE,
+                LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 1), null);
+        assertThat(stats).hasSize(1);
+        CampaignMonthlyStatCounts counts = stats.get(0).getCounts();
+        assertThat(counts.countOf(Status.RESERVED)).isZero();
+        assertThat(counts.countOf(Status.DONE)).isEqualTo(1L);
+        assertThat(counts.getReceiptReviewDoneCount()).isEqualTo(1L);
+        assertThat(counts.getTotalSupportAmount()).isEqualTo(10000L);
+        assertThat(counts.getTotalExtraCost()).isEqualTo(2000L);
+    }
+
+    @Test
+    @DisplayName("삭제 시 롤업에서 해당 캠페인의 기여분이 제거된다")
+    void applyDelete() {
+        // given
+        Campaign campaign = persist(Status.PENDING, LocalDate.of(2024, 5, 1), null, 3000L, null);
+        statsService.apply(null, CampaignStatsSnapshot.of(campaign));
+
+        // when
+        statsService.apply(CampaignStatsSnapshot.of(campaign), null);
+        em.flush();
+
+        // then
+        List<CampaignMonthlyStat> stats = statsService.findStats(user.getId(), CampaignStatisticsBase.DEADLINE,
+                LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 1), null);
+        assertThat(stats).allSatisfy(stat -> assertThat(stat.getCounts().isZero()).isTrue());
+    }
+
+    @Test
+    @DisplayName("대조 작업은 누락/어긋난 롤업 행을 재계산 값으로 보정한다")
+    void reconcileRepairsDrift() {
+        // given
+        persist(Status.DONE, LocalDate.of(2024, 1, 10), true, 10000L, 1000L);
+        persist(Status.DONE, LocalDate.of(2024, 1, 20), false, 20000L, null);
+        CampaignMonthlyStatCounts wrong = new CampaignMonthlyStatCounts();
+        wrong.add(Status.DONE, 5, 0, 0, 0);
+        statRepository.save(CampaignMonthlyStat.of(
+                CampaignMonthlyStatKey.of(user.getId(), CampaignStatisticsBase.DEADLINE,
+                        LocalDate.of(2024, 1, 1), food.getId()),
+                wrong));
+        em.flush();
+        em.clear();
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CampaignMonthlyStatsReconciler reconciler = new CampaignMonthlyStatsReconciler(userRepository,
+                statsService, mock(DistributedLock.class), mock(TaskScheduler.class), meterRegistry);
+
+        // when
+        int drifted = reconciler.reconcileUser(user.getId());
+        em.flush();
+        em.clear();
+
+        // then
+        assertThat(drifted).isEqualTo(1);
+        assertThat(meterRegistry.counter("campaign.stats.drift").count()).isEqualTo(1);
+        CampaignMonthlyStatCounts counts = statsService.findStats(user.getId(), CampaignStatisticsBase.DEADLINE,
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 1), null).get(0).getCounts();
+        assertThat(counts.countOf(Status.DONE)).isEqualTo(2L);
+        assertThat(counts.getTotalSupportAmount()).isEqualTo(30000L);
+        assertThat(counts.getReceiptReviewDoneCount()).isEqualTo(1L);
+
+        // 다시 돌리면 더 이상 보정할 행이 없다
+        assertThat(reconciler.reconcileUser(user.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("기동 시 채우기는 readiness 를 막지 않도록 스케줄러로 넘기고 바로 돌아온다")
+    void scheduleBackfillDoesNotBlockStartup() {
+        // given
+        DistributedLock distributedLock = mock(DistributedLock.class);
+        TaskScheduler taskScheduler = mock(TaskScheduler.class);
+        CampaignMonthlyStatsReconciler reconciler = new CampaignMonthlyStatsReconciler(userRepository,
+                statsService, distributedLock, taskScheduler, new SimpleMeterRegistry());
+
+        // when
+        reconciler.scheduleBackfill();
+
+        // then
+        verify(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+        verifyNoInteractions(distributedLock);
+    }
+
+    @Test
+    @DisplayName("롤업 도입 전 가입자는 처음 조회할 때 campaign 테이블에서 채우고, 그 전의 증분은 덮어쓴다")
+    void findStatsBackfillsLegacyUser() {
+        // given: 롤업 없이 쌓인 캠페인, 도입 후 들어온 상태 변경 증분(롤업 행이 음수가 된다)
+        user.setMonthlyStatsReady(null);
+        Campaign campaign = persist(Status.RESERVED, LocalDate.of(2024, 4, 10), false, 5000L, null);
+        persist(Status.PENDING, LocalDate.of(2024, 4, 20), false, 7000L, null);
+        CampaignStatsSnapshot before = CampaignStatsSnapshot.of(campaign);
+        campaign.changeStatus(Status.CANCELED);
+        statsService.apply(before, CampaignStatsSnapshot.of(campaign));
+        em.flush();
+        em.clear();
+
+        // when
+        List<CampaignMonthlyStat> stats = statsService.findStats(user.getId(), CampaignStatisticsBase.DEADLINE,
+                LocalDate.of(2024, 4, 1), LocalDate.of(2024, 4, 1), null);
+        em.flush();
+        em.clear();
+
+        // then
+        assertThat(stats).hasSize(1);
+        CampaignMonthlyStatCounts counts = stats.get(0).getCounts();
+        assertThat(counts.countOf(Status.RESERVED)).isZero();
+        assertThat(counts.countOf(Status.CANCELED)).isEqualTo(1L);
+        assertThat(counts.countOf(Status.PENDING)).isEqualTo(1L);
+        assertThat(counts.getTotalSupportAmount()).isEqualTo(12000L);
+        assertThat(userRepository.findById(user.getId()).orElseThrow().getMonthlyStatsReady()).isTrue();
+    }
+
+    private Campaign persist(Status status, LocalDate deadline, Boolean receiptReview, Long supportAmount,
+            Long extraCost) {
+        return em.persist(Campaign.builder()
+                .user(user)
+                .platform(platform)
+                .category(food)
+                .storeName("store")
+                .status(status)
+                .deadline(deadline)
+                .receiptReview(receiptReview)
+                .supportAmount(supportAmount)
+                .extraCost(extraCost)
+                .build());
+    }
+}
@@ -0,0 +1,119 @@
+package org.example.campaign;
+
+import org.example.platform.Platform;
+import org.example.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 알림 청크 조회(findNotifiableByUserDueRange)의 결과와 실행 계획 확인.
+ * 계획은 H2 EXPLAIN 으로 본다. (PostgreSQL 부분 인덱스는 CampaignIndexInitializer 가 만들고 H2 에서는 건너뛴다)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class CampaignNotificationScanPlanTest {
+
+    private static final Instant NOW = Instant.parse("2024-03-10T00:00:00Z");
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 10);
+    private static final int USER_COUNT = 40;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    private final List<User> users = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Platform platform = em.persist(Platform.builder().code("review_note").name("리뷰노트")
+                .rewardEnabled(false).active(true).build());
+
+        // 사용자 절반은 NOW 에 due, 나머지는 한 시간 뒤
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = em.persist(User.builder()
+                    .email("scan" + i + "@test.com")
+                    .password("pw")
+                    .notificationDueAt(i % 2 == 0 ? NOW : NOW.plusSeconds(3600))
+                    .build());
+            users.add(user);
+            for (int d = -1; d <= 5; d++) {
+                em.persist(Campaign.builder()
+                        .user(user)
+                        .platform(platform)
+                        .storeName("store" + i + "_" + d)
+                        .deadline(TODAY.plusDays(d))
+                        .status(d == 0 ? Status.DONE : Status.PENDING)
+                        .build());
+            }
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("키셋 구간 (from, to] 의 사용자에 대한 진행 중 캠페인만 마감 기준일까지 읽는다")
+    void findNotifiableByUserDueRange_ReadsOnlyChunkUsers() {
+        // given: NOW 에 due 인 사용자들 중 두 번째 청크 (users[2] 초과 ~ users[6] 이하)
+        User from = users.get(2);
+        User to = users.get(6);
+
+        // when
+        List<Campaign> campaigns = campaignRepository.findNotifiableByUserDueRange(NOW, from.getId(), NOW,
+                to.getId(), TODAY.plusDays(3));
+
+        // then: users[4], users[6] 각각 D-1 ~ D-3 중 DONE(D-0) 제외 4건
+        assertThat(campaigns).extracting(c -> c.getUser().getId())
+                .containsExactly(users.get(4).getId(), users.get(4).getId(), users.get(4).getId(),
+                        users.get(4).getId(), users.get(6).getId(), users.get(6).getId(), users.get(6).getId(),
+                        users.get(6).getId());
+        assertThat(campaigns).allSatisfy(c -> {
+            assertThat(c.getStatus()).isEqualTo(Status.PENDING);
+            assertThat(c.getDeadline()).isBeforeOrEqualTo(TODAY.plusDays(3));
+        });
+    }
+
+    @Test
+    @DisplayName("사용자는 due 인덱스 범위로, 캠페인은 사용자별 인덱스로 읽는다 (전체 스캔 없음)")
+    void notificationScan_UsesIndexes() {
+        // given
+        em.getEntityManager().createNativeQuery("ANALYZE").executeUpdate();
+
+        // when: findNotifiableByUserDueRange 와 같은 모양의 SQL
+        @SuppressWarnings("unchecked")
+        List<Object> plan = em.getEntityManager().createNativeQuery("""
+                        EXPLAIN SELECT c.campaign_id FROM users u
+                        JOIN campaign c ON c.user_id = u.user_id
+                        WHERE u.notification_due_at >= :fromDueAt AND u.notification_due_at <= :toDueAt
+                        AND (u.notification_due_at > :fromDueAt OR u.user_id > :fromId)
+                        AND (u.notification_due_at < :toDueAt OR u.user_id <= :toId)
+                        AND c.status IN ('PENDING', 'RESERVED', 'VISITED')
+                        AND c.deadline <= :threshold
+                        """)
+                .setParameter("fromDueAt", NOW)
+                .setParameter("toDueAt", NOW)
+                .setParameter("fromId", users.get(2).getId())
+                .setParameter("toId", users.get(6).getId())
+                .setParameter("threshold", TODAY.plusDays(3))
+                .getResultList();
+        String explain = plan.get(0).toString();
+
+        // then
+        assertThat(explain).containsIgnoringCase("idx_users_notification_due_at");
+        assertThat(explain).doesNotContainIgnoringCase("USERS.tableScan");
+        assertThat(explain).doesNotContainIgnoringCase("CAMPAIGN.tableScan");
+    }
+}
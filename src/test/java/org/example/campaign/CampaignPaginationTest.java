@@ -0,0 +1,136 @@
+package org.example.campaign;
+
+import org.example.platform.Platform;
+import org.example.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ CampaignService.class, CampaignMonthlyStatsService.class })
+class CampaignPaginationTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private CampaignService campaignService;
+
+    @MockBean
+    private CampaignMapper campaignMapper;
+
+    @MockBean
+    private CampaignCacheEvictor campaignCacheEvictor;
+
+    private User user;
+    private Platform platform;
+    private final List<Long> expectedOrder = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        user = em.persist(User.builder().email("page@test.com").password("pw").build());
+        User other = em.persist(User.builder().email("other@test.com").password("pw").build());
+        platform = em.persist(Platform.builder().code("review_note").name("리뷰노트")
+                .rewardEnabled(false).active(true).build());
+
+        // 같은 마감일이 여러 건 있어도 id 로 순서가 고정되어야 한다
+        Campaign undated = persist(user, null, Status.PENDING);
+        Campaign mar = persist(user, LocalDate.of(2024, 3, 1), Status.PENDING);
+        Campaign jan1 = persist(user, LocalDate.of(2024, 1, 1), Status.RESERVED);
+        Campaign jan2 = persist(user, LocalDate.of(2024, 1, 1), Status.PENDING);
+        Campaign feb = persist(user, LocalDate.of(2024, 2, 1), Status.DONE);
+        persist(other, LocalDate.of(2024, 1, 1), Status.PENDING);
+        em.flush();
+        em.clear();
+
+        expectedOrder.addAll(List.of(jan1.getId(), jan2.getId(), feb.getId(), mar.getId(), undated.getId()));
+    }
+
+    @Test
+    @DisplayName("커서를 따라가면 (deadline, id) 순서로 중복/누락 없이 전체를 조회한다")
+    void walkAllPages() {
+        // when
+        List<Long> visited = new ArrayList<>();
+        List<Integer> pageSizes = new ArrayList<>();
+        String cursor = null;
+        CampaignPageResponse page;
+        do {
+            page = campaignService.findCampaignPage(user.getId(), null, cursor, 2);
+            page.getItems().forEach(dto -> visited.add(dto.getId()));
+            pageSizes.add(page.getItems().size());
+            cursor = page.getNextCursor();
+        } while (page.isHasNext());
+
+        // then
+        assertThat(visited).containsExactlyElementsOf(expectedOrder);
+        assertThat(pageSizes).containsExactly(2, 2, 1);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("상태 조건이 있으면 해당 상태만 페이지로 반환한다")
+    void filterByStatus() {
+        // when
+        CampaignPageResponse page = campaignService.findCampaignPage(user.getId(), Status.PENDING, null, 10);
+
+        // then
+        assertThat(page.getItems()).extracting(CampaignResponseDto::getStatus).containsOnly("PENDING");
+        assertThat(page.getItems()).hasSize(3);
+        assertThat(page.isHasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 1보다 작으면 1건으로 보정한다")
+    void pageSizeIsClamped() {
+        // when
+        CampaignPageResponse page = campaignService.findCampaignPage(user.getId(), null, null, 0);
+
+        // then
+        assertThat(page.getItems()).extracting(CampaignResponseDto::getId).containsExactly(expectedOrder.get(0));
+        assertThat(page.isHasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 IllegalArgumentException 으로 거절한다")
+    void invalidCursor() {
+        assertThatThrownBy(() -> campaignService.findCampaignPage(user.getId(), null, "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("스트리밍 조회는 페이지 조회와 같은 순서로 전체를 전달한다")
+    void streamInKeysetOrder() {
+        // when
+        List<Long> streamed = new ArrayList<>();
+        long count = campaignService.streamCampaigns(user.getId(), null, dto -> streamed.add(dto.getId()));
+
+        // then
+        assertThat(count).isEqualTo(expectedOrder.size());
+        assertThat(streamed).containsExactlyElementsOf(expectedOrder);
+    }
+
+    private Campaign persist(User owner, LocalDate deadline, Status status) {
+        return em.persist(Campaign.builder()
+                .user(owner)
+                .platform(platform)
+                .storeName("store")
+                .status(status)
+                .deadline(deadline)
+                .receiptReview(false)
+                .build());
+    }
+}
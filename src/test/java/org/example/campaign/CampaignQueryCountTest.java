@@ -0,0 +1,135 @@
+package org.example.campaign;
+
+import org.example.category.Category;
+import org.example.platform.Platform;
+import org.example.user.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록/단건 조회가 연관 엔티티(platform, category, user)를 추가 쿼리 없이 한 번에 읽는지 검증한다.
+ * 캠페인마다 다른 카테고리/플랫폼을 두어 N+1 이 발생하면 statement 수가 늘어나도록 구성한다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class CampaignQueryCountTest {
+
+    private static final int CAMPAIGN_COUNT = 3;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private CampaignRepository campaignRepository;
+
+    private Statistics statistics;
+    private User user;
+    private Long firstCampaignId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+
+        user = em.persist(User.builder().email("n1@test.com").password("pw").build());
+        for (int i = 0; i < CAMPAIGN_COUNT; i++) {
+            Platform platform = em.persist(Platform.builder().code("platform" + i).name("플랫폼" + i)
+                    .rewardEnabled(false).active(true).build());
+            Category category = em.persist(Category.builder().name("카테고리" + i).build());
+            Campaign campaign = em.persist(Campaign.builder()
+                    .user(user)
+                    .platform(platform)
+                    .category(category)
+                    .storeName("store" + i)
+                    .status(Status.PENDING)
+                    .receiptReview(false)
+                    .deadline(LocalDate.of(2024, 1, 1).plusDays(i))
+                    .build());
+            if (firstCampaignId == null) {
+                firstCampaignId = campaign.getId();
+            }
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("전체 목록 조회는 platform/category 를 포함해 쿼리 1회로 끝난다")
+    void findByUserId() {
+        long statements = countStatements(() -> campaignRepository.findByUserId(user.getId()).stream()
+                .map(CampaignResponseDto::fromEntity)
+                .toList());
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상태별 목록 조회는 platform/category 를 포함해 쿼리 1회로 끝난다")
+    void findByUserIdAndStatus() {
+        long statements = countStatements(() -> campaignRepository
+                .findByUserIdAndStatus(user.getId(), Status.PENDING, Sort.by("deadline"))
+                .stream()
+                .map(CampaignResponseDto::fromEntity)
+                .toList());
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("단건 조회는 platform/category 를 포함해 쿼리 1회로 끝난다")
+    void findByIdAndUserId() {
+        long statements = countStatements(() -> campaignRepository.findByIdAndUser_Id(firstCampaignId, user.getId())
+                .map(CampaignResponseDto::fromEntity)
+                .orElseThrow());
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("키셋 페이지 조회는 platform/category 를 포함해 쿼리 1회로 끝난다")
+    void findDatedPageAfter() {
+        long statements = countStatements(() -> campaignRepository
+                .findDatedPageAfter(user.getId(), null, CampaignCursor.FIRST.deadline(), CampaignCursor.FIRST.id(),
+                        PageRequest.of(0, CAMPAIGN_COUNT + 1))
+                .stream()
+                .map(CampaignResponseDto::fromEntity)
+                .toList());
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("알림 대상 조회는 user/platform 을 포함해 쿼리 1회로 끝난다")
+    void findByUsersAndDeadlineBefore() {
+        long statements = countStatements(() -> campaignRepository
+                .findByUsersAndDeadlineBefore(List.of(user.getId()), LocalDate.of(2024, 12, 31))
+                .stream()
+                .map(c -> c.getUser().getEmail() + c.getPlatform().getName())
+                .toList());
+
+        assertThat(statements).isEqualTo(1);
+    }
+
+    private long countStatements(Supplier<?> query) {
+        statistics.clear();
+        Object result = query.get();
+        assertThat(result).isNotNull();
+        return statistics.getPrepareStatementCount();
+    }
+}
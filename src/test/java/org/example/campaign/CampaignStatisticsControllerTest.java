@@ -1,8 +1,6 @@
 package org.example.campaign;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import org.example.auth.JwtTokenProvider;
-import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,6 +15,7 @@ import java.util.Map;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -30,17 +29,8 @@ public class CampaignStatisticsControllerTest {
         @MockBean
         private CampaignService campaignService;
 
-        @MockBean
-        private JwtTokenProvider jwtTokenProvider;
-
-        private String token = "Bearer test-token";
         private Long userId = 1L;
 
-        @BeforeEach
-        void setUp() {
-                given(jwtTokenProvider.getUserId(anyString())).willReturn(userId);
-        }
-
         @Test
         @DisplayName("월별 통계 조회 성공")
         void getMonthlyStatisticsSuccess() throws Exception {
@@ -66,7 +56,7 @@ public class CampaignStatisticsControllerTest {
 
                 // When & Then
                 mockMvc.perform(get("/campaigns/statistics/monthly")
-                                .header("Authorization", token)
+                                .with(jwt().jwt(j -> j.subject(userId.toString())))
                                 .param("startMonth", "2024-01")
                                 .param("endMonth", "2024-03")
                                 .param("base", "deadline"))
@@ -90,7 +80,7 @@ public class CampaignStatisticsControllerTest {
 
                 // When & Then
                 mockMvc.perform(get("/campaigns/statistics/monthly")
-                                .header("Authorization", token)
+                                .with(jwt().jwt(j -> j.subject(userId.toString())))
                                 .param("startMonth", "2024-01")
                                 .param("endMonth", "2024-03")
                                 .param("base", "deadline")
@@ -12,6 +12,8 @@ import org.springframework.test.context.ActiveProfiles;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @SpringBootTest
@@ -30,23 +32,23 @@ public class RedisCacheIntegrationTest {
     void findAllByUserId_Cache_Verification() {
         // Given
         Long userId = 999L;
-        Campaign mockCampaign = new Campaign(); // Needs basic fields if accessed, but list returns empty is fine
-        when(campaignRepository.findByUserId(userId)).thenReturn(List.of(mockCampaign));
+        CampaignResponseDto mockCampaign = new CampaignResponseDto();
+        when(campaignRepository.findDtosByUserId(eq(userId), any())).thenReturn(List.of(mockCampaign));
 
         // When 1: First Call (Cache MISS)
         System.out.println(">>> 1st Call (Should be MISS)");
-        List<Campaign> result1 = campaignService.findAllByUserId(userId);
+        List<CampaignResponseDto> result1 = campaignService.findAllByUserId(userId);
 
         // When 2: Second Call (Cache HIT)
         System.out.println(">>> 2nd Call (Should be HIT)");
-        List<Campaign> result2 = campaignService.findAllByUserId(userId);
+        List<CampaignResponseDto> result2 = campaignService.findAllByUserId(userId);
 
         // Then
         assertThat(result1).hasSize(1);
         assertThat(result2).hasSize(1); // Content should be same
 
         // Repository should be called ONLY ONCE
-        verify(campaignRepository, times(1)).findByUserId(userId);
+        verify(campaignRepository, times(1)).findDtosByUserId(eq(userId), any());
 
         System.out.println(">>> Verification Passed: Repository called 1 time for 2 service requests.");
     }
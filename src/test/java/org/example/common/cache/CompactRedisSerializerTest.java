@@ -0,0 +1,141 @@
+package org.example.common.cache;
+
+import org.example.campaign.CampaignResponseDto;
+import org.example.campaign.CampaignResponseDtoCodec;
+import org.example.category.CategoryResponseDto;
+import org.example.category.CategoryResponseDtoCodec;
+import org.example.common.config.RedisConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompactRedisSerializerTest {
+
+    private static final int THRESHOLD = 1024;
+
+    private GenericJackson2JsonRedisSerializer json;
+    private CompactRedisSerializer serializer;
+
+    @BeforeEach
+    void setUp() {
+        json = new GenericJackson2JsonRedisSerializer(new RedisConfig().redisObjectMapper());
+        serializer = new CompactRedisSerializer(
+                List.of(new CampaignResponseDtoCodec(), new CategoryResponseDtoCodec()), json, THRESHOLD, true);
+    }
+
+    @Test
+    @DisplayName("DTO 리스트는 바이너리로 왕복되고 JSON 보다 작다")
+    void roundTripDtoList() {
+        // given: null 필드와 빈 요일 목록 포함
+        List<CampaignResponseDto> value = new ArrayList<>(List.of(dto(1L), sparseDto(2L)));
+
+        // when
+        byte[] bytes = serializer.serialize(value);
+        Object restored = serializer.deserialize(bytes);
+
+        // then
+        assertThat(bytes[0]).isEqualTo(CompactRedisSerializer.MAGIC);
+        assertThat(bytes.length).isLessThan(json.serialize(value).length / 2);
+        assertThat(restored).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("임계값 이상인 값은 LZ4 로 압축해 저장한다")
+    void compressesLargeValues() {
+        // given
+        List<CampaignResponseDto> value = new ArrayList<>();
+        for (long id = 1; id <= 100; id++) {
+            value.add(dto(id));
+        }
+
+        // when
+        byte[] bytes = serializer.serialize(value);
+
+        // then
+        assertThat(bytes[1] & CompactRedisSerializer.FLAG_LZ4).isNotZero();
+        assertThat(serializer.deserialize(bytes)).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("전환 전에 JSON 으로 저장된 엔트리도 읽는다")
+    void readsLegacyJson() {
+        // given
+        List<CategoryResponseDto> value = new ArrayList<>(List.of(new CategoryResponseDto(1L, "맛집", 1, "Y")));
+        byte[] legacy = json.serialize(value);
+
+        // when & then
+        assertThat(serializer.deserialize(legacy)).isEqualTo(value);
+    }
+
+    @Test
+    @DisplayName("더 새로운 version 이나 모르는 타입, 깨진 값은 캐시 miss(null) 로 읽는다")
+    void unknownOrCorruptValuesAreMisses() {
+        // given: [MAGIC, flags, typeId, version, ...]
+        byte[] bytes = serializer.serialize(new ArrayList<>(List.of(dto(1L))));
+        byte[] newerVersion = bytes.clone();
+        newerVersion[3] = 2;
+        byte[] unknownType = bytes.clone();
+        unknownType[2] = 99;
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 5);
+
+        // when & then
+        assertThat(serializer.deserialize(newerVersion)).isNull();
+        assertThat(serializer.deserialize(unknownType)).isNull();
+        assertThat(serializer.deserialize(truncated)).isNull();
+    }
+
+    @Test
+    @DisplayName("codec 이 없는 값과 빈 리스트도 왕복된다")
+    void fallbackAndEmptyList() {
+        // given
+        Map<String, Object> map = new HashMap<>(Map.of("count", 3));
+
+        // when
+        byte[] mapBytes = serializer.serialize(map);
+        Object emptyList = serializer.deserialize(serializer.serialize(List.of()));
+
+        // then
+        assertThat(mapBytes[0]).isEqualTo((byte) '{');
+        assertThat(serializer.deserialize(mapBytes)).isEqualTo(map);
+        assertThat(emptyList).isEqualTo(List.of());
+    }
+
+    @Test
+    @DisplayName("compact-write 를 끄면 JSON 으로 쓰되 바이너리는 계속 읽는다")
+    void readOnlyMode() {
+        // given
+        CompactRedisSerializer readOnly = new CompactRedisSerializer(List.of(new CampaignResponseDtoCodec()), json,
+                THRESHOLD, false);
+        List<CampaignResponseDto> value = new ArrayList<>(List.of(dto(1L)));
+
+        // when
+        byte[] written = readOnly.serialize(value);
+
+        // then
+        assertThat(written[0]).isNotEqualTo(CompactRedisSerializer.MAGIC);
+        assertThat(readOnly.deserialize(serializer.serialize(value))).isEqualTo(value);
+    }
+
+    private CampaignResponseDto dto(Long id) {
+        return new CampaignResponseDto(id, "가게" + id, "010-1234-5678", "서울시 성동구 " + id, 1L, "리뷰노트", 2L, "맛집",
+                30000L, -500L, true, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31), LocalDate.of(2024, 1, 20),
+                LocalDate.of(2024, 1, 15), List.of("MONDAY", "FRIDAY"), "11:00 - 21:00", "DONE",
+                LocalDateTime.of(2024, 1, 21, 12, 30, 15, 123_000_000));
+    }
+
+    private CampaignResponseDto sparseDto(Long id) {
+        return new CampaignResponseDto(id, "가게" + id, null, null, 1L, "리뷰노트", null, null, null, null, false,
+                null, null, LocalDate.of(2024, 1, 20), null, List.of(), null, "PENDING", null);
+    }
+}
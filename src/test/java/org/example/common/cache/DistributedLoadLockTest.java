@@ -0,0 +1,116 @@
+package org.example.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DistributedLoadLockTest {
+
+    private static final String LOCK_KEY = DistributedLoadLock.KEY_PREFIX + "campaigns:user:1:list";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private DistributedLoadLock loadLock;
+    private final AtomicInteger loads = new AtomicInteger();
+    private final List<String> stored = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loadLock = new DistributedLoadLock(redisTemplate, meterRegistry, Duration.ofSeconds(5),
+                Duration.ofMillis(200), Duration.ofMillis(10));
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("잠금을 얻으면 직접 적재해 캐시에 쓰고 잠금을 푼다")
+    void loadsAndReleasesWhenAcquired() throws Exception {
+        // given
+        given(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).willReturn(true);
+
+        // when
+        String value = load(() -> null);
+
+        // then
+        assertThat(value).isEqualTo("db");
+        assertThat(stored).containsExactly("db");
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), anyString());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 적재 중이면 캐시에 채워진 값을 기다렸다 읽는다")
+    void waitsForOtherNode() throws Exception {
+        // given: 세 번째 확인에서 다른 노드가 채운 값이 보인다
+        given(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).willReturn(false);
+        AtomicInteger checks = new AtomicInteger();
+
+        // when
+        String value = load(() -> checks.incrementAndGet() < 3 ? null : new SimpleValueWrapper("other-node"));
+
+        // then
+        assertThat(value).isEqualTo("other-node");
+        assertThat(loads.get()).isZero();
+        assertThat(stored).isEmpty();
+        assertThat(meterRegistry.counter("cache.singleflight.remote", "cache", "campaigns", "result", "hit").count())
+                .isEqualTo(1);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("기다려도 채워지지 않거나 Redis 가 응답하지 않으면 직접 적재한다")
+    void fallsBackToLocalLoad() throws Exception {
+        // given
+        given(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class)))
+                .willReturn(false)
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        String timedOut = load(() -> null);
+        String redisDown = load(() -> null);
+
+        // then
+        assertThat(timedOut).isEqualTo("db");
+        assertThat(redisDown).isEqualTo("db");
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(meterRegistry.counter("cache.singleflight.remote", "cache", "campaigns", "result", "timeout")
+                .count()).isEqualTo(1);
+    }
+
+    private String load(Supplier<Cache.ValueWrapper> recheck) throws Exception {
+        return loadLock.load("campaigns", "user:1:list", recheck, () -> {
+            loads.incrementAndGet();
+            return "db";
+        }, stored::add);
+    }
+}
@@ -0,0 +1,143 @@
+package org.example.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class InstrumentedCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConcurrentMapCache delegate;
+    private InstrumentedCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        delegate = spy(new ConcurrentMapCache("campaigns"));
+        cache = new InstrumentedCache(delegate, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("조회 결과로 hit/miss 를 세고, 위임 캐시는 조회마다 한 번만 읽는다")
+    void countsHitAndMissWithSingleLookup() {
+        // given
+        delegate.put("user:1:all", "value");
+
+        // when
+        Cache.ValueWrapper hit = cache.get("user:1:all");
+        Cache.ValueWrapper miss = cache.get("user:2:all");
+        String typed = cache.get("user:1:all", String.class);
+
+        // then
+        assertThat(hit.get()).isEqualTo("value");
+        assertThat(miss).isNull();
+        assertThat(typed).isEqualTo("value");
+        verify(delegate, times(2)).get("user:1:all");
+        verify(delegate, times(1)).get("user:2:all");
+        assertThat(gets("hit")).isEqualTo(2.0);
+        assertThat(gets("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("get(key, loader) 는 loader 가 실행되면 miss, 저장된 값을 받으면 hit 으로 센다")
+    void loaderCallsCountAsMiss() {
+        // when
+        String first = cache.get("user:1:list", () -> "loaded");
+        String second = cache.get("user:1:list", () -> "reloaded");
+
+        // then
+        assertThat(first).isEqualTo("loaded");
+        assertThat(second).isEqualTo("loaded");
+        assertThat(gets("miss")).isEqualTo(1.0);
+        assertThat(gets("hit")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("cache.loads").tag("cache", "campaigns").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("singleFlight 를 주면 같은 키의 동시 miss 는 한 번만 적재하고, 다른 키의 적재는 기다리지 않는다")
+    void coalescesLoadsPerKeyWithoutCacheWideLock() throws Exception {
+        // given
+        InstrumentedCache coalescing = new InstrumentedCache(delegate, meterRegistry,
+                new SingleFlight(meterRegistry), null);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // when: user:1 적재가 멈춰 있는 동안 user:2 를 적재한다
+            Future<?>[] results = new Future<?>[3];
+            for (int i = 0; i < results.length; i++) {
+                results[i] = executor.submit(() -> {
+                    start.await();
+                    return coalescing.get("user:1:list", () -> {
+                        loads.incrementAndGet();
+                        loading.countDown();
+                        release.await();
+                        return "loaded";
+                    });
+                });
+            }
+            start.countDown();
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<String> other = executor.submit(() -> coalescing.get("user:2:list", () -> "other"));
+
+            // then
+            assertThat(other.get(5, TimeUnit.SECONDS)).isEqualTo("other");
+            release.countDown();
+            for (Future<?> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+            }
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(delegate.get("user:1:list").get()).isEqualTo("loaded");
+        verify(delegate, never()).get(any(), any(Callable.class));
+    }
+
+    @Test
+    @DisplayName("CacheManager 는 캐시마다 같은 데코레이터를 돌려주고, prefix 무효화는 위임 캐시에 적용된다")
+    void managerReusesDecoratorAndEvictsByPrefix() {
+        // given
+        InstrumentedCacheManager cacheManager = new InstrumentedCacheManager(new ConcurrentMapCacheManager(),
+                meterRegistry);
+        Cache campaigns = cacheManager.getCache("campaigns");
+        campaigns.put("user:1:all", "one");
+        campaigns.put("user:2:all", "two");
+
+        // when
+        CacheEvictionSupport.evictByPrefix(cacheManager.getCache("campaigns"), "user:1:");
+
+        // then
+        assertThat(cacheManager.getCache("campaigns")).isSameAs(campaigns);
+        assertThat(campaigns.get("user:1:all")).isNull();
+        assertThat(campaigns.get("user:2:all").get()).isEqualTo("two");
+        assertThat(meterRegistry.get("cache.puts").tag("cache", "campaigns").counter().count()).isEqualTo(2.0);
+    }
+
+    private double gets(String result) {
+        return meterRegistry.get("cache.gets").tags("cache", "campaigns", "result", result).counter().count();
+    }
+}
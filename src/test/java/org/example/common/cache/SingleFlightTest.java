@@ -0,0 +1,103 @@
+package org.example.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight singleFlight;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(meterRegistry);
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 들어온 요청은 loader 를 한 번만 실행하고 같은 결과를 받는다")
+    void coalescesConcurrentLoads() throws Exception {
+        // given: leader 의 적재를 나머지가 모두 합류할 때까지 붙잡아 둔다
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        List<Future<String>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("campaigns", "user:1:list", () -> {
+                loads.incrementAndGet();
+                release.await(5, TimeUnit.SECONDS);
+                return "loaded";
+            })));
+        }
+        waitUntil(() -> coalesced() == CALLERS - 1);
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("cache.singleflight.loads", "cache", "campaigns").count()).isEqualTo(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("leader 가 실패하면 기다리던 요청도 같은 예외를 받고, 다음 요청은 다시 적재한다")
+    void propagatesFailureAndRetriesNextTime() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> singleFlight.execute("campaigns", "k", () -> {
+            release.await(5, TimeUnit.SECONDS);
+            throw new IllegalStateException("db down");
+        }));
+        waitUntil(() -> singleFlight.inFlightCount() == 1);
+        Future<String> follower = executor.submit(() -> singleFlight.execute("campaigns", "k", () -> "unused"));
+        waitUntil(() -> coalesced() == 1);
+
+        // when
+        release.countDown();
+
+        // then
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("db down");
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasRootCauseMessage("db down");
+        assertThat(singleFlight.execute("campaigns", "k", () -> "recovered")).isEqualTo("recovered");
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private double coalesced() {
+        return meterRegistry.counter("cache.singleflight.coalesced", "cache", "campaigns").count();
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.common.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class TwoLevelCacheTest {
+
+    private ConcurrentMapCacheManager remoteCacheManager;
+    private StringRedisTemplate redisTemplate;
+    private MeterRegistry meterRegistry;
+    private TwoLevelCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        remoteCacheManager = new ConcurrentMapCacheManager();
+        redisTemplate = mock(StringRedisTemplate.class);
+        meterRegistry = new SimpleMeterRegistry();
+        cacheManager = new TwoLevelCacheManager(remoteCacheManager, redisTemplate, meterRegistry,
+                Set.of("campaigns"), 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("L2 HIT은 L1으로 승격되고 이후 조회는 L1에서 처리된다")
+    void promoteOnRemoteHit() {
+        // given
+        remoteCacheManager.getCache("campaigns").put("user:1:all", "value");
+        Cache cache = cacheManager.getCache("campaigns");
+
+        // when
+        Cache.ValueWrapper first = cache.get("user:1:all");
+        remoteCacheManager.getCache("campaigns").evict("user:1:all");
+        Cache.ValueWrapper second = cache.get("user:1:all");
+
+        // then
+        assertThat(first.get()).isEqualTo("value");
+        assertThat(second.get()).isEqualTo("value");
+        assertThat(meterRegistry.counter("cache.near.promotions", "cache", "campaigns").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("cache.near.hits", "cache", "campaigns").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("evict 시 L1/L2를 비우고 무효화 메시지를 발행한다")
+    void evictPublishesInvalidation() {
+        // given
+        Cache cache = cacheManager.getCache("campaigns");
+        cache.put("user:1:all", "value");
+
+        // when
+        cache.evict("user:1:all");
+
+        // then
+        assertThat(cache.get("user:1:all")).isNull();
+        assertThat(remoteCacheManager.getCache("campaigns").get("user:1:all")).isNull();
+        ArgumentCaptor<String> messageCaptor = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate, times(2)).convertAndSend(eq(TwoLevelCacheManager.INVALIDATION_CHANNEL),
+                messageCaptor.capture());
+        CacheInvalidationMessage published = CacheInvalidationMessage.decode(messageCaptor.getValue());
+        assertThat(published.type()).isEqualTo(CacheInvalidationMessage.Type.KEY);
+        assertThat(published.key()).isEqualTo("user:1:all");
+    }
+
+    @Test
+    @DisplayName("다른 노드의 prefix 무효화 메시지를 받으면 해당 사용자의 L1 항목만 제거한다")
+    void remotePrefixInvalidationClearsLocalOnly() {
+        // given
+        TwoLevelCache cache = (TwoLevelCache) cacheManager.getCache("campaigns");
+        remoteCacheManager.getCache("campaigns").put("user:1:all", "one");
+        remoteCacheManager.getCache("campaigns").put("user:2:all", "two");
+        cache.get("user:1:all");
+        cache.get("user:2:all");
+
+        // when
+        String raw = new CacheInvalidationMessage("other-node", CacheInvalidationMessage.Type.PREFIX,
+                "campaigns", "user:1:").encode();
+        cacheManager.onMessage(new DefaultMessage(
+                TwoLevelCacheManager.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                raw.getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        @SuppressWarnings("unchecked")
+        com.github.benmanes.caffeine.cache.Cache<String, Cache.ValueWrapper> local =
+                (com.github.benmanes.caffeine.cache.Cache<String, Cache.ValueWrapper>) cache.getNativeCache();
+        assertThat(local.getIfPresent("user:1:all")).isNull();
+        assertThat(local.getIfPresent("user:2:all")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("evict 직후 동시에 miss 난 get(key, loader) 는 loader 를 한 번만 실행하고 L2 에 채운다")
+    void concurrentMissesLoadOnce() throws Exception {
+        // given
+        Cache cache = cacheManager.getCache("campaigns");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // when
+            Future<?>[] results = new Future<?>[4];
+            for (int i = 0; i < results.length; i++) {
+                results[i] = executor.submit(() -> {
+                    start.await();
+                    return cache.get("user:1:list", () -> {
+                        loads.incrementAndGet();
+                        Thread.sleep(200);
+                        return "loaded";
+                    });
+                });
+            }
+            start.countDown();
+
+            // then
+            for (Future<?> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("loaded");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(remoteCacheManager.getCache("campaigns").get("user:1:list").get()).isEqualTo("loaded");
+    }
+}
@@ -0,0 +1,192 @@
+package org.example.common.lock;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 DB 를 보는 두 노드(node-a, node-b)를 DistributedLock 두 개로 흉내 낸다.
+ * 잠금 상태는 노드별 트랜잭션으로 커밋되어야 하므로 테스트 트랜잭션은 쓰지 않는다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class DistributedLockTest {
+
+    private static final String JOB = "test-job";
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    @Autowired
+    private SchedulerLockRepository lockRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-03-01T00:00:00Z"));
+    private SimpleMeterRegistry meterRegistry;
+    private DistributedLock nodeA;
+    private DistributedLock nodeB;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        nodeA = new DistributedLock(lockRepository, transactionManager, meterRegistry, "node-a", clock);
+        nodeB = new DistributedLock(lockRepository, transactionManager, meterRegistry, "node-b", clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        lockRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("한 노드가 잡고 있는 동안 다른 노드는 잠금을 얻지 못한다")
+    void secondNodeIsRejectedWhileHeld() {
+        // when
+        Optional<LockLease> a = nodeA.tryAcquire(JOB, TTL);
+        Optional<LockLease> b = nodeB.tryAcquire(JOB, TTL);
+
+        // then
+        assertThat(a).isPresent();
+        assertThat(a.get().fencingToken()).isEqualTo(1);
+        assertThat(b).isEmpty();
+        assertThat(nodeA.isHeld(a.get())).isTrue();
+        assertThat(meterRegistry.counter("scheduler.lock.acquire", "lock", JOB, "result", "acquired").count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.counter("scheduler.lock.acquire", "lock", JOB, "result", "busy").count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("해제하면 다른 노드가 더 큰 fencing token 으로 가져간다")
+    void releasedLockIsTakenWithHigherToken() {
+        // given
+        LockLease a = nodeA.tryAcquire(JOB, TTL).orElseThrow();
+
+        // when
+        nodeA.release(a, Duration.ZERO);
+        LockLease b = nodeB.tryAcquire(JOB, TTL).orElseThrow();
+
+        // then
+        assertThat(b.fencingToken()).isGreaterThan(a.fencingToken());
+        assertThat(nodeA.isHeld(a)).isFalse();
+        assertThat(nodeB.isHeld(b)).isTrue();
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나면 죽은 노드의 잠금을 가져가고, 뒤늦은 해제는 새 잠금에 영향이 없다")
+    void expiredLockIsTakenOverAndStaleReleaseIsIgnored() {
+        // given: node-a 가 잡은 채로 멈춤
+        LockLease a = nodeA.tryAcquire(JOB, TTL).orElseThrow();
+        clock.advance(TTL.plusSeconds(1));
+
+        // when
+        LockLease b = nodeB.tryAcquire(JOB, TTL).orElseThrow();
+        nodeA.release(a, Duration.ZERO);
+
+        // then
+        assertThat(b.fencingToken()).isEqualTo(a.fencingToken() + 1);
+        assertThat(nodeA.isHeld(a)).isFalse();
+        assertThat(nodeB.isHeld(b)).isTrue();
+        assertThat(nodeA.tryAcquire(JOB, TTL)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("잡이 빨리 끝나도 lockAtLeastFor 동안은 다른 노드가 다시 실행하지 않는다")
+    void runExclusivelyKeepsLockAtLeastFor() {
+        // given
+        AtomicInteger runs = new AtomicInteger();
+        Duration atLeast = Duration.ofMinutes(5);
+
+        // when
+        boolean ranOnA = nodeA.runExclusively(JOB, TTL, atLeast, lease -> runs.incrementAndGet());
+        boolean ranOnB = nodeB.runExclusively(JOB, TTL, atLeast, lease -> runs.incrementAndGet());
+        clock.advance(atLeast);
+        boolean ranOnBLater = nodeB.runExclusively(JOB, TTL, atLeast, lease -> runs.incrementAndGet());
+
+        // then
+        assertThat(ranOnA).isTrue();
+        assertThat(ranOnB).isFalse();
+        assertThat(ranOnBLater).isTrue();
+        assertThat(runs.get()).isEqualTo(2);
+        assertThat(meterRegistry.timer("scheduler.lock.held", "lock", JOB).count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("두 노드가 동시에 처음 잠금을 시도해도 한 노드만 얻는다")
+    void concurrentFirstAcquisitionHasSingleWinner() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 20; round++) {
+                String job = "race-" + round;
+                CountDownLatch start = new CountDownLatch(1);
+                Future<Optional<LockLease>> a = executor.submit(() -> {
+                    start.await();
+                    return nodeA.tryAcquire(job, TTL);
+                });
+                Future<Optional<LockLease>> b = executor.submit(() -> {
+                    start.await();
+                    return nodeB.tryAcquire(job, TTL);
+                });
+                start.countDown();
+
+                int winners = (a.get(10, TimeUnit.SECONDS).isPresent() ? 1 : 0)
+                        + (b.get(10, TimeUnit.SECONDS).isPresent() ? 1 : 0);
+                assertThat(winners).as("round %d", round).isEqualTo(1);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
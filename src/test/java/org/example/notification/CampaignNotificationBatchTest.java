@@ -3,21 +3,31 @@ package org.example.notification;
 import org.example.campaign.Campaign;
 import org.example.campaign.CampaignRepository;
 import org.example.campaign.Status;
+import org.example.common.lock.DistributedLock;
+import org.example.common.lock.LockLease;
 import org.example.platform.Platform;
+import org.example.user.NotificationTarget;
 import org.example.user.User;
-import org.example.user.UserRepository;
+import org.example.user.UserService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.mockito.ArgumentCaptor;
-import org.mockito.InjectMocks;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -27,16 +37,26 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class CampaignNotificationBatchTest {
 
+    // 2024-03-10 09:00 KST
+    private static final Instant NOW = Instant.parse("2024-03-10T00:00:00Z");
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 10);
+
     @Mock
-    private UserRepository userRepository;
+    private UserService userService;
 
     @Mock
     private CampaignRepository campaignRepository;
 
     @Mock
-    private EmailService emailService;
+    private NotificationOutboxService outboxService;
+
+    @Mock
+    private DistributedLock distributedLock;
+
+    private final LockLease lease = new LockLease(CampaignNotificationBatch.LOCK_NAME, "node-a", 1L,
+            LocalDateTime.now(), LocalDateTime.now().plusMinutes(55));
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
     private CampaignNotificationBatch notificationBatch;
 
     private User testUser;
@@ -44,6 +64,13 @@ class CampaignNotificationBatchTest {
 
     @BeforeEach
     void setUp() {
+        // 동기 실행자로 바꿔 청크 처리를 테스트 스레드에서 수행한다
+        Executor direct = Runnable::run;
+        meterRegistry = new SimpleMeterRegistry();
+        notificationBatch = new CampaignNotificationBatch(userService, campaignRepository, outboxService,
+                distributedLock, new NotificationEmailRenderer(), direct, 2, meterRegistry,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+
         testUser = User.builder()
                 .id(1L)
                 .email("test@example.com")
@@ -58,19 +85,32 @@ class CampaignNotificationBatchTest {
                 .build();
     }
 
+    // 잠금을 얻은 노드로 실행한다
+    private void givenLockAcquired() {
+        given(distributedLock.runExclusively(eq(CampaignNotificationBatch.LOCK_NAME), any(), any(), any()))
+                .willAnswer(invocation -> {
+                    invocation.<Consumer<LockLease>>getArgument(3).accept(lease);
+                    return true;
+                });
+        given(distributedLock.isHeld(lease)).willReturn(true);
+    }
+
     @Test
-    @DisplayName("알림 대상 사용자에게 지연 및 임박 메일 발송 성공")
+    @DisplayName("알림 대상 사용자에게 지연 및 임박 메일을 outbox 에 적재")
     void sendDeadlineNotifications_Success() {
         // Given
-        given(userRepository.findByNotificationEnabledTrueAndNotificationHour(anyInt()))
-                .willReturn(List.of(testUser));
+        givenLockAcquired();
+        List<NotificationTarget> targets = List.of(target(1L));
+        given(userService.findDueNotificationTargets(eq(NOW), any(), eq(0L), anyInt())).willReturn(targets);
+        given(userService.findDueNotificationTargets(eq(NOW), any(), eq(1L), anyInt()))
+                .willReturn(Collections.emptyList());
 
         Campaign overdueCampaign = Campaign.builder()
                 .id(101L)
                 .user(testUser)
                 .storeName("Overdue Store")
                 .platform(testPlatform)
-                .deadline(LocalDate.now().minusDays(1))
+                .deadline(TODAY.minusDays(1))
                 .status(Status.PENDING)
                 .build();
 
@@ -79,38 +119,303 @@ class CampaignNotificationBatchTest {
                 .user(testUser)
                 .storeName("D-Day Store")
                 .platform(testPlatform)
-                .deadline(LocalDate.now())
+                .deadline(TODAY)
                 .status(Status.RESERVED)
                 .build();
 
-        given(campaignRepository.findByUsersAndDeadlineBefore(anyList(), any(LocalDate.class)))
+        given(campaignRepository.findNotifiableByUserDueRange(any(), anyLong(), any(), anyLong(),
+                any(LocalDate.class)))
                 .willReturn(List.of(overdueCampaign, dDayCampaign));
+        given(outboxService.enqueue(anyList())).willAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
 
         // When
         notificationBatch.sendDeadlineNotifications();
 
         // Then
-        ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
-        verify(emailService).sendEmail(eq("test@example.com"), anyString(), bodyCaptor.capture());
+        List<NotificationOutbox> rows = captureEnqueued(1).get(0);
+        assertThat(rows).hasSize(1);
+        NotificationOutbox row = rows.get(0);
+        assertThat(row.getRecipient()).isEqualTo("test@example.com");
+        assertThat(row.getStatus()).isEqualTo(NotificationOutboxStatus.PENDING);
+        assertThat(row.getIdempotencyKey())
+                .isEqualTo(NotificationOutbox.idempotencyKey(1L, TODAY, List.of(102L, 101L)));
 
-        String emailBody = bodyCaptor.getValue();
+        String emailBody = row.getBody();
         assertThat(emailBody).contains("[지연됨!!] Overdue Store");
         assertThat(emailBody).contains("[오늘 마감] D-Day Store");
         assertThat(emailBody).contains("Tester님");
+        assertThat(meterRegistry.counter("notification.batch.emails").count()).isEqualTo(1);
+        verify(userService).advanceNotificationDueAt(targets, NOW);
+    }
+
+    @Test
+    @DisplayName("사용자 시간대의 날짜로 D-day 와 중복 키를 계산")
+    void sendDeadlineNotifications_UsesUserLocalDate() {
+        // Given: NOW 는 LA 에서 2024-03-09 16:00
+        givenLockAcquired();
+        User laUser = User.builder().id(2L).email("la@example.com").nickname("LA").build();
+        given(userService.findDueNotificationTargets(eq(NOW), any(), eq(0L), anyInt()))
+                .willReturn(List.of(target(1L), new NotificationTarget(2L, "America/Los_Angeles", 16, NOW)));
+        given(userService.findDueNotificationTargets(eq(NOW), any(), eq(2L), anyInt()))
+                .willReturn(Collections.emptyList());
+
+        // 청크 키셋 구간으로 조회하고, 기준일은 가장 늦은 현지 날짜(서울) + 3일
+        given(campaignRepository.findNotifiableByUserDueRange(Instant.EPOCH, 0L, NOW, 2L, TODAY.plusDays(3)))
+                .willReturn(List.of(
+                        campaign(301L, testUser, TODAY.plusDays(3)),
+                        campaign(302L, laUser, TODAY.plusDays(2)),
+                        campaign(303L, laUser, TODAY.plusDays(3))));
+        given(outboxService.enqueue(anyList())).willAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        // When
+        notificationBatch.sendDeadlineNotifications();
+
+        // Then
+        List<NotificationOutbox> rows = captureEnqueued(1).get(0);
+        assertThat(rows).hasSize(2);
+        NotificationOutbox laRow = rows.get(1);
+        assertThat(laRow.getIdempotencyKey())
+                .isEqualTo(NotificationOutbox.idempotencyKey(2L, TODAY.minusDays(1), List.of(302L)));
+        assertThat(laRow.getBody()).contains("[D-3] Store302").doesNotContain("Store303");
+        assertThat(rows.get(0).getBody()).contains("[D-3] Store301");
+    }
+
+    @Test
+    @DisplayName("사용자를 chunk 단위로 나눠 조회하고 사용자별로 outbox 행을 하나씩 적재")
+    void sendDeadlineNotifications_Chunked() {
+        // Given (chunk size = 2)
+        givenLockAcquired();
+        User second = User.builder().id(2L).email("second@example.com").nickname("Second").build();
+        User third = User.builder().id(3L).email("third@example.com").nickname("Third").build();
+        given(userService.findDueNotificationTargets(eq(NOW), any(), eq(0L), anyInt()))
+                .willReturn(List.of(target(1L), target(2L)));
+        given(userService.findDueNotificationTargets(eq(NOW), any(), eq(2L), anyInt()))
+                .willReturn(List.of(target(3L)));
+        given(userService.findDueNotificationTargets(eq(NOW), any(), eq(3L), anyInt()))
+                .willReturn(Collections.emptyList());
+
+        given(campaignRepository.findNotifiableByUserDueRange(eq(Instant.EPOCH), eq(0L), eq(NOW), eq(2L),
+                any(LocalDate.class)))
+                .willReturn(List.of(campaign(201L, testUser), campaign(202L, second), campaign(203L, testUser)));
+        given(campaignRepository.findNotifiableByUserDueRange(eq(NOW), eq(2L), eq(NOW), eq(3L),
+                any(LocalDate.class)))
+                .willReturn(List.of(campaign(204L, third)));
+        given(outboxService.enqueue(anyList())).willAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        // When
+        notificationBatch.sendDeadlineNotifications();
+
+        // Then
+        verify(campaignRepository, times(2)).findNotifiableByUserDueRange(any(), anyLong(), any(), anyLong(),
+                any(LocalDate.class));
+        List<List<NotificationOutbox>> chunks = captureEnqueued(2);
+        assertThat(chunks.get(0)).extracting(NotificationOutbox::getRecipient)
+                .containsExactly("test@example.com", "second@example.com");
+        assertThat(chunks.get(1)).extracting(NotificationOutbox::getRecipient)
+                .containsExactly("third@example.com");
+        assertThat(meterRegistry.counter("notification.batch.users").count()).isEqualTo(3);
+        assertThat(meterRegistry.counter("notification.batch.emails").count()).isEqualTo(3);
+        verify(userService, times(2)).advanceNotificationDueAt(anyList(), eq(NOW));
+    }
+
+    @Test
+    @DisplayName("같은 날 배치를 다시 돌리면 이미 적재된 행은 중복으로 집계")
+    void sendDeadlineNotifications_RerunIsDeduplicated() {
+        // Given
+        givenLockAcquired();
+        givenSingleDueUser();
+        given(campaignRepository.findNotifiableByUserDueRange(any(), anyLong(), any(), anyLong(),
+                any(LocalDate.class)))
+                .willReturn(List.of(campaign(201L, testUser)));
+        given(outboxService.enqueue(anyList())).willReturn(0);
+
+        // When
+        notificationBatch.sendDeadlineNotifications();
+
+        // Then
+        assertThat(meterRegistry.counter("notification.batch.emails").count()).isZero();
+        assertThat(meterRegistry.counter("notification.batch.duplicates").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스와 키가 충돌하면 행을 새로 만들어 한 번 더 적재")
+    void sendDeadlineNotifications_RetriesOnKeyConflict() {
+        // Given
+        givenLockAcquired();
+        givenSingleDueUser();
+        given(campaignRepository.findNotifiableByUserDueRange(any(), anyLong(), any(), anyLong(),
+                any(LocalDate.class)))
+                .willReturn(List.of(campaign(201L, testUser)));
+        given(outboxService.enqueue(anyList()))
+                .willThrow(new DataIntegrityViolationException("uk_notification_outbox_key"))
+                .willReturn(0);
+
+        // When
+        notificationBatch.sendDeadlineNotifications();
+
+        // Then
+        List<List<NotificationOutbox>> attempts = captureEnqueued(2);
+        assertThat(attempts.get(1).get(0)).isNotSameAs(attempts.get(0).get(0));
+        assertThat(attempts.get(1).get(0).getIdempotencyKey()).isEqualTo(attempts.get(0).get(0).getIdempotencyKey());
+        assertThat(meterRegistry.counter("notification.batch.failures").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도에서도 키가 충돌하면 그 청크만 실패로 집계하고 다음 청크는 계속 적재")
+    void sendDeadlineNotifications_RetryFailureIsIsolatedToChunk() {
+        // Given: chunk-size 2 → 사용자 1,2 / 사용자 3 두 청크
+        givenLockAcquired();
+        User user2 = User.builder().id(2L).email("u2@example.com").nickname("U2").build();
+        User user3 = User.builder().id(3L).email("u3@example.com").nickname("U3").build();
+        given(userService.findDueNotificationTargets(eq(NOW), any(), eq(0L), anyInt()))
+                .willReturn(List.of(target(1L), target(2L)));
+        given(userService.findDueNotificationTargets(eq(NOW), any(), eq(2L), anyInt()))
+                .willReturn(List.of(target(3L)));
+        given(userService.findDueNotificationTargets(eq(NOW), any(), eq(3L), anyInt()))
+                .willReturn(Collections.emptyList());
+        given(campaignRepository.findNotifiableByUserDueRange(any(), eq(0L), any(), eq(2L), any(LocalDate.class)))
+                .willReturn(List.of(campaign(201L, testUser), campaign(202L, user2)));
+        given(campaignRepository.findNotifiableByUserDueRange(any(), eq(2L), any(), eq(3L), any(LocalDate.class)))
+                .willReturn(List.of(campaign(203L, user3)));
+        given(outboxService.enqueue(anyList()))
+                .willThrow(new DataIntegrityViolationException("uk_notification_outbox_key"))
+                .willThrow(new DataIntegrityViolationException("uk_notification_outbox_key"))
+                .willReturn(1);
+
+        // When
+        notificationBatch.sendDeadlineNotifications();
+
+        // Then
+        captureEnqueued(3);
+        verify(userService, times(1)).advanceNotificationDueAt(anyList(), any());
+        verify(userService).advanceNotificationDueAt(eq(List.of(target(3L))), any());
+        assertThat(meterRegistry.counter("notification.batch.failures").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("notification.batch.emails").count()).isEqualTo(1);
     }
 
     @Test
     @DisplayName("알림 대상 사용자가 없을 경우 중단")
     void sendDeadlineNotifications_NoUsers() {
         // Given
-        given(userRepository.findByNotificationEnabledTrueAndNotificationHour(anyInt()))
+        givenLockAcquired();
+        given(userService.findDueNotificationTargets(any(), any(), anyLong(), anyInt()))
+                .willReturn(Collections.emptyList());
+
+        // When
+        notificationBatch.sendDeadlineNotifications();
+
+        // Then
+        verify(campaignRepository, never()).findNotifiableByUserDueRange(any(), any(), any(), any(), any());
+        verify(outboxService, never()).enqueue(anyList());
+    }
+
+    @Test
+    @DisplayName("적재에 실패한 사용자는 다음 실행에서 다시 처리하도록 due 를 옮기지 않음")
+    void sendDeadlineNotifications_KeepsDueOnFailure() {
+        // Given
+        givenLockAcquired();
+        givenSingleDueUser();
+        given(campaignRepository.findNotifiableByUserDueRange(any(), anyLong(), any(), anyLong(),
+                any(LocalDate.class)))
+                .willReturn(List.of(campaign(201L, testUser)));
+        given(outboxService.enqueue(anyList())).willThrow(new IllegalStateException("db down"));
+
+        // When
+        notificationBatch.sendDeadlineNotifications();
+
+        // Then
+        verify(userService, never()).advanceNotificationDueAt(anyList(), any());
+        assertThat(meterRegistry.counter("notification.batch.failures").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("due 가 비어 있는 사용자를 먼저 채운 뒤 조회")
+    void sendDeadlineNotifications_SchedulesMissingDueFirst() {
+        // Given (chunk size = 2 → 2, 2, 1 명 채우고 종료)
+        givenLockAcquired();
+        given(userService.scheduleMissingNotifications(NOW, 2)).willReturn(2, 2, 1);
+        given(userService.findDueNotificationTargets(any(), any(), anyLong(), anyInt()))
                 .willReturn(Collections.emptyList());
 
         // When
         notificationBatch.sendDeadlineNotifications();
 
         // Then
-        verify(campaignRepository, never()).findByUsersAndDeadlineBefore(anyList(), any());
-        verify(emailService, never()).sendEmail(anyString(), anyString(), anyString());
+        var inOrder = inOrder(userService);
+        inOrder.verify(userService, times(3)).scheduleMissingNotifications(NOW, 2);
+        inOrder.verify(userService).findDueNotificationTargets(eq(NOW), any(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 잠금을 잡고 있으면 실행하지 않음")
+    void sendDeadlineNotifications_LockHeldElsewhere() {
+        // Given
+        given(distributedLock.runExclusively(eq(CampaignNotificationBatch.LOCK_NAME), any(), any(), any()))
+                .willReturn(false);
+
+        // When
+        notificationBatch.sendDeadlineNotifications();
+
+        // Then
+        verifyNoInteractions(userService, campaignRepository, outboxService);
+    }
+
+    @Test
+    @DisplayName("실행 중 잠금을 잃으면 남은 사용자 페이지는 처리하지 않음")
+    void sendDeadlineNotifications_StopsWhenLockLost() {
+        // Given: 첫 페이지 처리 후 TTL 초과로 잠금을 잃는다
+        given(distributedLock.runExclusively(eq(CampaignNotificationBatch.LOCK_NAME), any(), any(), any()))
+                .willAnswer(invocation -> {
+                    invocation.<Consumer<LockLease>>getArgument(3).accept(lease);
+                    return true;
+                });
+        given(distributedLock.isHeld(lease)).willReturn(true, false);
+        given(userService.findDueNotificationTargets(eq(NOW), any(), eq(0L), anyInt()))
+                .willReturn(List.of(target(1L), target(2L)));
+        given(campaignRepository.findNotifiableByUserDueRange(any(), anyLong(), any(), anyLong(),
+                any(LocalDate.class)))
+                .willReturn(List.of(campaign(201L, testUser)));
+        given(outboxService.enqueue(anyList())).willReturn(1);
+
+        // When
+        notificationBatch.sendDeadlineNotifications();
+
+        // Then
+        verify(userService, times(1)).findDueNotificationTargets(any(), any(), anyLong(), anyInt());
+        verify(outboxService, times(1)).enqueue(anyList());
+    }
+
+    private void givenSingleDueUser() {
+        given(userService.findDueNotificationTargets(eq(NOW), any(), eq(0L), anyInt()))
+                .willReturn(List.of(target(1L)));
+        given(userService.findDueNotificationTargets(eq(NOW), any(), eq(1L), anyInt()))
+                .willReturn(Collections.emptyList());
+    }
+
+    // 서울 09:00 알림 사용자
+    private NotificationTarget target(Long userId) {
+        return new NotificationTarget(userId, "Asia/Seoul", 9, NOW);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<List<NotificationOutbox>> captureEnqueued(int times) {
+        ArgumentCaptor<List<NotificationOutbox>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxService, times(times)).enqueue(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private Campaign campaign(Long id, User user) {
+        return campaign(id, user, TODAY.plusDays(1));
+    }
+
+    private Campaign campaign(Long id, User user, LocalDate deadline) {
+        return Campaign.builder()
+                .id(id)
+                .user(user)
+                .storeName("Store" + id)
+                .platform(testPlatform)
+                .deadline(deadline)
+                .status(Status.PENDING)
+                .build();
     }
 }
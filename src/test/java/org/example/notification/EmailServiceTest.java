@@ -0,0 +1,276 @@
+package org.example.notification;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Address;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class EmailServiceTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Mock
+    private EmailDeadLetterRepository deadLetterRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EmailService emailService;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (emailService != null) {
+            emailService.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("큐에 넣은 메일을 배치로 모아 SMTP 서버로 모두 발송")
+    void sendEmail_DeliversAllInBatches() throws Exception {
+        // given
+        CountingMailSender mailSender = new CountingMailSender(0);
+        emailService = start(mailSender, 3, 10, 3);
+
+        // when
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 25; i++) {
+            futures.add(emailService.sendEmail("user" + i + "@test.com", "제목" + i, "본문" + i));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        // then
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertThat(received).hasSize(25);
+        assertThat(mailSender.calls.get()).isLessThan(25);
+        assertThat(meterRegistry.counter("email.sent").count()).isEqualTo(25);
+        assertThat(meterRegistry.timer("email.delivery.latency").count()).isEqualTo(25);
+        verifyNoInteractions(deadLetterRepository);
+    }
+
+    @Test
+    @DisplayName("일시적인 SMTP 오류는 백오프 후 재시도해 발송")
+    void sendEmail_RetriesTransientFailure() throws Exception {
+        // given
+        CountingMailSender mailSender = new CountingMailSender(2);
+        emailService = start(mailSender, 1, 10, 5);
+
+        // when
+        emailService.sendEmail("retry@test.com", "제목", "본문").get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(mailSender.calls.get()).isEqualTo(3);
+        assertThat(meterRegistry.counter("email.failures", "outcome", "retry").count()).isEqualTo(2);
+        verifyNoInteractions(deadLetterRepository);
+    }
+
+    @Test
+    @DisplayName("재시도를 모두 소진하면 dead letter 로 저장하고 future 는 예외로 완료")
+    void sendEmail_DeadLettersAfterMaxAttempts() {
+        // given
+        emailService = start(new CountingMailSender(Integer.MAX_VALUE), 1, 10, 3);
+
+        // when
+        CompletableFuture<Void> future = emailService.sendEmail("down@test.com", "제목", "본문");
+
+        // then
+        assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+        ArgumentCaptor<EmailDeadLetter> captor = ArgumentCaptor.forClass(EmailDeadLetter.class);
+        verify(deadLetterRepository).save(captor.capture());
+        assertThat(captor.getValue().getRecipient()).isEqualTo("down@test.com");
+        assertThat(captor.getValue().getAttempts()).isEqualTo(3);
+        assertThat(captor.getValue().getBody()).isEqualTo("본문");
+    }
+
+    @Test
+    @DisplayName("수신 주소 거부처럼 영구적인 오류는 재시도하지 않고 바로 dead letter 로 저장")
+    void sendEmail_PermanentFailureSkipsRetry() throws Exception {
+        // given
+        Address invalid = new InternetAddress("nobody@test.com");
+        CountingMailSender mailSender = new CountingMailSender(0) {
+            @Override
+            public void send(SimpleMailMessage... simpleMessages) {
+                calls.incrementAndGet();
+                throw new MailSendException(Map.of(simpleMessages[0],
+                        new SendFailedException("550 no such user", null, null, null, new Address[] { invalid })));
+            }
+        };
+        emailService = start(mailSender, 1, 10, 5);
+
+        // when
+        CompletableFuture<Void> future = emailService.sendEmail("nobody@test.com", "제목", "본문");
+
+        // then
+        assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+        assertThat(mailSender.calls.get()).isEqualTo(1);
+        ArgumentCaptor<EmailDeadLetter> captor = ArgumentCaptor.forClass(EmailDeadLetter.class);
+        verify(deadLetterRepository).save(captor.capture());
+        assertThat(captor.getValue().getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("발송 큐가 가득 차면 거절하고 dead letter 로 저장")
+    void sendEmail_RejectsWhenQueueIsFull() throws Exception {
+        // given: 워커 1개가 첫 메일 발송 중에 멈춰 있고, 용량 1인 큐는 두 번째 메일로 가득 찬다
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountingMailSender mailSender = new CountingMailSender(0) {
+            @Override
+            public void send(SimpleMailMessage... simpleMessages) {
+                sending.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.send(simpleMessages);
+            }
+        };
+        emailService = new EmailService(mailSender, deadLetterRepository, meterRegistry,
+                new EmailService.Settings(1, 1, 1, 3, Duration.ofMillis(10), Duration.ofMillis(50),
+                        Duration.ZERO));
+        emailService.start();
+        CompletableFuture<Void> first = emailService.sendEmail("first@test.com", "제목", "본문");
+        assertThat(sending.await(10, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> second = emailService.sendEmail("second@test.com", "제목", "본문");
+
+        // when
+        CompletableFuture<Void> rejected = emailService.sendEmail("full@test.com", "제목", "본문");
+
+        // then
+        assertThat(rejected).isCompletedExceptionally();
+        assertThat(meterRegistry.counter("email.failures", "outcome", "rejected").count()).isEqualTo(1);
+        ArgumentCaptor<EmailDeadLetter> captor = ArgumentCaptor.forClass(EmailDeadLetter.class);
+        verify(deadLetterRepository).save(captor.capture());
+        assertThat(captor.getValue().getRecipient()).isEqualTo("full@test.com");
+
+        release.countDown();
+        CompletableFuture.allOf(first, second).get(10, TimeUnit.SECONDS);
+        assertThat(greenMail.getReceivedMessages()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("보내기 직전 발송 조건이 거짓이면 보내지 않고 future 를 취소")
+    void sendEmail_SkipsWhenNoLongerNeeded() throws Exception {
+        // given
+        CountingMailSender mailSender = new CountingMailSender(0);
+        emailService = start(mailSender, 1, 10, 3);
+
+        // when
+        CompletableFuture<Void> skipped = emailService.sendEmail("skip@test.com", "제목", "본문", () -> false);
+        CompletableFuture<Void> sent = emailService.sendEmail("send@test.com", "제목", "본문", () -> true);
+        sent.get(10, TimeUnit.SECONDS);
+
+        // then
+        assertThatThrownBy(() -> skipped.get(10, TimeUnit.SECONDS)).isInstanceOf(CancellationException.class);
+        assertThat(greenMail.getReceivedMessages()).hasSize(1);
+        assertThat(greenMail.getReceivedMessages()[0].getAllRecipients()[0].toString()).isEqualTo("send@test.com");
+        assertThat(meterRegistry.counter("email.failures", "outcome", "skipped").count()).isEqualTo(1);
+        verifyNoInteractions(deadLetterRepository);
+    }
+
+    @Test
+    @DisplayName("종료 시 보내지 못한 메일은 dead letter 로 남기지 않고 future 를 취소")
+    void stop_CancelsUnsentEmailWithoutDeadLetter() throws Exception {
+        // given: 첫 시도가 실패해 긴 백오프로 재시도 대기 중인 메일
+        emailService = new EmailService(new CountingMailSender(Integer.MAX_VALUE), deadLetterRepository,
+                meterRegistry, new EmailService.Settings(100, 1, 10, 5, Duration.ofMinutes(1),
+                        Duration.ofMinutes(5), Duration.ofSeconds(1)));
+        emailService.start();
+        CompletableFuture<Void> waiting = emailService.sendEmail("retry@test.com", "제목", "본문");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (meterRegistry.counter("email.failures", "outcome", "retry").count() < 1
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+
+        // when
+        emailService.stop();
+        CompletableFuture<Void> afterStop = emailService.sendEmail("late@test.com", "제목", "본문");
+
+        // then
+        assertThat(waiting).isCancelled();
+        assertThat(afterStop).isCancelled();
+        assertThat(meterRegistry.counter("email.failures", "outcome", "abandoned").count()).isEqualTo(2);
+        assertThat(meterRegistry.counter("email.failures", "outcome", "dead_letter").count()).isZero();
+        verifyNoInteractions(deadLetterRepository);
+    }
+
+    @Test
+    @DisplayName("백오프는 시도마다 두 배로 늘어나고 상한을 넘지 않는다")
+    void backoffMillis_GrowsExponentiallyWithCap() {
+        // given
+        emailService = new EmailService(new CountingMailSender(0), deadLetterRepository, meterRegistry,
+                new EmailService.Settings(10, 1, 10, 5, Duration.ofMillis(100), Duration.ofMillis(1000),
+                        Duration.ZERO));
+
+        // then (0~20% jitter)
+        assertThat(emailService.backoffMillis(1)).isBetween(100L, 120L);
+        assertThat(emailService.backoffMillis(2)).isBetween(200L, 240L);
+        assertThat(emailService.backoffMillis(3)).isBetween(400L, 480L);
+        assertThat(emailService.backoffMillis(10)).isBetween(1000L, 1200L);
+        assertThat(emailService.backoffMillis(100)).isBetween(1000L, 1200L);
+    }
+
+    private EmailService start(JavaMailSender mailSender, int workers, int batchSize, int maxAttempts) {
+        EmailService service = new EmailService(mailSender, deadLetterRepository, meterRegistry,
+                new EmailService.Settings(100, workers, batchSize, maxAttempts, Duration.ofMillis(10),
+                        Duration.ofMillis(50), Duration.ofSeconds(1)));
+        service.start();
+        return service;
+    }
+
+    /**
+     * GreenMail 로 실제 발송하되, 처음 failures 번의 배치는 연결 오류로 실패시킨다.
+     */
+    private static class CountingMailSender extends JavaMailSenderImpl {
+
+        final AtomicInteger calls = new AtomicInteger();
+        private final int failures;
+
+        CountingMailSender(int failures) {
+            this.failures = failures;
+            setHost(ServerSetupTest.SMTP.getBindAddress());
+            setPort(ServerSetupTest.SMTP.getPort());
+        }
+
+        @Override
+        public void send(SimpleMailMessage... simpleMessages) {
+            if (calls.incrementAndGet() <= failures) {
+                throw new MailSendException("일시적인 연결 오류");
+            }
+            super.send(simpleMessages);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package org.example.notification;
+
+import org.example.campaign.Campaign;
+import org.example.campaign.Status;
+import org.example.platform.Platform;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NotificationEmailRendererTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 10);
+
+    private final NotificationEmailRenderer renderer = new NotificationEmailRenderer();
+    private final Platform platform = Platform.builder().platformId(1L).name("Naver").build();
+
+    @Test
+    @DisplayName("text 본문은 기존 String.format 본문과 글자 단위로 같다")
+    void renderText_MatchesPreviousFormat() {
+        // given
+        List<Campaign> campaigns = List.of(
+                campaign("Overdue Store", TODAY.minusDays(2), Status.PENDING),
+                campaign("D-Day Store", TODAY, Status.RESERVED),
+                campaign("Soon Store", TODAY.plusDays(3), Status.VISITED));
+
+        // when
+        String body = renderer.renderText("Tester", campaigns, TODAY);
+
+        // then
+        assertThat(body).isEqualTo("""
+                안녕하세요, Tester님!
+
+                마감이 임박하거나 지연된 캠페인이 있습니다. 아래 내용을 확인해 주세요:
+
+                [지연됨!!] Overdue Store (플랫폼: Naver)
+                - 마감일: 2024-03-08
+                - 현재 상태: PENDING
+
+                [오늘 마감] D-Day Store (플랫폼: Naver)
+                - 마감일: 2024-03-10
+                - 현재 상태: RESERVED
+
+                [D-3] Soon Store (플랫폼: Naver)
+                - 마감일: 2024-03-13
+                - 현재 상태: VISITED
+
+                프로젝트 관리를 위해 앱에서 확인 부탁드립니다.
+                감사합니다.""");
+    }
+
+    @Test
+    @DisplayName("닉네임이 없으면 '회원' 으로 부른다")
+    void renderText_DefaultNickname() {
+        String body = renderer.renderText(null, List.of(campaign("Store", TODAY, Status.PENDING)), TODAY);
+
+        assertThat(body).startsWith("안녕하세요, 회원님!");
+    }
+
+    @Test
+    @DisplayName("HTML 본문은 사용자 입력 값을 escape 한다")
+    void renderHtml_EscapesValues() {
+        // when
+        String body = renderer.renderHtml("<b>Tom & Jerry</b>",
+                List.of(campaign("\"Fish\" & 'Chips' <Store>", TODAY.plusDays(1), Status.PENDING)), TODAY);
+
+        // then
+        assertThat(body).contains("안녕하세요, &lt;b&gt;Tom &amp; Jerry&lt;/b&gt;님!");
+        assertThat(body).contains("<li><strong>[D-1] &quot;Fish&quot; &amp; &#39;Chips&#39; &lt;Store&gt;</strong>");
+        assertThat(body).contains("- 마감일: 2024-03-11");
+        assertThat(body).startsWith("<html>").endsWith("</html>");
+    }
+
+    @Test
+    @DisplayName("버퍼를 재사용해도 이전 렌더링 내용이 섞이지 않는다")
+    void render_ReusedBufferDoesNotLeak() {
+        // given
+        List<Campaign> many = IntStream.range(0, 50)
+                .mapToObj(i -> campaign("Store" + i, TODAY, Status.PENDING))
+                .toList();
+        renderer.renderText("Long", many, TODAY);
+
+        // when
+        String body = renderer.renderText("Short", List.of(campaign("Only", TODAY, Status.DONE)), TODAY);
+
+        // then
+        assertThat(body).contains("Only").doesNotContain("Store49");
+        assertThat(body).endsWith("감사합니다.");
+    }
+
+    @Test
+    @DisplayName("마감 3일을 넘는 캠페인도 D-n 라벨을 만든다")
+    void label() {
+        assertThat(NotificationEmailRenderer.label(-1)).isEqualTo("[지연됨!!]");
+        assertThat(NotificationEmailRenderer.label(0)).isEqualTo("[오늘 마감]");
+        assertThat(NotificationEmailRenderer.label(3)).isEqualTo("[D-3]");
+        assertThat(NotificationEmailRenderer.label(10)).isEqualTo("[D-10]");
+    }
+
+    @Test
+    @DisplayName("템플릿에 선언하지 않은 자리표시자가 있으면 컴파일 시 실패한다")
+    void compile_RejectsUnknownPlaceholder() {
+        assertThatThrownBy(() -> CompiledTemplate.compile("Hello {name} {unknown}", CompiledTemplate.PLAIN, "name"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("{unknown}");
+    }
+
+    private Campaign campaign(String storeName, LocalDate deadline, Status status) {
+        return Campaign.builder()
+                .storeName(storeName)
+                .platform(platform)
+                .deadline(deadline)
+                .status(status)
+                .build();
+    }
+}
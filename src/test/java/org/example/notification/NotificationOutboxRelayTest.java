@@ -0,0 +1,176 @@
+package org.example.notification;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxRelayTest {
+
+    private static final Duration LEASE = Duration.ofMinutes(10);
+
+    @Mock
+    private NotificationOutboxService outboxService;
+
+    @Mock
+    private EmailService emailService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NotificationOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new NotificationOutboxRelay(outboxService, emailService, 2, 10, LEASE, meterRegistry);
+        lenient().when(emailService.remainingCapacity()).thenReturn(100);
+    }
+
+    @Test
+    @DisplayName("가져간 행을 발송하고 결과에 따라 SENT / FAILED 로 표시")
+    void relay_MarksDeliveryOutcome() {
+        // given
+        NotificationOutbox ok = row(1L, "ok@test.com");
+        NotificationOutbox bad = row(2L, "bad@test.com");
+        given(outboxService.claim(2, LEASE)).willReturn(List.of(ok, bad), Collections.emptyList());
+        given(emailService.sendEmail(eq("ok@test.com"), anyString(), anyString(), any()))
+                .willReturn(CompletableFuture.completedFuture(null));
+        given(emailService.sendEmail(eq("bad@test.com"), anyString(), anyString(), any()))
+                .willReturn(CompletableFuture.failedFuture(new MailSendException("550 no such user")));
+
+        // when
+        relay.relay();
+
+        // then
+        verify(outboxService).markSent(1L);
+        verify(outboxService).markFailed(2L, "550 no such user");
+        assertThat(meterRegistry.counter("notification.outbox.sent").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("notification.outbox.failed").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("한 번에 가져갈 수 있는 최대 건수에서 멈춘다")
+    void relay_StopsAtMaxPerRun() {
+        // given: 항상 batch-size 만큼 가져간다
+        given(outboxService.claim(2, LEASE)).willAnswer(invocation -> List.of(row(1L, "a@test.com"),
+                row(2L, "b@test.com")));
+        given(emailService.sendEmail(anyString(), anyString(), anyString(), any()))
+                .willReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        relay.relay();
+
+        // then (max-per-run 10 / batch-size 2)
+        verify(outboxService, times(5)).claim(2, LEASE);
+    }
+
+    @Test
+    @DisplayName("EmailService 큐에 남은 자리만큼만 가져가고, 자리가 없으면 멈춘다")
+    void relay_ClaimsUpToFreeQueueCapacity() {
+        // given: 한 자리 남았다가 가득 찬다
+        given(emailService.remainingCapacity()).willReturn(1, 0);
+        given(outboxService.claim(1, LEASE)).willReturn(List.of(row(1L, "a@test.com")));
+        given(emailService.sendEmail(anyString(), anyString(), anyString(), any()))
+                .willReturn(new CompletableFuture<>());
+
+        // when
+        relay.relay();
+
+        // then
+        verify(outboxService, times(1)).claim(1, LEASE);
+        verify(outboxService, never()).claim(eq(2), any());
+    }
+
+    @Test
+    @DisplayName("보내기 직전에 행이 아직 자기 claim 인지 확인하고, 건너뛴 행은 상태를 바꾸지 않는다")
+    void relay_SkippedDeliveryLeavesRowUntouched() {
+        // given: 큐에서 기다리는 사이 다른 relay 가 다시 가져갔다
+        NotificationOutbox reclaimed = row(1L, "a@test.com");
+        given(outboxService.claim(2, LEASE)).willReturn(List.of(reclaimed));
+        CompletableFuture<Void> cancelled = new CompletableFuture<>();
+        cancelled.cancel(false);
+        ArgumentCaptor<BooleanSupplier> shouldSend = ArgumentCaptor.forClass(BooleanSupplier.class);
+        given(emailService.sendEmail(anyString(), anyString(), anyString(), shouldSend.capture()))
+                .willReturn(cancelled);
+        given(outboxService.isStillClaimed(reclaimed.getIdempotencyKey(), reclaimed.getAttempts()))
+                .willReturn(false);
+
+        // when
+        relay.relay();
+
+        // then
+        assertThat(shouldSend.getValue().getAsBoolean()).isFalse();
+        verify(outboxService, never()).markSent(anyLong());
+        verify(outboxService, never()).markFailed(anyLong(), any());
+        assertThat(meterRegistry.counter("notification.outbox.sent").count()).isZero();
+        assertThat(meterRegistry.counter("notification.outbox.failed").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("EmailService 종료로 보내지 못한 행은 FAILED 로 바꾸지 않고 SENDING 으로 남겨 다시 가져가게 한다")
+    void relay_LeavesRowsAbandonedOnShutdownClaimable() {
+        // given
+        CompletableFuture<Void> queued = new CompletableFuture<>();
+        given(outboxService.claim(2, LEASE)).willReturn(List.of(row(1L, "a@test.com")));
+        given(emailService.sendEmail(anyString(), anyString(), anyString(), any())).willReturn(queued);
+        relay.relay();
+
+        // when: 종료 시 큐에 남은 메일은 취소된다
+        queued.cancel(false);
+
+        // then
+        verify(outboxService, never()).markSent(anyLong());
+        verify(outboxService, never()).markFailed(anyLong(), any());
+        assertThat(meterRegistry.counter("notification.outbox.failed").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("발송을 기다리는 행은 다음 주기에 lease 를 연장하고, 끝난 행은 연장하지 않는다")
+    void relay_RenewsLeaseOfInFlightRows() {
+        // given: lease 0 이면 매 주기 연장 대상이다
+        relay = new NotificationOutboxRelay(outboxService, emailService, 2, 10, Duration.ZERO, meterRegistry);
+        CompletableFuture<Void> pending = new CompletableFuture<>();
+        given(outboxService.claim(2, Duration.ZERO)).willReturn(
+                List.of(row(1L, "slow@test.com"), row(2L, "fast@test.com")), Collections.emptyList());
+        given(emailService.sendEmail(eq("slow@test.com"), anyString(), anyString(), any())).willReturn(pending);
+        given(emailService.sendEmail(eq("fast@test.com"), anyString(), anyString(), any()))
+                .willReturn(CompletableFuture.completedFuture(null));
+        relay.relay();
+
+        // when
+        relay.relay();
+
+        // then
+        verify(outboxService).renewLease(List.of(1L), Duration.ZERO);
+
+        // 발송이 끝나면 더 연장하지 않는다
+        pending.complete(null);
+        relay.relay();
+        verify(outboxService, times(1)).renewLease(any(), any());
+    }
+
+    private NotificationOutbox row(Long id, String recipient) {
+        NotificationOutbox row = NotificationOutbox.of(id, LocalDate.of(2024, 3, 1), List.of(id), recipient,
+                CampaignNotificationBatch.EMAIL_SUBJECT, "본문");
+        ReflectionTestUtils.setField(row, "id", id);
+        return row;
+    }
+}
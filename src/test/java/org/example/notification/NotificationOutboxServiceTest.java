@@ -0,0 +1,178 @@
+package org.example.notification;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(NotificationOutboxService.class)
+class NotificationOutboxServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 1);
+    private static final Duration LEASE = Duration.ofMinutes(10);
+
+    @Autowired
+    private NotificationOutboxService outboxService;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Test
+    @DisplayName("같은 사용자/날짜/캠페인 묶음은 한 번만 적재된다")
+    void enqueue_SkipsExistingKeys() {
+        // given
+        int first = outboxService.enqueue(List.of(message(1L, List.of(10L, 11L)), message(2L, List.of(20L))));
+        em.flush();
+
+        // when: 캠페인 순서만 다른 재실행 + 새 사용자
+        int second = outboxService.enqueue(List.of(message(1L, List.of(11L, 10L)), message(3L, List.of(30L))));
+        em.flush();
+
+        // then
+        assertThat(first).isEqualTo(2);
+        assertThat(second).isEqualTo(1);
+        assertThat(outboxRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("캠페인 묶음이 달라지면 같은 날이라도 새로 적재된다")
+    void enqueue_NewCampaignSetIsNewKey() {
+        // given
+        outboxService.enqueue(List.of(message(1L, List.of(10L))));
+        em.flush();
+
+        // when
+        int enqueued = outboxService.enqueue(List.of(message(1L, List.of(10L, 12L))));
+
+        // then
+        assertThat(enqueued).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("가져간 행은 lease 동안 다시 가져가지 않는다")
+    void claim_LeasesRows() {
+        // given
+        outboxService.enqueue(List.of(message(1L, List.of(10L)), message(2L, List.of(20L)),
+                message(3L, List.of(30L))));
+        em.flush();
+
+        // when
+        List<NotificationOutbox> firstClaim = outboxService.claim(2, LEASE);
+        em.flush();
+        List<NotificationOutbox> secondClaim = outboxService.claim(2, LEASE);
+        em.flush();
+        List<NotificationOutbox> thirdClaim = outboxService.claim(2, LEASE);
+
+        // then
+        assertThat(firstClaim).extracting(NotificationOutbox::getUserId).containsExactly(1L, 2L);
+        assertThat(firstClaim).allSatisfy(row -> {
+            assertThat(row.getStatus()).isEqualTo(NotificationOutboxStatus.SENDING);
+            assertThat(row.getAttempts()).isEqualTo(1);
+            assertThat(row.getLeaseUntil()).isNotNull();
+        });
+        assertThat(secondClaim).extracting(NotificationOutbox::getUserId).containsExactly(3L);
+        assertThat(thirdClaim).isEmpty();
+    }
+
+    @Test
+    @DisplayName("lease 가 만료된 SENDING 행은 다시 가져간다 (relay 가 발송 도중 죽은 경우)")
+    void claim_ReclaimsExpiredLease() {
+        // given
+        outboxService.enqueue(List.of(message(1L, List.of(10L))));
+        em.flush();
+        outboxService.claim(10, Duration.ofSeconds(-1));
+        em.flush();
+
+        // when
+        List<NotificationOutbox> reclaimed = outboxService.claim(10, LEASE);
+
+        // then
+        assertThat(reclaimed).hasSize(1);
+        assertThat(reclaimed.get(0).getAttempts()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("발송 결과에 따라 SENT / FAILED 로 바뀌고 더는 가져가지 않는다")
+    void markSentAndFailed() {
+        // given
+        outboxService.enqueue(List.of(message(1L, List.of(10L)), message(2L, List.of(20L))));
+        em.flush();
+        List<NotificationOutbox> claimed = outboxService.claim(10, Duration.ofSeconds(-1));
+        em.flush();
+
+        // when
+        outboxService.markSent(claimed.get(0).getId());
+        outboxService.markFailed(claimed.get(1).getId(), "550 no such user");
+        em.flush();
+        em.clear();
+
+        // then
+        NotificationOutbox sent = outboxRepository.findById(claimed.get(0).getId()).orElseThrow();
+        NotificationOutbox failed = outboxRepository.findById(claimed.get(1).getId()).orElseThrow();
+        assertThat(sent.getStatus()).isEqualTo(NotificationOutboxStatus.SENT);
+        assertThat(sent.getSentAt()).isNotNull();
+        assertThat(failed.getStatus()).isEqualTo(NotificationOutboxStatus.FAILED);
+        assertThat(failed.getLastError()).isEqualTo("550 no such user");
+        assertThat(outboxService.claim(10, LEASE)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("lease 가 만료되어 다시 가져간 행은 처음 claim 기준으로는 더 이상 자기 것이 아니다")
+    void isStillClaimed_FalseAfterReclaim() {
+        // given
+        outboxService.enqueue(List.of(message(1L, List.of(10L))));
+        em.flush();
+        NotificationOutbox first = outboxService.claim(10, Duration.ofSeconds(-1)).get(0);
+        em.flush();
+        String key = first.getIdempotencyKey();
+        int firstAttempts = first.getAttempts();
+        assertThat(outboxService.isStillClaimed(key, firstAttempts)).isTrue();
+
+        // when
+        NotificationOutbox second = outboxService.claim(10, LEASE).get(0);
+        em.flush();
+
+        // then
+        assertThat(outboxService.isStillClaimed(key, firstAttempts)).isFalse();
+        assertThat(outboxService.isStillClaimed(key, second.getAttempts())).isTrue();
+        outboxService.markSent(second.getId());
+        em.flush();
+        assertThat(outboxService.isStillClaimed(key, second.getAttempts())).isFalse();
+    }
+
+    @Test
+    @DisplayName("lease 를 연장한 행은 만료 시각이 지나도 다시 가져가지 않는다")
+    void renewLease_ExtendsLease() {
+        // given: 이미 만료된 lease
+        outboxService.enqueue(List.of(message(1L, List.of(10L))));
+        em.flush();
+        Long id = outboxService.claim(10, Duration.ofSeconds(-1)).get(0).getId();
+        em.flush();
+
+        // when
+        int renewed = outboxService.renewLease(List.of(id), LEASE);
+
+        // then
+        assertThat(renewed).isEqualTo(1);
+        assertThat(outboxService.claim(10, LEASE)).isEmpty();
+    }
+
+    private NotificationOutbox message(Long userId, List<Long> campaignIds) {
+        return NotificationOutbox.of(userId, TODAY, campaignIds, "user" + userId + "@test.com",
+                CampaignNotificationBatch.EMAIL_SUBJECT, "본문");
+    }
+}
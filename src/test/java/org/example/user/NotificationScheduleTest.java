@@ -0,0 +1,72 @@
+package org.example.user;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NotificationScheduleTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+    private static final ZoneId NEW_YORK = ZoneId.of("America/New_York");
+
+    @Test
+    @DisplayName("현지 알림 시각 전이면 오늘, 지났거나 같으면 다음 날 같은 시각")
+    void nextDueAt_TodayOrTomorrow() {
+        // given: 서울 08:30, 09:00
+        Instant before = Instant.parse("2024-03-09T23:30:00Z");
+        Instant atDue = Instant.parse("2024-03-10T00:00:00Z");
+
+        // when & then
+        assertThat(NotificationSchedule.nextDueAt(SEOUL, 9, before)).isEqualTo(atDue);
+        assertThat(NotificationSchedule.nextDueAt(SEOUL, 9, atDue)).isEqualTo(Instant.parse("2024-03-11T00:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("서머타임이 시작되는 날에도 현지 시각은 그대로 유지된다")
+    void nextDueAt_DaylightSaving() {
+        // given: 2024-03-10 뉴욕 서머타임 시작 (UTC-5 → UTC-4)
+        Instant saturdayNine = Instant.parse("2024-03-09T14:00:00Z");
+
+        // when
+        Instant sunday = NotificationSchedule.nextDueAt(NEW_YORK, 9, saturdayNine);
+        Instant gapDay = NotificationSchedule.nextDueAt(NEW_YORK, 2, Instant.parse("2024-03-10T05:00:00Z"));
+
+        // then
+        assertThat(sunday).isEqualTo(Instant.parse("2024-03-10T13:00:00Z"));
+        // 02:00 이 없는 날은 03:00(EDT) 로 밀린다
+        assertThat(gapDay).isEqualTo(Instant.parse("2024-03-10T07:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("알림을 끄면 due 가 비고, 다시 켜면 설정한 시간대로 잡힌다")
+    void rescheduleNotification() {
+        // given
+        User user = User.builder().notificationHour(7).timeZone("America/New_York").build();
+        Instant now = Instant.parse("2024-06-01T00:00:00Z");
+
+        // when
+        user.setNotificationEnabled(false);
+        user.rescheduleNotification(now);
+        Instant disabled = user.getNotificationDueAt();
+        user.setNotificationEnabled(true);
+        user.rescheduleNotification(now);
+
+        // then: 뉴욕 5/31 20:00 → 6/1 07:00 EDT
+        assertThat(disabled).isNull();
+        assertThat(user.getNotificationDueAt()).isEqualTo(Instant.parse("2024-06-01T11:00:00Z"));
+    }
+
+    @Test
+    @DisplayName("잘못된 시간대나 알림 시각은 거부한다")
+    void rejectsInvalidSettings() {
+        assertThatThrownBy(() -> NotificationSchedule.zoneOf("Mars/Olympus"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> NotificationSchedule.nextDueAt(SEOUL, 24, Instant.EPOCH))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
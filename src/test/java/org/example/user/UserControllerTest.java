@@ -41,20 +41,21 @@ class UserControllerTest {
     @Test
     @DisplayName("알림 설정 조회 성공")
     void getNotificationSettings_Success() throws Exception {
-        NotificationSettingsDto settings = new NotificationSettingsDto(true, 10);
+        NotificationSettingsDto settings = new NotificationSettingsDto(true, 10, "Asia/Seoul");
         given(userService.getNotificationSettings(userId)).willReturn(settings);
 
         mockMvc.perform(get("/users/settings/notification")
                 .with(jwt().jwt(jwt -> jwt.subject(userId.toString()))))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.notificationEnabled").value(true))
-                .andExpect(jsonPath("$.notificationHour").value(10));
+                .andExpect(jsonPath("$.notificationHour").value(10))
+                .andExpect(jsonPath("$.timeZone").value("Asia/Seoul"));
     }
 
     @Test
     @DisplayName("알림 설정 수정 성공")
     void updateNotificationSettings_Success() throws Exception {
-        NotificationSettingsDto settings = new NotificationSettingsDto(false, 21);
+        NotificationSettingsDto settings = new NotificationSettingsDto(false, 21, "America/New_York");
 
         mockMvc.perform(patch("/users/settings/notification")
                 .with(jwt().jwt(jwt -> jwt.subject(userId.toString())))
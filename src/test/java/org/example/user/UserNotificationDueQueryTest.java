@@ -0,0 +1,154 @@
+package org.example.user;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(UserService.class)
+class UserNotificationDueQueryTest {
+
+    // 2024-03-10 09:00 KST
+    private static final Instant NOW = Instant.parse("2024-03-10T00:00:00Z");
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private UserService userService;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @Test
+    @DisplayName("due 가 지난 사용자만 (due, id) 순서의 키셋 페이지로 읽는다")
+    void findDueNotificationTargets_KeysetPages() {
+        // given
+        User seoul = persist("seoul@test.com", "Asia/Seoul", NOW);
+        User earlier = persist("earlier@test.com", "Asia/Tokyo", NOW.minusSeconds(3600));
+        User seoul2 = persist("seoul2@test.com", "Asia/Seoul", NOW);
+        persist("later@test.com", "America/New_York", NOW.plusSeconds(60));
+        persist("disabled@test.com", "Asia/Seoul", null);
+        em.flush();
+        em.clear();
+
+        // when
+        List<NotificationTarget> first = userRepository.findDueNotificationTargets(NOW, Instant.EPOCH, 0L,
+                PageRequest.of(0, 2));
+        NotificationTarget last = first.get(first.size() - 1);
+        List<NotificationTarget> second = userRepository.findDueNotificationTargets(NOW, last.notificationDueAt(),
+                last.id(), PageRequest.of(0, 2));
+
+        // then
+        assertThat(first).extracting(NotificationTarget::id).containsExactly(earlier.getId(), seoul.getId());
+        assertThat(first.get(0).timeZone()).isEqualTo("Asia/Tokyo");
+        assertThat(second).extracting(NotificationTarget::id).containsExactly(seoul2.getId());
+    }
+
+    @Test
+    @DisplayName("due 를 옮길 때 그 사이 설정을 바꿔 cutoff 뒤로 간 사용자는 건드리지 않는다")
+    void advanceNotificationDueAt_SkipsRescheduled() {
+        // given
+        User due = persist("due@test.com", "Asia/Seoul", NOW);
+        User changed = persist("changed@test.com", "Asia/Seoul", NOW.plusSeconds(7200));
+        em.flush();
+        Instant next = Instant.parse("2024-03-11T00:00:00Z");
+
+        // when
+        int advanced = userRepository.advanceNotificationDueAt(List.of(due.getId(), changed.getId()), NOW, next);
+
+        // then
+        assertThat(advanced).isEqualTo(1);
+        assertThat(userRepository.findById(due.getId()).orElseThrow().getNotificationDueAt()).isEqualTo(next);
+        assertThat(userRepository.findById(changed.getId()).orElseThrow().getNotificationDueAt())
+                .isEqualTo(NOW.plusSeconds(7200));
+    }
+
+    @Test
+    @DisplayName("알림이 켜진 채 due 가 비어 있는 사용자만 채움 대상으로 읽는다")
+    void findMissingDue() {
+        // given: @PrePersist 로 채워지지 않도록 저장 후 비운다
+        User missing = persist("missing@test.com", "Asia/Seoul", NOW);
+        missing.setNotificationDueAt(null);
+        User disabled = persist("off@test.com", "Asia/Seoul", null);
+        em.flush();
+
+        // when
+        List<User> users = userRepository.findByNotificationEnabledTrueAndNotificationDueAtIsNull(
+                PageRequest.of(0, 10));
+
+        // then
+        assertThat(users).extracting(User::getId).containsExactly(missing.getId());
+        assertThat(disabled.getNotificationDueAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("알림 시각 없이 저장된 사용자는 현지 9시로 채우고, 설정이 잘못된 사용자는 건너뛴다")
+    void scheduleMissingNotifications_DefaultsHourAndSkipsInvalid() {
+        // given: 알림 시각 컬럼이 비어 있는 기존 가입자, 잘못된 시간대가 저장된 가입자
+        User noHour = persist("nohour@test.com", "Asia/Seoul", NOW);
+        noHour.setNotificationHour(null);
+        noHour.setNotificationDueAt(null);
+        User invalid = persist("invalid@test.com", "Asia/Seoul", NOW);
+        invalid.setTimeZone("Mars/Base");
+        invalid.setNotificationDueAt(null);
+        em.flush();
+
+        // when
+        int scheduled = userService.scheduleMissingNotifications(NOW, 10);
+        em.flush();
+        em.clear();
+
+        // then: 2024-03-10 09:00 KST 와 같으면 다음 날 09:00 KST
+        assertThat(scheduled).isEqualTo(1);
+        assertThat(userRepository.findById(noHour.getId()).orElseThrow().getNotificationDueAt())
+                .isEqualTo(Instant.parse("2024-03-11T00:00:00Z"));
+        assertThat(userRepository.findById(invalid.getId()).orElseThrow().getNotificationDueAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("알림 시각 없이 설정을 저장하면 기본 9시로 채운다")
+    void updateNotificationSettings_DefaultsMissingHour() {
+        // given
+        User user = persist("settings@test.com", "Asia/Seoul", NOW);
+        user.setNotificationHour(null);
+        em.flush();
+
+        // when
+        userService.updateNotificationSettings(user.getId(), new NotificationSettingsDto(true, null, null));
+        em.flush();
+        em.clear();
+
+        // then
+        User saved = userRepository.findById(user.getId()).orElseThrow();
+        assertThat(saved.getNotificationHour()).isEqualTo(NotificationSchedule.DEFAULT_HOUR);
+        assertThat(saved.getNotificationDueAt()).isNotNull();
+    }
+
+    // dueAt 이 null 이면 알림을 끈 사용자로 저장한다
+    private User persist(String email, String timeZone, Instant dueAt) {
+        return em.persist(User.builder()
+                .email(email)
+                .password("pw")
+                .timeZone(timeZone)
+                .notificationEnabled(dueAt != null)
+                .notificationDueAt(dueAt)
+                .build());
+    }
+}